@@ -0,0 +1,296 @@
+package game.abstracts;
+
+import game.interfaces.Board;
+import game.interfaces.Piece;
+import java.util.Arrays;
+
+/**
+ * Abstract class used to provide a primitive-backed {@code Board} to {@code Game}s whose boards
+ * fit in 64 positions. Every kind of {@code Piece} has its own bit plane, a {@code long} with bit
+ * {@code i} set if that {@code Piece} is at index {@code i}, and the occupied positions are kept in
+ * one more {@code long}. Indices run row by row: index {@code row * width + column}.
+ * <p>
+ * Next to the {@code Board} methods, helpers are provided to shift whole planes towards any
+ * direction without wrapping around the edges, to find runs of {@code Piece}s along rows, columns
+ * and diagonals, and to count {@code Piece}s, so that {@code Game}s can work on entire planes
+ * instead of single positions. Copies share the immutable masks of the geometry and only copy
+ * the planes.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see Board
+ * @see AbstractBoard
+ */
+public abstract class AbstractBitBoard<T extends Enum<T> & Piece> implements Board<T> {
+    /**
+     * The most positions a {@code AbstractBitBoard} can have, one per bit of a {@code long}.
+     */
+    public static final int MAX_POSITIONS = Long.SIZE;
+
+    protected final int width;
+    protected final int height;
+    protected final int totalPositions;
+    private final T empty;
+    private final T[] pieces;
+    private final long boardMask;
+    private final long[] columnMasks;
+    private final long[] westColumns;
+    private final long[] eastColumns;
+    private final long[] planes;
+    private long occupied;
+
+    /**
+     * Constructs a new, empty, {@code AbstractBitBoard} of the provided dimensions.
+     * @param width The number of columns of this {@code AbstractBitBoard}
+     * @param height The number of rows of this {@code AbstractBitBoard}
+     * @param empty The {@code Piece} that marks an empty position; it has no plane
+     * @throws IllegalArgumentException Thrown if the dimensions are not positive or if there are
+     *          more than {@link #MAX_POSITIONS} positions
+     */
+    protected AbstractBitBoard(int width, int height, T empty) {
+        if (width < 1 || height < 1 || width * height > MAX_POSITIONS) {
+            throw new IllegalArgumentException("Cannot create a " + width + "x" + height +
+                                                       " bitboard");
+        }
+        this.width = width;
+        this.height = height;
+        this.totalPositions = width * height;
+        this.empty = empty;
+        pieces = empty.getDeclaringClass().getEnumConstants();
+        planes = new long[pieces.length];
+        boardMask = -1L >>> (MAX_POSITIONS - totalPositions);
+        columnMasks = new long[width];
+        for (int index = 0; index < totalPositions; index++) {
+            columnMasks[index % width] |= 1L << index;
+        }
+        westColumns = new long[width + 1];
+        eastColumns = new long[width + 1];
+        for (int count = 1; count <= width; count++) {
+            westColumns[count] = westColumns[count - 1] | columnMasks[count - 1];
+            eastColumns[count] = eastColumns[count - 1] | columnMasks[width - count];
+        }
+    }
+
+    /**
+     * Constructs a copy of the provided {@code AbstractBitBoard}, copying its planes and sharing
+     * its immutable geometry.
+     * @param original The original {@code AbstractBitBoard} which the constructed copy is based
+     *          off of
+     */
+    protected AbstractBitBoard(AbstractBitBoard<T> original) {
+        width = original.width;
+        height = original.height;
+        totalPositions = original.totalPositions;
+        empty = original.empty;
+        pieces = original.pieces;
+        boardMask = original.boardMask;
+        columnMasks = original.columnMasks;
+        westColumns = original.westColumns;
+        eastColumns = original.eastColumns;
+        planes = original.planes.clone();
+        occupied = original.occupied;
+    }
+
+    @Override
+    public final boolean isValidField(int index) {
+        return index > -1 && index < totalPositions;
+    }
+
+    /**
+     * Replaces the {@code Piece} found at the provided index; the empty {@code Piece} clears it.
+     * @param index The index of the value to change
+     * @param piece The new {@code Piece}
+     */
+    @Override
+    public final void setField(int index, T piece) {
+        long bit = 1L << index;
+        if ((occupied & bit) != 0) {
+            for (int i = 0; i < planes.length; i++) {
+                planes[i] &= ~bit;
+            }
+            occupied &= ~bit;
+        }
+        if (piece != empty) {
+            planes[piece.ordinal()] |= bit;
+            occupied |= bit;
+        }
+    }
+
+    @Override
+    public final T getField(int index) {
+        long bit = 1L << index;
+        if ((occupied & bit) != 0) {
+            for (int i = 0; i < planes.length; i++) {
+                if ((planes[i] & bit) != 0) {
+                    return pieces[i];
+                }
+            }
+        }
+        return empty;
+    }
+
+    @Override
+    public final int getTotalPositions() {
+        return totalPositions;
+    }
+
+    /**
+     * Returns the bit plane of the provided {@code Piece}.
+     * @param piece The {@code Piece} to return the plane of
+     * @return The plane, with bit {@code i} set if the {@code Piece} is at index {@code i}
+     */
+    public final long getPlane(T piece) {
+        return planes[piece.ordinal()];
+    }
+
+    /**
+     * Returns the mask of occupied positions.
+     * @return The mask, with bit {@code i} set if index {@code i} holds a {@code Piece}
+     */
+    public final long getOccupied() {
+        return occupied;
+    }
+
+    /**
+     * Returns the mask of all positions of this {@code AbstractBitBoard}.
+     * @return The mask of all positions
+     */
+    public final long getBoardMask() {
+        return boardMask;
+    }
+
+    /**
+     * Counts the positions holding the provided {@code Piece}.
+     * @param piece The {@code Piece} to count
+     * @return The number of positions holding the {@code Piece}
+     */
+    public final int count(T piece) {
+        return Long.bitCount(planes[piece.ordinal()]);
+    }
+
+    /**
+     * Counts the empty positions.
+     * @return The number of empty positions
+     */
+    public final int countEmpty() {
+        return totalPositions - Long.bitCount(occupied);
+    }
+
+    /**
+     * Returns the index of the position in the provided column and row.
+     * @param column The column, counted from the west edge
+     * @param row The row, counted from index 0 onward
+     * @return The index of the position
+     */
+    public final int toIndex(int column, int row) {
+        return row * width + column;
+    }
+
+    /**
+     * Returns the mask of the provided row.
+     * @param row The row, below the height
+     * @return The mask of all positions in the row
+     */
+    public final long getRowMask(int row) {
+        return (boardMask >>> (totalPositions - width)) << row * width;
+    }
+
+    /**
+     * Returns the mask of the provided column.
+     * @param column The column, below the width
+     * @return The mask of all positions in the column
+     */
+    public final long getColumnMask(int column) {
+        return columnMasks[column];
+    }
+
+    /**
+     * Returns the mask of the line of positions starting at the provided index and going in the
+     * provided direction, for as long as it stays on this {@code AbstractBitBoard}.
+     * @param index The index of the first position of the line
+     * @param columns The number of columns to move per step, towards the east if positive
+     * @param rows The number of rows to move per step, towards higher indices if positive
+     * @return The mask of the positions on the line
+     */
+    public final long getLineMask(int index, int columns, int rows) {
+        long line = 0;
+        for (long bit = 1L << index; bit != 0; bit = shift(bit, columns, rows)) {
+            line |= bit;
+            if (columns == 0 && rows == 0) {
+                break;
+            }
+        }
+        return line;
+    }
+
+    /**
+     * Moves every bit of the provided plane the provided number of columns and rows; bits that
+     * would leave this {@code AbstractBitBoard}, including over the west or east edge, are
+     * dropped instead of wrapping around to another row.
+     * @param bits The plane to shift
+     * @param columns The number of columns to move, towards the east if positive
+     * @param rows The number of rows to move, towards higher indices if positive
+     * @return The shifted plane
+     */
+    public final long shift(long bits, int columns, int rows) {
+        if (Math.abs(columns) >= width || Math.abs(rows) >= height) {
+            return 0;
+        }
+        int offset = rows * width + columns;
+        long shifted = offset >= 0 ? bits << offset : bits >>> -offset;
+        if (columns > 0) {
+            shifted &= ~westColumns[columns];
+        } else if (columns < 0) {
+            shifted &= ~eastColumns[-columns];
+        }
+        return shifted & boardMask;
+    }
+
+    /**
+     * Finds the runs of at least the provided length of set bits of the provided plane, in the
+     * provided direction.
+     * @param bits The plane to search
+     * @param columns The number of columns between consecutive bits of a run
+     * @param rows The number of rows between consecutive bits of a run
+     * @param length The length of the runs to find
+     * @return The plane with bit {@code i} set if a run of the length starts at index {@code i}
+     *          and continues in the direction
+     */
+    public final long findRuns(long bits, int columns, int rows, int length) {
+        long runs = bits;
+        for (int step = 1; step < length && runs != 0; step++) {
+            runs &= shift(bits, -step * columns, -step * rows);
+        }
+        return runs;
+    }
+
+    /**
+     * Checks whether the provided plane holds a run of at least the provided length along a row,
+     * a column or either diagonal.
+     * @param bits The plane to search
+     * @param length The length of the runs to find
+     * @return {@code True}: The plane holds such a run. <br>
+     *          {@code False}: The plane holds no such run.
+     */
+    public final boolean hasRun(long bits, int length) {
+        return findRuns(bits, 1, 0, length) != 0 || findRuns(bits, 0, 1, length) != 0 ||
+                findRuns(bits, 1, 1, length) != 0 || findRuns(bits, 1, -1, length) != 0;
+    }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AbstractBitBoard<?> that = (AbstractBitBoard<?>) o;
+        return width == that.width && height == that.height && occupied == that.occupied &&
+                Arrays.equals(planes, that.planes);
+    }
+
+    @Override
+    public final int hashCode() {
+        return 31 * Long.hashCode(occupied) + Arrays.hashCode(planes);
+    }
+}
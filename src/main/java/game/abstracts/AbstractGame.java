@@ -1,21 +1,20 @@
 package game.abstracts;
 
 import game.interfaces.*;
-import java.util.EnumSet;
-import java.util.Objects;
 
 /**
  * Abstract class used to provide basic functionality that is expected to be shared between
- * {@code Game} implementations.
+ * {@code Game} implementations. The {@code Board} and the pool of valid {@code Piece}s are owned
+ * by each implementation, so that they can be kept in whichever form suits that {@code Game}
+ * best; often a handful of primitives that are cheap to copy.
  * @param <T> A generic type that unifies the generic classes in the {@link game} package
  *
+ * @see Board
  * @see Game
  * @see Player
  */
 public abstract class AbstractGame<T extends Enum<T> & Piece> implements Game<T> {
     protected final Player<T>[] players;
-    protected Board<T> board;
-    protected EnumSet<T> validPieces;
     protected byte turn = 0;
     protected int turnCounter = 1;
 
@@ -33,29 +32,35 @@ public abstract class AbstractGame<T extends Enum<T> & Piece> implements Game<T>
     }
 
     /**
-     * Constructs a copy of the provided {@code AbstractGame}, deep-copying the fields available in
-     * this abstract class and requiring extending classes to provide the implementation-specific
-     * deep-copying.
+     * Constructs a copy of the provided {@code AbstractGame}, copying the fields available in this
+     * abstract class and requiring extending classes to provide the implementation-specific
+     * deep-copying. The {@code Player}s are never changed after construction and are therefore
+     * shared with the original.
      * @param original The original {@code AbstractGame} which the constructed copy is based off of
      */
     protected AbstractGame(AbstractGame<T> original) {
-        players = original.players.clone();
-        board = original.board.deepCopy();
-        validPieces = EnumSet.copyOf(original.validPieces);
+        players = original.players;
         turn = original.turn;
         turnCounter = original.turnCounter;
     }
 
-    @Override
-    public <U extends Move<T>> void doMove(U move) {
-        board.setField(move.getIndex(), move.getPiece());
+    /**
+     * Passes the turn to the other {@code Player} and increments the turn counter; to be called by
+     * implementations once they have played a {@code Move} on their {@code Board}.
+     */
+    protected final void advanceTurn() {
         turn ^= 1;
         turnCounter++;
     }
 
-    @Override
-    public final EnumSet<T> getValidPieces() {
-        return validPieces;
+    /**
+     * Passes the turn back to the previous {@code Player} and decrements the turn counter; the
+     * inverse of {@link #advanceTurn()}, to be called by implementations when undoing a
+     * {@code Move}.
+     */
+    protected final void retreatTurn() {
+        turn ^= 1;
+        turnCounter--;
     }
 
     @Override
@@ -67,26 +72,4 @@ public abstract class AbstractGame<T extends Enum<T> & Piece> implements Game<T>
     public final int getTurnCount() {
         return turnCounter;
     }
-
-    @Override
-    public final String getBoardDisplay() {
-        return board.toString();
-    }
-
-    @Override
-    public boolean equals(Object o) {
-        if (this == o) {
-            return true;
-        }
-        if (o == null || getClass() != o.getClass()) {
-            return false;
-        }
-        AbstractGame<?> that = (AbstractGame<?>) o;
-        return turnCounter == that.turnCounter && Objects.equals(board, that.board);
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash(board, turnCounter);
-    }
 }
@@ -41,4 +41,9 @@ public abstract class AbstractMove<T extends Enum<T> & Piece> implements Move<T>
     public int[] toArray() {
         return new int[]{index, piece.ordinal()};
     }
+
+    @Override
+    public int toPacked() {
+        return Move.pack(index, piece.ordinal());
+    }
 }
@@ -0,0 +1,73 @@
+package game.implementations;
+
+import game.interfaces.TranspositionTable;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@code TranspositionTable} which keeps its entries in two {@code long} arrays
+ * on the heap. It holds {@code 2^bits} buckets of two entries, and is meant for a single search
+ * thread; it is not safe to use from multiple threads at once.
+ *
+ * @see TranspositionTable
+ * @see OffHeapTranspositionTable
+ */
+public final class ArrayTranspositionTable implements TranspositionTable {
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+    private int generation = 0;
+
+    /**
+     * Constructs a new, empty {@code ArrayTranspositionTable} of {@code 2^bits} buckets of two
+     * entries.
+     * @param bits The base-2 logarithm of the number of buckets, between 0 and 28
+     * @throws IllegalArgumentException Thrown if the number of buckets is out of range
+     */
+    public ArrayTranspositionTable(int bits) {
+        if (bits < 0 || bits > 28) {
+            throw new IllegalArgumentException("Cannot create 2^" + bits + " buckets");
+        }
+        keys = new long[2 << bits];
+        entries = new long[2 << bits];
+        mask = (1 << bits) - 1;
+    }
+
+    @Override
+    public long probe(long key) {
+        int slot = ((int) key & mask) << 1;
+        if (entries[slot] != MISSING && keys[slot] == key) {
+            return entries[slot];
+        }
+        if (entries[slot + 1] != MISSING && keys[slot + 1] == key) {
+            return entries[slot + 1];
+        }
+        return MISSING;
+    }
+
+    @Override
+    public void store(long key, int move, int score, int depth, int bound) {
+        long entry = TranspositionTable.toEntry(move, score, depth, bound, generation);
+        int slot = ((int) key & mask) << 1;
+        if (!TranspositionTable.replacesFirst(entries[slot], keys[slot] == key, depth,
+                                              generation)) {
+            slot++;
+        }
+        keys[slot] = key;
+        entries[slot] = entry;
+    }
+
+    @Override
+    public void newSearch() {
+        generation++;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(entries, MISSING);
+    }
+
+    @Override
+    public long capacity() {
+        return entries.length;
+    }
+}
@@ -0,0 +1,159 @@
+package game.implementations;
+
+import game.interfaces.TranspositionTable;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implementation of {@code TranspositionTable} which keeps its entries outside of the heap, in a
+ * {@code MemorySegment} of a shared {@code Arena}, so that tables of many gigabytes cost neither
+ * object headers nor garbage collection time. The memory is released by {@link #close()}; the
+ * table cannot be used afterwards. A table in an automatic {@code Arena} is instead released once
+ * it is no longer reachable, for owners that have no point at which to close it.
+ * <p>
+ * The table may be read and written by any number of threads at once without locks. Every entry
+ * is stored as two {@code long}s: the key XOR the packed entry, followed by the packed entry. A
+ * reader only accepts an entry if XOR-ing both words gives back its key, so an entry that is torn
+ * by two threads writing the same slot at once reads as missing instead of as a wrong result.
+ * <p>
+ * The numbers of hits and misses of {@link #probe(long)}, and of collisions, i.e. stores which
+ * overwrite the entry of a different key, are counted for tuning the size of the table.
+ *
+ * @see TranspositionTable
+ * @see ArrayTranspositionTable
+ */
+public final class OffHeapTranspositionTable implements TranspositionTable, AutoCloseable {
+    private static final long SLOT_SIZE = 2 * Long.BYTES;
+    private static final long BUCKET_SIZE = 2 * SLOT_SIZE;
+
+    private final Arena arena;
+    private final MemorySegment segment;
+    private final long mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private volatile int generation = 0;
+
+    /**
+     * Constructs a new, empty {@code OffHeapTranspositionTable} which takes up at most the
+     * provided number of bytes; the number of buckets is rounded down to a power of two.
+     * @param bytes The largest number of bytes to allocate, at least 32
+     * @throws IllegalArgumentException Thrown if the number of bytes is too small for a bucket
+     */
+    public OffHeapTranspositionTable(long bytes) {
+        this(bytes, Arena.ofShared());
+    }
+
+    /**
+     * Constructs a new, empty {@code OffHeapTranspositionTable} in the provided {@code Arena},
+     * which takes up at most the provided number of bytes; the number of buckets is rounded down
+     * to a power of two. The {@code Arena} must allow access from multiple threads, and is closed
+     * by {@link #close()}; a table in {@link Arena#ofAuto()} must not be closed.
+     * @param bytes The largest number of bytes to allocate, at least 32
+     * @param arena The {@code Arena} to allocate the table in
+     * @throws IllegalArgumentException Thrown if the number of bytes is too small for a bucket
+     */
+    public OffHeapTranspositionTable(long bytes, Arena arena) {
+        if (bytes < BUCKET_SIZE) {
+            throw new IllegalArgumentException("Cannot create a table of " + bytes + " bytes");
+        }
+        long buckets = Long.highestOneBit(bytes / BUCKET_SIZE);
+        this.arena = arena;
+        segment = arena.allocate(buckets * BUCKET_SIZE, BUCKET_SIZE);
+        mask = buckets - 1;
+    }
+
+    @Override
+    public long probe(long key) {
+        long offset = (key & mask) * BUCKET_SIZE;
+        for (int slot = 0; slot < 2; slot++, offset += SLOT_SIZE) {
+            long entry = segment.get(ValueLayout.JAVA_LONG, offset + Long.BYTES);
+            if (entry != MISSING && (segment.get(ValueLayout.JAVA_LONG, offset) ^ entry) == key) {
+                hits.increment();
+                return entry;
+            }
+        }
+        misses.increment();
+        return MISSING;
+    }
+
+    @Override
+    public void store(long key, int move, int score, int depth, int bound) {
+        int currentGeneration = generation;
+        long entry = TranspositionTable.toEntry(move, score, depth, bound, currentGeneration);
+        long offset = (key & mask) * BUCKET_SIZE;
+        long stored = segment.get(ValueLayout.JAVA_LONG, offset + Long.BYTES);
+        long storedKey = segment.get(ValueLayout.JAVA_LONG, offset) ^ stored;
+        if (!TranspositionTable.replacesFirst(stored, storedKey == key, depth,
+                                              currentGeneration)) {
+            offset += SLOT_SIZE;
+            stored = segment.get(ValueLayout.JAVA_LONG, offset + Long.BYTES);
+            storedKey = segment.get(ValueLayout.JAVA_LONG, offset) ^ stored;
+        }
+        if (stored != MISSING && storedKey != key) {
+            collisions.increment();
+        }
+        segment.set(ValueLayout.JAVA_LONG, offset, key ^ entry);
+        segment.set(ValueLayout.JAVA_LONG, offset + Long.BYTES, entry);
+    }
+
+    @Override
+    public void newSearch() {
+        generation++;
+    }
+
+    @Override
+    public void clear() {
+        segment.fill((byte) 0);
+    }
+
+    @Override
+    public long capacity() {
+        return (mask + 1) * 2;
+    }
+
+    /**
+     * Returns the number of bytes allocated for this {@code OffHeapTranspositionTable}.
+     * @return The number of allocated bytes
+     */
+    public long byteSize() {
+        return segment.byteSize();
+    }
+
+    /**
+     * Returns the number of calls to {@link #probe(long)} which found an entry.
+     * @return The number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of calls to {@link #probe(long)} which found no entry.
+     * @return The number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of calls to {@link #store(long, int, int, int, int)} which overwrote the
+     * entry of a different key.
+     * @return The number of collisions
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    /**
+     * Releases the memory of this {@code OffHeapTranspositionTable}; any later use throws an
+     * {@code IllegalStateException}.
+     * @throws UnsupportedOperationException Thrown if the table is in an automatic {@code Arena}
+     */
+    @Override
+    public void close() {
+        arena.close();
+    }
+}
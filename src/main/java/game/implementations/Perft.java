@@ -0,0 +1,224 @@
+package game.implementations;
+
+import exceptions.IllegalInitializationException;
+import game.interfaces.Game;
+import game.interfaces.Move;
+import game.interfaces.Piece;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Utility class which performs perft: counting the leaf nodes of the tree of valid {@code Move}s
+ * of a {@code Game} up to a fixed depth. The counts of a position are fixed by the rules of the
+ * {@code Game}, so they act as a regression oracle for move generation, and the time taken is a
+ * measure of the throughput of {@code doMove}, {@code undoMove} and move generation.
+ * <p>
+ * Only positions exactly at the requested depth are counted; lines in which the {@code Game}
+ * ends earlier contribute nothing. The tree is walked on a single copy of the {@code Game} using
+ * packed {@code Move}s, and the last level is counted with {@code getValidMoveCount} instead of
+ * being played.
+ *
+ * @see Game
+ * @see exceptions.IllegalInitializationException
+ */
+public final class Perft {
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private Perft() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Counts the leaf nodes at the provided depth below the provided {@code Game}, on the calling
+     * thread. The provided {@code Game} is not changed.
+     * @param game The {@code Game} to count from
+     * @param depth The number of turns to look ahead
+     * @return The number of leaf nodes
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     */
+    public static <T extends Enum<T> & Piece> long perft(Game<T> game, int depth) {
+        return perft(game, depth, null);
+    }
+
+    /**
+     * Counts the leaf nodes at the provided depth below the provided {@code Game}, counting the
+     * subtree of every valid {@code Move} as a separate task in the provided
+     * {@code ForkJoinPool}. The provided {@code Game} is not changed.
+     * @param game The {@code Game} to count from
+     * @param depth The number of turns to look ahead
+     * @param pool The {@code ForkJoinPool} to count in, or {@code null} to count on the calling
+     *          thread
+     * @return The number of leaf nodes
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     */
+    public static <T extends Enum<T> & Piece> long perft(Game<T> game, int depth,
+                                                          ForkJoinPool pool) {
+        if (depth == 0) {
+            return 1;
+        }
+        long nodes = 0;
+        for (long count : countPerMove(game, depth, pool)) {
+            nodes += count;
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the leaf nodes at the provided depth below the provided {@code Game}, split by the
+     * valid {@code Move} that was played first, on the calling thread.
+     * @param game The {@code Game} to count from
+     * @param depth The number of turns to look ahead, at least 1
+     * @return The number of leaf nodes below every valid {@code Move}, in the order of
+     *          {@code getValidMoves}
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     * @param <U> A generic type that represents the type of {@code Move}s that can be played
+     *           on the {@code Game}, with {@code Piece}s of type {@link T}
+     */
+    public static <T extends Enum<T> & Piece, U extends Move<T>> Map<U, Long> divide(
+            Game<T> game, int depth) {
+        return divide(game, depth, null);
+    }
+
+    /**
+     * Counts the leaf nodes at the provided depth below the provided {@code Game}, split by the
+     * valid {@code Move} that was played first, counting every split as a separate task in the
+     * provided {@code ForkJoinPool}.
+     * @param game The {@code Game} to count from
+     * @param depth The number of turns to look ahead, at least 1
+     * @param pool The {@code ForkJoinPool} to count in, or {@code null} to count on the calling
+     *          thread
+     * @return The number of leaf nodes below every valid {@code Move}, in the order of
+     *          {@code getValidMoves}
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     * @param <U> A generic type that represents the type of {@code Move}s that can be played
+     *           on the {@code Game}, with {@code Piece}s of type {@link T}
+     */
+    public static <T extends Enum<T> & Piece, U extends Move<T>> Map<U, Long> divide(
+            Game<T> game, int depth, ForkJoinPool pool) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Cannot divide at a depth below 1");
+        }
+        int[] moves = new int[game.getValidMoveCount()];
+        game.fillValidMoves(moves);
+        long[] counts = countPerMove(game, depth, pool);
+        Map<U, Long> division = new LinkedHashMap<>();
+        for (int i = 0; i < moves.length; i++) {
+            division.put(game.toMove(moves[i]), counts[i]);
+        }
+        return division;
+    }
+
+    /**
+     * Counts the leaf nodes at the provided depth below every valid {@code Move} of the provided
+     * {@code Game}.
+     * @param game The {@code Game} to count from
+     * @param depth The number of turns to look ahead, at least 1
+     * @param pool The {@code ForkJoinPool} to count in, or {@code null} to count on the calling
+     *          thread
+     * @return The number of leaf nodes below every valid {@code Move}, in the order of
+     *          {@code fillValidMoves}
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     */
+    private static <T extends Enum<T> & Piece> long[] countPerMove(Game<T> game, int depth,
+                                                                   ForkJoinPool pool) {
+        int[] moves = new int[game.getValidMoveCount()];
+        int count = game.fillValidMoves(moves);
+        long[] counts = new long[count];
+        if (pool == null) {
+            Game<T> copy = game.deepCopy();
+            int[][] buffers = new int[depth][];
+            for (int i = 0; i < count; i++) {
+                copy.doMove(moves[i]);
+                counts[i] = count(copy, depth - 1, buffers);
+                copy.undoMove(moves[i]);
+            }
+            return counts;
+        }
+
+        List<MoveTask<T>> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new MoveTask<>(game, moves[i], depth - 1));
+        }
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                ForkJoinTask.invokeAll(tasks);
+                return null;
+            }
+        });
+        for (int i = 0; i < count; i++) {
+            counts[i] = tasks.get(i).join();
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the leaf nodes at the provided depth below the provided {@code Game}, by playing
+     * and undoing every valid {@code Move} on it.
+     * @param game The {@code Game} to count from, restored before returning
+     * @param depth The number of turns to look ahead
+     * @param buffers One reusable buffer of packed {@code Move}s per depth
+     * @return The number of leaf nodes
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     */
+    private static <T extends Enum<T> & Piece> long count(Game<T> game, int depth,
+                                                          int[][] buffers) {
+        if (depth == 0) {
+            return 1;
+        }
+        if (depth == 1) {
+            return game.getValidMoveCount();
+        }
+        int size = game.getValidMoveCount();
+        if (buffers[depth] == null || buffers[depth].length < size) {
+            buffers[depth] = new int[size];
+        }
+        int[] moves = buffers[depth];
+        int count = game.fillValidMoves(moves);
+        long nodes = 0;
+        for (int i = 0; i < count; i++) {
+            game.doMove(moves[i]);
+            nodes += count(game, depth - 1, buffers);
+            game.undoMove(moves[i]);
+        }
+        return nodes;
+    }
+
+    /**
+     * Task which counts the leaf nodes below a single {@code Move}, on its own copy of the
+     * {@code Game}.
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     */
+    @SuppressWarnings("serial")
+    private static final class MoveTask<T extends Enum<T> & Piece> extends RecursiveTask<Long> {
+        private final Game<T> game;
+        private final int move;
+        private final int depth;
+
+        /**
+         * Constructs a new {@code MoveTask} for the provided packed {@code Move}.
+         * @param game The {@code Game} the {@code Move} is played on; copied, not changed
+         * @param move The packed {@code Move} to count the leaf nodes below
+         * @param depth The number of turns to look ahead after the {@code Move}
+         */
+        private MoveTask(Game<T> game, int move, int depth) {
+            this.game = game.deepCopy();
+            this.move = move;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            game.doMove(move);
+            return count(game, depth, new int[depth + 1][]);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package game.implementations.connectfour;
+
+import game.abstracts.AbstractBitBoard;
+
+/**
+ * Implementation of {@code AbstractBitBoard} which defines {@code ConnectFourPiece} as the type of
+ * {@code Piece} on a {@code ConnectFourBoard}: an upright grid of {@link #WIDTH} columns and
+ * {@link #HEIGHT} rows, in which index {@code row * WIDTH + column} counts rows from the bottom.
+ * Four discs of the same colour in a row, a column or a diagonal are found with
+ * {@link #hasRun(long, int)} on the plane of that colour.
+ *
+ * @see AbstractBitBoard
+ * @see ConnectFourGame
+ * @see ConnectFourPiece
+ */
+public final class ConnectFourBoard extends AbstractBitBoard<ConnectFourPiece> {
+    /**
+     * The number of columns of a {@code ConnectFourBoard}.
+     */
+    public static final int WIDTH = 7;
+
+    /**
+     * The number of rows of a {@code ConnectFourBoard}.
+     */
+    public static final int HEIGHT = 6;
+
+    /**
+     * The number of discs in a row that wins a {@code ConnectFourGame}.
+     */
+    public static final int CONNECT = 4;
+
+    private static final String SEPARATOR = "+---".repeat(WIDTH) + "+";
+
+    /**
+     * Constructs a new, empty, {@code ConnectFourBoard}.
+     */
+    public ConnectFourBoard() {
+        super(WIDTH, HEIGHT, ConnectFourPiece.EMPTY);
+    }
+
+    /**
+     * Constructs a copy of the provided {@code ConnectFourBoard}, using the parent's,
+     * {@code AbstractBitBoard}'s, copy constructor.
+     * @param original The original {@code ConnectFourBoard} which the constructed copy is based
+     *          off of
+     */
+    private ConnectFourBoard(ConnectFourBoard original) {
+        super(original);
+    }
+
+    @Override
+    public ConnectFourBoard deepCopy() {
+        return new ConnectFourBoard(this);
+    }
+
+    /**
+     * Checks if the provided {@code ConnectFourPiece} has four discs in a row anywhere on this
+     * {@code ConnectFourBoard}.
+     * @param piece The {@code ConnectFourPiece} to check
+     * @return {@code True}: the {@code ConnectFourPiece} has connected four discs <br>
+     *          {@code False}: the {@code ConnectFourPiece} has not connected four discs
+     */
+    public boolean isConnected(ConnectFourPiece piece) {
+        return piece != ConnectFourPiece.EMPTY && hasRun(getPlane(piece), CONNECT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder display = new StringBuilder();
+        for (int row = HEIGHT - 1; row >= 0; row--) {
+            for (int column = 0; column < WIDTH; column++) {
+                display.append("| ").append(getField(toIndex(column, row)).getDisplay())
+                        .append(" ");
+            }
+            display.append("|\n");
+        }
+        display.append(SEPARATOR).append("\n");
+        for (int column = 0; column < WIDTH; column++) {
+            display.append("  ").append(column).append(" ");
+        }
+        return display.toString();
+    }
+}
@@ -0,0 +1,410 @@
+package game.implementations.connectfour;
+
+import game.abstracts.AbstractGame;
+import game.interfaces.Move;
+import game.interfaces.Player;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Implementation of {@code AbstractGame} which defines {@code ConnectFourPiece} as the type of
+ * {@code Piece} to be used in a {@code ConnectFourGame}. The first {@code Player} drops RED discs
+ * and the second {@code Player} drops YELLOW discs into one of the columns, each disc falling onto
+ * the lowest empty position of its column; whoever first connects four of their discs in a row,
+ * a column or a diagonal wins, and the game is drawn once the board is full.
+ * <p>
+ * The state is kept as two {@code long} bitboards, one per colour, in which every column takes
+ * up {@link #STRIDE} bits: {@link ConnectFourBoard#HEIGHT} bits for its rows, bottom first, and an
+ * always-empty guard bit on top. The guard bits stop runs from continuing into the next column, so
+ * that four in a row is found with one shift-and-AND per direction, and adding the bottom bit of a
+ * column to the occupied positions gives the position a disc dropped there lands on. A Zobrist key
+ * of the state is maintained alongside, like in {@link game.implementations.quarto.QuartoGame}.
+ *
+ * @see AbstractGame
+ * @see ConnectFourBoard
+ * @see ConnectFourPiece
+ * @see Player
+ */
+public final class ConnectFourGame extends AbstractGame<ConnectFourPiece> {
+    /**
+     * The last turn on which a {@code Move} can be played, i.e. the turn filling the board.
+     */
+    static final int LAST_TURN = ConnectFourBoard.WIDTH * ConnectFourBoard.HEIGHT;
+
+    /**
+     * The number of bits of a column in the bitboards: its rows and a guard bit.
+     */
+    static final int STRIDE = ConnectFourBoard.HEIGHT + 1;
+
+    /**
+     * The mask of the bottom position of every column.
+     */
+    static final long BOTTOM_MASK;
+
+    /**
+     * The mask of every position of the board, leaving out the guard bits.
+     */
+    static final long BOARD_MASK;
+
+    /**
+     * The mask of the top position of every column; a column is full when it is occupied.
+     */
+    static final long TOP_MASK;
+
+    /**
+     * The columns in the order in which their {@code Move}s are generated: from the centre
+     * outwards, since central discs take part in the most lines and are best searched first.
+     */
+    private static final int[] COLUMN_ORDER = {3, 2, 4, 1, 5, 0, 6};
+
+    private static final int RED = ConnectFourPiece.RED.ordinal();
+    private static final long COLUMN = (1L << ConnectFourBoard.HEIGHT) - 1;
+
+    /**
+     * The seed of the Zobrist keys; fixed so that keys are the same in every process.
+     */
+    private static final long ZOBRIST_SEED = 0x434F_4E4E_4543_5434L;
+
+    /**
+     * The Zobrist keys of a disc of either colour on every bit of the bitboards, at
+     * {@code ordinal * STRIDE * WIDTH + bit}.
+     */
+    private static final long[] PLACED_KEYS = new long[2 * STRIDE * ConnectFourBoard.WIDTH];
+
+    /**
+     * The Zobrist key of the second {@code Player} being the active {@code Player}.
+     */
+    private static final long TURN_KEY;
+
+    static {
+        long bottom = 0;
+        for (int column = 0; column < ConnectFourBoard.WIDTH; column++) {
+            bottom |= 1L << column * STRIDE;
+        }
+        BOTTOM_MASK = bottom;
+        BOARD_MASK = bottom * COLUMN;
+        TOP_MASK = bottom << ConnectFourBoard.HEIGHT - 1;
+
+        SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        for (int i = 0; i < PLACED_KEYS.length; i++) {
+            PLACED_KEYS[i] = random.nextLong();
+        }
+        TURN_KEY = random.nextLong();
+    }
+
+    private long red;
+    private long yellow;
+    private boolean connected = false;
+    private long zobristKey = 0;
+
+    /**
+     * Constructs a new {@code ConnectFourGame}, with the arguments becoming the {@code Player}s of
+     * this new {@code ConnectFourGame}.
+     * @param player1 The provided {@code Player}, who will take the first turn with RED discs
+     * @param player2 The provided {@code Player}, who will take the second turn with YELLOW discs
+     */
+    public ConnectFourGame(Player<ConnectFourPiece> player1, Player<ConnectFourPiece> player2) {
+        super(player1, player2);
+    }
+
+    /**
+     * Constructs a copy of the provided {@code ConnectFourGame}, copying the fields specified in
+     * this implementation and otherwise using the parent's, {@code AbstractGame}'s, copy
+     * constructor.
+     * @param original The original {@code ConnectFourGame} which the constructed copy is based off
+     *          of
+     */
+    private ConnectFourGame(ConnectFourGame original) {
+        super(original);
+        red = original.red;
+        yellow = original.yellow;
+        connected = original.connected;
+        zobristKey = original.zobristKey;
+    }
+
+    @Override
+    public ConnectFourGame deepCopy() {
+        return new ConnectFourGame(this);
+    }
+
+    @Override
+    public <U extends Move<ConnectFourPiece>> void doMove(U move) {
+        play(move.getIndex());
+    }
+
+    @Override
+    public void doMove(int move) {
+        play(Move.getIndex(move));
+    }
+
+    @Override
+    public <U extends Move<ConnectFourPiece>> void undoMove(U move) {
+        revert(move.getIndex());
+    }
+
+    @Override
+    public void undoMove(int move) {
+        revert(Move.getIndex(move));
+    }
+
+    /**
+     * Drops a disc of the active {@code Player} into the provided column and checks whether it
+     * connects four.
+     * @param column The column to drop the disc into
+     */
+    private void play(int column) {
+        long bit = getLandingBit(column);
+        if (turn == 0) {
+            red |= bit;
+            connected = isConnected(red);
+        } else {
+            yellow |= bit;
+            connected = isConnected(yellow);
+        }
+        zobristKey ^= PLACED_KEYS[turn * STRIDE * ConnectFourBoard.WIDTH +
+                Long.numberOfTrailingZeros(bit)] ^ TURN_KEY;
+        advanceTurn();
+    }
+
+    /**
+     * Removes the top disc of the provided column, which must have been dropped by the most
+     * recently played {@code Move}.
+     * @param column The column of the most recently played {@code Move}
+     */
+    private void revert(int column) {
+        retreatTurn();
+        long bit = Long.highestOneBit((red | yellow) & COLUMN << column * STRIDE);
+        if (turn == 0) {
+            red &= ~bit;
+        } else {
+            yellow &= ~bit;
+        }
+        zobristKey ^= PLACED_KEYS[turn * STRIDE * ConnectFourBoard.WIDTH +
+                Long.numberOfTrailingZeros(bit)] ^ TURN_KEY;
+        connected = false;
+    }
+
+    /**
+     * Returns the bit of the position a disc dropped into the provided column lands on; the guard
+     * bit of the column if it is full.
+     * @param column The column to drop a disc into
+     * @return The bit of the lowest empty position of the column
+     */
+    private long getLandingBit(int column) {
+        return (red | yellow) + (1L << column * STRIDE) & (COLUMN << 1 | 1) << column * STRIDE;
+    }
+
+    /**
+     * Checks if the provided bitboard holds four discs in a row, in any of the four directions:
+     * along a column, along a row and along both diagonals. Each direction is a single
+     * shift-and-AND that finds pairs, followed by one that finds pairs of pairs.
+     * @param discs The bitboard of one colour
+     * @return {@code True}: the bitboard holds four discs in a row <br>
+     *          {@code False}: the bitboard does not hold four discs in a row
+     */
+    static boolean isConnected(long discs) {
+        long pairs = discs & discs >>> 1;
+        if ((pairs & pairs >>> 2) != 0) {
+            return true;
+        }
+        pairs = discs & discs >>> STRIDE;
+        if ((pairs & pairs >>> 2 * STRIDE) != 0) {
+            return true;
+        }
+        pairs = discs & discs >>> STRIDE - 1;
+        if ((pairs & pairs >>> 2 * (STRIDE - 1)) != 0) {
+            return true;
+        }
+        pairs = discs & discs >>> STRIDE + 1;
+        return (pairs & pairs >>> 2 * (STRIDE + 1)) != 0;
+    }
+
+    /**
+     * Returns the empty positions at which a disc of the provided colour would connect four,
+     * whether or not a disc can be dropped there yet.
+     * @param discs The bitboard of one colour
+     * @param occupied The bitboard of all discs
+     * @return The bitboard of positions which complete four in a row
+     */
+    static long findThreats(long discs, long occupied) {
+        long threats = (discs << 1) & (discs << 2) & (discs << 3);
+        for (int shift = STRIDE - 1; shift <= STRIDE + 1; shift++) {
+            long pairs = (discs << shift) & (discs << 2 * shift);
+            threats |= pairs & (discs << 3 * shift);
+            threats |= pairs & (discs >>> shift);
+            pairs = (discs >>> shift) & (discs >>> 2 * shift);
+            threats |= pairs & (discs << shift);
+            threats |= pairs & (discs >>> 3 * shift);
+        }
+        return threats & BOARD_MASK & ~occupied;
+    }
+
+    @Override
+    public EnumSet<ConnectFourPiece> getValidPieces() {
+        if (isGameOver()) {
+            return EnumSet.noneOf(ConnectFourPiece.class);
+        }
+        return EnumSet.of(getActivePiece());
+    }
+
+    /**
+     * Returns the {@code ConnectFourPiece} of the active {@code Player}.
+     * @return RED if the first {@code Player} is active, YELLOW otherwise
+     */
+    public ConnectFourPiece getActivePiece() {
+        return ConnectFourPiece.forTurn(turnCounter);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ConnectFourMove returnMoveIfValid(ConnectFourPiece piece, int index) {
+        if (index > -1 && index < ConnectFourBoard.WIDTH &&
+                isValidMove(Move.pack(index, piece.ordinal()))) {
+            return ConnectFourMove.of(piece, index);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isValidMove(int move) {
+        int column = Move.getIndex(move);
+        return !isGameOver() && column < ConnectFourBoard.WIDTH &&
+                Move.getPiece(move) == RED + turn &&
+                ((red | yellow) & TOP_MASK & COLUMN << column * STRIDE) == 0;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return connected || turnCounter > LAST_TURN;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<ConnectFourMove> getValidMoves() {
+        int[] moves = new int[getValidMoveCount()];
+        int count = fillValidMoves(moves);
+        List<ConnectFourMove> validMoves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            validMoves.add(toMove(moves[i]));
+        }
+        return validMoves;
+    }
+
+    @Override
+    public int getValidMoveCount() {
+        if (isGameOver()) {
+            return 0;
+        }
+        return Long.bitCount(~(red | yellow) & TOP_MASK);
+    }
+
+    @Override
+    public int fillValidMoves(int[] moves) {
+        if (isGameOver()) {
+            return 0;
+        }
+
+        int count = 0;
+        long open = ~(red | yellow) & TOP_MASK;
+        int piece = RED + turn;
+        for (int column : COLUMN_ORDER) {
+            if ((open >>> column * STRIDE & COLUMN) != 0) {
+                moves[count++] = Move.pack(column, piece);
+            }
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ConnectFourMove toMove(int move) {
+        return ConnectFourMove.of(move);
+    }
+
+    @Override
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    @Override
+    public Player<ConnectFourPiece> getWinner() {
+        return connected ? players[turn ^ 1] : null;
+    }
+
+    /**
+     * Returns the columns in which the active {@code Player} wins immediately by dropping a disc.
+     * @return The mask of winning columns, with bit {@code i} set for column {@code i}
+     */
+    public int getWinningColumns() {
+        if (isGameOver()) {
+            return 0;
+        }
+        long occupied = red | yellow;
+        long playable = occupied + BOTTOM_MASK & BOARD_MASK;
+        long threats = findThreats(turn == 0 ? red : yellow, occupied) & playable;
+        int columns = 0;
+        for (int column = 0; column < ConnectFourBoard.WIDTH; column++) {
+            if ((threats >>> column * STRIDE & COLUMN) != 0) {
+                columns |= 1 << column;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Returns a snapshot of the {@code ConnectFourBoard} of this {@code ConnectFourGame}; later
+     * {@code Move}s are not reflected in it, and changes to it do not affect this
+     * {@code ConnectFourGame}.
+     * @return A snapshot of the {@code ConnectFourBoard} of this {@code ConnectFourGame}
+     */
+    public ConnectFourBoard getBoard() {
+        ConnectFourBoard board = new ConnectFourBoard();
+        for (long rest = red | yellow; rest != 0; rest &= rest - 1) {
+            int bit = Long.numberOfTrailingZeros(rest);
+            board.setField(board.toIndex(bit / STRIDE, bit % STRIDE), (red >>> bit & 1) != 0 ?
+                    ConnectFourPiece.RED : ConnectFourPiece.YELLOW);
+        }
+        return board;
+    }
+
+    /**
+     * Returns the bitboard of the RED discs, in the layout described above.
+     * @return The bitboard of the RED discs
+     */
+    long getRed() {
+        return red;
+    }
+
+    /**
+     * Returns the bitboard of the YELLOW discs, in the layout described above.
+     * @return The bitboard of the YELLOW discs
+     */
+    long getYellow() {
+        return yellow;
+    }
+
+    @Override
+    public String getBoardDisplay() {
+        return getBoard().toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ConnectFourGame that = (ConnectFourGame) o;
+        return zobristKey == that.zobristKey && turnCounter == that.turnCounter &&
+                red == that.red && yellow == that.yellow;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
+    }
+}
@@ -0,0 +1,74 @@
+package game.implementations.connectfour;
+
+import game.abstracts.AbstractMove;
+import game.interfaces.Move;
+
+/**
+ * Implementation of {@code AbstractMove} which defines {@code ConnectFourPiece} as the type of
+ * {@code Piece} in a {@code ConnectFourMove}. The index of a {@code ConnectFourMove} is the column
+ * the disc is dropped in, counted from the left; the row follows from the discs already in that
+ * column. Every possible {@code ConnectFourMove} is created once, up front, and shared; instances
+ * are obtained through {@link #of(ConnectFourPiece, int)} or {@link #of(int)}.
+ *
+ * @see AbstractMove
+ * @see ConnectFourGame
+ * @see ConnectFourPiece
+ */
+public final class ConnectFourMove extends AbstractMove<ConnectFourPiece> {
+    private static final ConnectFourPiece[] PIECES = ConnectFourPiece.values();
+    private static final ConnectFourMove[] MOVES = new ConnectFourMove[ConnectFourBoard.WIDTH *
+            PIECES.length];
+
+    static {
+        for (int column = 0; column < ConnectFourBoard.WIDTH; column++) {
+            for (ConnectFourPiece piece : PIECES) {
+                MOVES[column * PIECES.length + piece.ordinal()] = new ConnectFourMove(piece,
+                                                                                      column);
+            }
+        }
+    }
+
+    /**
+     * Constructs a new {@code ConnectFourMove} by directly calling the parent's,
+     * {@code AbstractMove}'s, constructor. Only used to fill the table of shared instances.
+     * @param piece The {@code ConnectFourPiece} of this new {@code ConnectFourMove}
+     * @param column The column of this new {@code ConnectFourMove}
+     */
+    private ConnectFourMove(ConnectFourPiece piece, int column) {
+        super(piece, column);
+    }
+
+    /**
+     * Returns the shared {@code ConnectFourMove} with the provided {@code ConnectFourPiece} and
+     * column.
+     * @param piece The {@code ConnectFourPiece} of the {@code ConnectFourMove}
+     * @param column The column of the {@code ConnectFourMove}
+     * @return The shared {@code ConnectFourMove} with the provided {@code ConnectFourPiece} and
+     *          column
+     * @throws IllegalArgumentException Thrown if the column does not lie on a
+     *          {@code ConnectFourBoard}
+     */
+    public static ConnectFourMove of(ConnectFourPiece piece, int column) {
+        if (column < 0 || column >= ConnectFourBoard.WIDTH) {
+            throw new IllegalArgumentException("Column " + column +
+                                                       " is not on a ConnectFourBoard");
+        }
+        return MOVES[column * PIECES.length + piece.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code ConnectFourMove} represented by the provided packed {@code Move};
+     * the inverse of {@link #toPacked()}.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @return The shared {@code ConnectFourMove} represented by the packed {@code Move}
+     * @throws IllegalArgumentException Thrown if the packed {@code Move} does not represent a
+     *          {@code ConnectFourMove}
+     */
+    public static ConnectFourMove of(int move) {
+        int piece = Move.getPiece(move);
+        if (piece >= PIECES.length) {
+            throw new IllegalArgumentException("Piece " + piece + " is not a ConnectFourPiece");
+        }
+        return of(PIECES[piece], Move.getIndex(move));
+    }
+}
@@ -0,0 +1,39 @@
+package game.implementations.connectfour;
+
+import game.interfaces.Piece;
+
+/**
+ * Implementation of {@code Piece} which enumerates the discs that can be dropped in a
+ * {@code ConnectFourGame}. The first {@code Player} always drops RED discs and the second
+ * {@code Player} always drops YELLOW discs; EMPTY marks a position without a disc.
+ *
+ * @see ConnectFourGame
+ * @see Piece
+ */
+public enum ConnectFourPiece implements Piece {
+    RED("X"), YELLOW("O"), EMPTY(" ");
+
+    private final String display;
+
+    /**
+     * Constructs a new {@code ConnectFourPiece} with the provided {@code display}.
+     * @param display The human-friendly text representation that can be shown to the user
+     */
+    ConnectFourPiece(String display) {
+        this.display = display;
+    }
+
+    @Override
+    public String getDisplay() {
+        return display;
+    }
+
+    /**
+     * Returns the disc that is dropped on the provided turn.
+     * @param turnCount The number of the turn, starting at 1
+     * @return RED on odd turns, YELLOW on even turns
+     */
+    public static ConnectFourPiece forTurn(int turnCount) {
+        return (turnCount & 1) == 1 ? RED : YELLOW;
+    }
+}
@@ -0,0 +1,252 @@
+package game.implementations.quarto;
+
+import game.interfaces.Move;
+import java.util.SplittableRandom;
+
+/**
+ * Class which plays many random {@code QuartoGame}s at once, for rollouts and self-play data. The
+ * games are kept in struct-of-arrays primitive form and advanced together one turn at a time, so
+ * that no objects are created while playing.
+ * <p>
+ * In every turn, the active {@code Player} places the {@code QuartoPiece} they were handed at a
+ * random empty index, calls QUARTO if there is one on the board, and otherwise hands over a random
+ * remaining {@code QuartoPiece}; a game without a QUARTO after the last {@code QuartoPiece} is a
+ * draw. QUARTOs are found on all boards at once with the Vector API if the
+ * {@code jdk.incubator.vector} module is present, e.g. through
+ * {@code --add-modules jdk.incubator.vector}, and with a scalar check of the lines through the
+ * placed {@code QuartoPiece} otherwise.
+ * <p>
+ * Each game's winner is given like {@link QuartoState#getWinnerIndex()}, and its {@code Move}s can
+ * be recorded in packed form, such that replaying them on a {@code QuartoGame} reaches the same
+ * result. A {@code QuartoBatchSimulator} is not safe to use from multiple threads at once.
+ *
+ * @see QuartoGame
+ * @see QuartoState
+ * @see QuartoVectorKernel
+ */
+public final class QuartoBatchSimulator {
+    /**
+     * The winner of a game that ended in a draw.
+     */
+    public static final int DRAW = -1;
+
+    /**
+     * The most {@code Move}s a game can take.
+     */
+    public static final int MAX_MOVES = QuartoGame.LAST_TURN;
+
+    private static final boolean VECTOR_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    private static final int QUARTO = QuartoPiece.QUARTO.ordinal();
+    private static final int EMPTY = QuartoPiece.EMPTY.ordinal();
+    private static final int ONGOING = -2;
+
+    private final int size;
+    private final boolean vectorized;
+    private final long[] attributes;
+    private final long[] occupied;
+    private final int[] remainingPieces;
+    private final int[] nextPieces;
+    private final int[] placedIndices;
+    private final int[] winners;
+    private final boolean[] quartos;
+    private final int[] traces;
+    private final int[] traceLengths;
+
+    /**
+     * Constructs a new {@code QuartoBatchSimulator} for the provided number of games, which uses
+     * the Vector API if it is available.
+     * @param size The number of games to play at once
+     * @param recordMoves Whether to record the {@code Move}s of every game
+     */
+    public QuartoBatchSimulator(int size, boolean recordMoves) {
+        this(size, recordMoves, VECTOR_AVAILABLE);
+    }
+
+    /**
+     * Constructs a new {@code QuartoBatchSimulator} for the provided number of games.
+     * @param size The number of games to play at once
+     * @param recordMoves Whether to record the {@code Move}s of every game
+     * @param vectorized Whether to find QUARTOs with the Vector API rather than the scalar check
+     * @throws IllegalArgumentException Thrown if the size is not positive, or if the Vector API is
+     *          requested but not available
+     */
+    public QuartoBatchSimulator(int size, boolean recordMoves, boolean vectorized) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Cannot simulate " + size + " games");
+        }
+        if (vectorized && !VECTOR_AVAILABLE) {
+            throw new IllegalArgumentException("The jdk.incubator.vector module is not present");
+        }
+        this.size = size;
+        this.vectorized = vectorized;
+        attributes = new long[size];
+        occupied = new long[size];
+        remainingPieces = new int[size];
+        nextPieces = new int[size];
+        placedIndices = new int[size];
+        winners = new int[size];
+        quartos = new boolean[size];
+        traces = recordMoves ? new int[size * MAX_MOVES] : null;
+        traceLengths = new int[size];
+    }
+
+    /**
+     * Checks whether the Vector API can be used in this process.
+     * @return {@code True}: The {@code jdk.incubator.vector} module is present. <br>
+     *          {@code False}: Only the scalar check can be used.
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_AVAILABLE;
+    }
+
+    /**
+     * Plays every game of this {@code QuartoBatchSimulator} from the provided state to its end,
+     * replacing the results of the previous call.
+     * @param start The state every game starts from
+     * @param random The source of the random {@code Move}s
+     */
+    public void playOut(QuartoState start, SplittableRandom random) {
+        int turn = start.getTurnCount();
+        int active = 0;
+        for (int game = 0; game < size; game++) {
+            attributes[game] = start.getAttributes();
+            occupied[game] = start.getOccupied();
+            remainingPieces[game] = start.getRemainingPieces();
+            nextPieces[game] = start.getNextPieceOrdinal();
+            traceLengths[game] = 0;
+            winners[game] = start.isGameOver() ? start.getWinnerIndex() : ONGOING;
+            active += start.isGameOver() ? 0 : 1;
+        }
+        boolean quartoOnBoard = start.getQuartoTurn() != 0;
+
+        while (active > 0) {
+            for (int game = 0; game < size; game++) {
+                if (winners[game] == ONGOING && nextPieces[game] != EMPTY) {
+                    place(game, random.nextLong());
+                }
+            }
+            if (vectorized) {
+                QuartoVectorKernel.findQuartos(attributes, occupied, quartos, size);
+            } else {
+                for (int game = 0; game < size; game++) {
+                    quartos[game] = winners[game] == ONGOING && nextPieces[game] != EMPTY &&
+                            QuartoBoard.isQuarto(attributes[game], (int) occupied[game],
+                                                 placedIndices[game]);
+                }
+            }
+            for (int game = 0; game < size; game++) {
+                if (winners[game] != ONGOING) {
+                    continue;
+                }
+                if (nextPieces[game] == EMPTY) {
+                    placedIndices[game] = 0;
+                }
+                if (quartos[game] && nextPieces[game] != EMPTY || quartoOnBoard) {
+                    finish(game, QUARTO, turn - 1 & 1);
+                    active--;
+                } else if (remainingPieces[game] == 0) {
+                    finish(game, EMPTY, DRAW);
+                    active--;
+                } else {
+                    hand(game, random.nextInt(Integer.bitCount(remainingPieces[game])));
+                }
+            }
+            turn++;
+        }
+    }
+
+    /**
+     * Places the next {@code QuartoPiece} of the provided game at a random empty index.
+     * @param game The number of the game
+     * @param bits Random bits to choose the index with
+     */
+    private void place(int game, long bits) {
+        int empty = ~(int) occupied[game] & QuartoGame.ALL_PIECES;
+        int choice = (int) ((bits & 0xFFFF_FFFFL) * Integer.bitCount(empty) >>> 32);
+        int index = Integer.numberOfTrailingZeros((int) Long.expand(1L << choice, empty));
+        attributes[game] |= QuartoBoard.toPlanes(nextPieces[game]) << index;
+        occupied[game] |= 1L << index;
+        placedIndices[game] = index;
+    }
+
+    /**
+     * Hands over one of the remaining {@code QuartoPiece}s of the provided game.
+     * @param game The number of the game
+     * @param choice The position among the set bits of the remaining {@code QuartoPiece}s
+     */
+    private void hand(int game, int choice) {
+        int remaining = remainingPieces[game];
+        int piece = Integer.numberOfTrailingZeros((int) Long.expand(1L << choice, remaining));
+        record(game, piece);
+        remainingPieces[game] = remaining & ~(1 << piece);
+        nextPieces[game] = piece;
+    }
+
+    /**
+     * Ends the provided game with a {@code Move} handing over the provided {@code QuartoPiece}.
+     * @param game The number of the game
+     * @param piece The ordinal of {@code QUARTO} for a call, or of {@code EMPTY} for a draw
+     * @param winner The index of the winning {@code Player}, or {@link #DRAW}
+     */
+    private void finish(int game, int piece, int winner) {
+        record(game, piece);
+        winners[game] = winner;
+    }
+
+    /**
+     * Records the {@code Move} of the current turn of the provided game, if {@code Move}s are
+     * recorded.
+     * @param game The number of the game
+     * @param piece The ordinal of the handed {@code QuartoPiece}
+     */
+    private void record(int game, int piece) {
+        if (traces != null) {
+            traces[game * MAX_MOVES + traceLengths[game]++] = Move.pack(placedIndices[game],
+                                                                         piece);
+        }
+    }
+
+    /**
+     * Returns the winner of the provided game of the last {@link #playOut} call.
+     * @param game The number of the game
+     * @return The index of the winning {@code Player} as described by
+     *          {@link QuartoState#getWinnerIndex()}, or {@link #DRAW}
+     */
+    public int getWinner(int game) {
+        return winners[game];
+    }
+
+    /**
+     * Copies the recorded {@code Move}s of the provided game of the last {@link #playOut} call.
+     * @param game The number of the game
+     * @param moves The array to copy the packed {@code Move}s into, of at least
+     *          {@link #MAX_MOVES} elements
+     * @return The number of copied {@code Move}s
+     * @throws IllegalStateException Thrown if {@code Move}s are not recorded
+     */
+    public int getMoves(int game, int[] moves) {
+        if (traces == null) {
+            throw new IllegalStateException("Moves are not recorded");
+        }
+        System.arraycopy(traces, game * MAX_MOVES, moves, 0, traceLengths[game]);
+        return traceLengths[game];
+    }
+
+    /**
+     * Returns the number of games that are played at once.
+     * @return The number of games
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Checks whether QUARTOs are found with the Vector API.
+     * @return {@code True}: The Vector API is used. <br>
+     *          {@code False}: The scalar check is used.
+     */
+    public boolean isVectorized() {
+        return vectorized;
+    }
+}
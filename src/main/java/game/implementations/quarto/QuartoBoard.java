@@ -1,76 +1,376 @@
 package game.implementations.quarto;
 
-import game.abstracts.AbstractBoard;
+import game.interfaces.Board;
 import java.util.Arrays;
 
 //TODO make dynamic BOARD_DISPLAY & SEPARATOR
 
 /**
- * Implementation of {@code AbstractBoard} which defines {@code QuartoPiece} as the type of
- * {@code Piece} on a {@code QuartoBoard}.
+ * Implementation of {@code Board} which defines {@code QuartoPiece} as the type of {@code Piece}
+ * on a {@code QuartoBoard}. The board is stored as a bitboard: one 16-bit plane per attribute of a
+ * {@code QuartoPiece}, packed into a single {@code long}, and a 16-bit mask of the occupied
+ * positions.
  *
- * @see AbstractBoard
+ * @see Board
  * @see QuartoPiece
  * @see game.interfaces.Piece
  */
-public final class QuartoBoard extends AbstractBoard<QuartoPiece> {
+public final class QuartoBoard implements Board<QuartoPiece> {
+    /**
+     * The number of positions, and thus of bits, in each attribute plane.
+     */
+    static final int PLANE_SIZE = 16;
+
+    /**
+     * The number of {@code QuartoPiece}s that have attributes and can be placed on the board.
+     */
+    static final int PIECE_COUNT = 16;
+
+    /**
+     * Bitmask with the lowest bit of every attribute plane set; shifting it left by an index gives
+     * the bits of all attributes at that index.
+     */
+    static final long PLANES = 0x0001_0001_0001_0001L;
+
+    private static final int BOARD_LENGTH = 4;
+    private static final QuartoPiece[] PIECES = QuartoPiece.values();
     private static final String[] BOARD_DISPLAY =
             {" 00 | 01 | 02 | 03 ", " 04 | 05 | 06 | 07 ", " 08 | 09 | 10 | 11 ",
                     " 12 | 13 | 14 | 15 "};
     private static final String SEPARATOR = "----+----+----+----";
+    private static final String DELIM = "    ";
+    private static final long HIGHEST_BITS = PLANES << (PLANE_SIZE - 1);
+    private static final long[] SPREAD = new long[PIECE_COUNT];
+
+    /**
+     * The masks of the ten lines on which a QUARTO can be made: the four rows, the four columns,
+     * the diagonal and the anti-diagonal.
+     */
+    private static final int[] LINES = {0x000F, 0x00F0, 0x0F00, 0xF000, 0x1111, 0x2222, 0x4444,
+            0x8888, 0x8421, 0x1248};
+
+    /**
+     * The most lines that can go through a single index: its row, its column and one diagonal.
+     */
+    private static final int MAX_LINES_THROUGH = 3;
 
     /**
-     * Constructs a new {@code QuartoBoard}, with side-length equal to the provided
+     * For every index {@code i}, the masks of the lines through that index, replicated over all
+     * attribute planes, are stored from {@code i * MAX_LINES_THROUGH} onward; unused slots are 0.
+     */
+    private static final long[] LINES_THROUGH = new long[PLANE_SIZE * MAX_LINES_THROUGH];
+
+    /**
+     * The number of lines on which a QUARTO can be made.
+     */
+    static final int LINE_COUNT = LINES.length;
+
+    /**
+     * The number of bits of a line counter: three bits counting the {@code QuartoPiece}s with each
+     * of the four attributes, followed by three bits counting all {@code QuartoPiece}s on the line.
+     */
+    static final int COUNTER_SIZE = 16;
+
+    private static final int ATTRIBUTE_COUNT = 4;
+    private static final int TOTAL_SHIFT = 3 * ATTRIBUTE_COUNT;
+    private static final int[] COUNTER_INCREMENTS = new int[PIECE_COUNT];
+
+    /**
+     * For every line counter without its total, the attribute values that complete the line if it
+     * holds three {@code QuartoPiece}s, in the layout of {@link #toAttributeValues(int)}.
+     */
+    private static final byte[] THREATS = new byte[1 << TOTAL_SHIFT];
+
+    /**
+     * For every set of attribute values, the mask of {@code QuartoPiece}s that have any of them.
+     */
+    private static final int[] MATCHING_PIECES = new int[1 << 2 * ATTRIBUTE_COUNT];
+
+    static {
+        for (int i = 0; i < PIECE_COUNT; i++) {
+            SPREAD[i] = Long.expand(i, PLANES);
+            COUNTER_INCREMENTS[i] = (int) Long.expand(i, 0x249) | 1 << TOTAL_SHIFT;
+        }
+        for (int counter = 0; counter < THREATS.length; counter++) {
+            int threats = 0;
+            for (int attribute = 0; attribute < ATTRIBUTE_COUNT; attribute++) {
+                int count = counter >>> 3 * attribute & 7;
+                if (count == 3) {
+                    threats |= 1 << attribute;
+                } else if (count == 0) {
+                    threats |= 1 << ATTRIBUTE_COUNT + attribute;
+                }
+            }
+            THREATS[counter] = (byte) threats;
+        }
+        for (int values = 0; values < MATCHING_PIECES.length; values++) {
+            for (int piece = 0; piece < PIECE_COUNT; piece++) {
+                if ((toAttributeValues(piece) & values) != 0) {
+                    MATCHING_PIECES[values] |= 1 << piece;
+                }
+            }
+        }
+        for (int index = 0; index < PLANE_SIZE; index++) {
+            int square = 1 << index;
+            long[] lines = Arrays.stream(LINES).filter(line -> (line & square) != 0)
+                    .mapToLong(line -> line * PLANES).toArray();
+            System.arraycopy(lines, 0, LINES_THROUGH, index * MAX_LINES_THROUGH, lines.length);
+        }
+    }
+
+    private long attributes;
+    private short occupied;
+
+    /**
+     * Constructs a new, empty, {@code QuartoBoard}, with side-length equal to the provided
      * {@code boardLength}.
-     * @param boardLength The provided side-length of this {@code QuartoBoard}
+     * @param boardLength The provided side-length of this {@code QuartoBoard}; must be 4, as each
+     *          attribute plane holds exactly 16 positions
+     * @throws IllegalArgumentException Thrown if {@code boardLength} is not 4
      */
     public QuartoBoard(int boardLength) {
-        super(boardLength);
-        fields = new QuartoPiece[totalPositions];
-        Arrays.fill(fields, QuartoPiece.EMPTY);
+        if (boardLength != BOARD_LENGTH) {
+            throw new IllegalArgumentException("A QuartoBoard must have a side-length of 4");
+        }
     }
 
     /**
-     * Constructs a copy of the provided {@code QuartoBoard}, deep-copying the fields specified in
-     * this implementation and otherwise using the parent's, {@code AbstractBoard}'s, copy
-     * constructor.
-     * @param original The original {@code QuartoBoard} which the constructed copy is based off of
+     * Constructs a {@code QuartoBoard} from its primitive representation.
+     * @param attributes The attribute planes, as described by {@link #getAttributes()}
+     * @param occupied The mask of occupied indices, as described by {@link #getOccupied()}
      */
-    private QuartoBoard(QuartoBoard original) {
-        super(original);
-        fields = new QuartoPiece[totalPositions];
-        System.arraycopy(original.fields, 0, fields, 0, totalPositions);
+    QuartoBoard(long attributes, int occupied) {
+        this.attributes = attributes;
+        this.occupied = (short) occupied;
     }
 
     @Override
     public QuartoBoard deepCopy() {
-        return new QuartoBoard(this);
+        return new QuartoBoard(attributes, occupied);
     }
 
     @Override
     public boolean isValidField(int index) {
-        return index > -1 && index < totalPositions;
+        return index > -1 && index < PLANE_SIZE;
+    }
+
+    /**
+     * Replaces the {@code QuartoPiece} found at the provided index. {@code QuartoPiece}s without
+     * attributes, i.e. {@code EMPTY} and {@code QUARTO}, leave the index empty.
+     * @param index The index of the value to change
+     * @param piece The new {@code QuartoPiece}
+     */
+    @Override
+    public void setField(int index, QuartoPiece piece) {
+        int ordinal = piece.ordinal();
+        attributes &= ~(PLANES << index);
+        occupied &= (short) ~(1 << index);
+        if (ordinal < PIECE_COUNT) {
+            attributes |= toPlanes(ordinal) << index;
+            occupied |= (short) (1 << index);
+        }
+    }
+
+    @Override
+    public QuartoPiece getField(int index) {
+        if ((occupied >>> index & 1) == 0) {
+            return QuartoPiece.EMPTY;
+        }
+        return PIECES[toPiece(attributes, index)];
+    }
+
+    @Override
+    public int getTotalPositions() {
+        return PLANE_SIZE;
+    }
+
+    /**
+     * Returns the attribute planes of this {@code QuartoBoard}: bit {@code 16 * a + i} is set if
+     * the {@code QuartoPiece} at index {@code i} has attribute {@code a}, i.e. if bit {@code a} of
+     * its ordinal is set.
+     * @return The attribute planes of this {@code QuartoBoard}
+     */
+    long getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the mask of occupied indices of this {@code QuartoBoard}, with bit {@code i} set if
+     * index {@code i} holds a {@code QuartoPiece}.
+     * @return The mask of occupied indices of this {@code QuartoBoard}
+     */
+    int getOccupied() {
+        return occupied & 0xFFFF;
+    }
+
+    /**
+     * Spreads the attributes of the {@code QuartoPiece} with the provided ordinal over the
+     * attribute planes, such that shifting the result left by an index places the
+     * {@code QuartoPiece} at that index.
+     * @param piece The ordinal of the {@code QuartoPiece}; must be below {@link #PIECE_COUNT}
+     * @return The attributes of the {@code QuartoPiece}, one bit per attribute plane
+     */
+    static long toPlanes(int piece) {
+        return SPREAD[piece];
+    }
+
+    /**
+     * Gathers the attributes at the provided index of the provided attribute planes back into the
+     * ordinal of a {@code QuartoPiece}; the inverse of {@link #toPlanes(int)}.
+     * @param attributes The attribute planes
+     * @param index The index of the (occupied) position
+     * @return The ordinal of the {@code QuartoPiece} at the provided index
+     */
+    static int toPiece(long attributes, int index) {
+        return (int) Long.compress(attributes >>> index, PLANES);
+    }
+
+    /**
+     * Checks whether the {@code QuartoPiece} at the provided index lies on a line of four
+     * {@code QuartoPiece}s sharing at least one attribute. Only the two to three lines through the
+     * index are checked, using precomputed masks, and only those that are fully occupied have
+     * their attributes compared.
+     * @param attributes The attribute planes
+     * @param occupied The mask of occupied indices
+     * @param index The index to check the lines through
+     * @return {@code True}: a line through the index is a QUARTO <br>
+     *          {@code False}: no line through the index is a QUARTO
+     */
+    static boolean isQuarto(long attributes, int occupied, int index) {
+        int end = (index + 1) * MAX_LINES_THROUGH;
+        for (int i = index * MAX_LINES_THROUGH; i < end; i++) {
+            long line = LINES_THROUGH[i];
+            int squares = (int) line & 0xFFFF;
+            if (squares != 0 && (occupied & squares) == squares &&
+                    sharesAttribute(attributes, line)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks whether any line of the board holds four {@code QuartoPiece}s sharing at least one
+     * attribute, as described by {@link #isQuarto(long, int, int)}.
+     * @param attributes The attribute planes
+     * @param occupied The mask of occupied indices
+     * @return {@code True}: a line of the board is a QUARTO <br>
+     *          {@code False}: no line of the board is a QUARTO
+     */
+    static boolean hasQuarto(long attributes, int occupied) {
+        for (int squares : LINES) {
+            if ((occupied & squares) == squares && sharesAttribute(attributes, squares * PLANES)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks, without branching, whether the {@code QuartoPiece}s on the provided line share at
+     * least one attribute. Every attribute plane is masked by the line at once, after which an
+     * attribute is shared if its plane is either empty or completely filled by the line. Empty
+     * planes are found with the well-known borrow trick for finding a zero lane in a word.
+     * @param attributes The attribute planes
+     * @param line The mask of a fully occupied line, replicated over all attribute planes
+     * @return {@code True}: the {@code QuartoPiece}s share an attribute <br>
+     *          {@code False}: the {@code QuartoPiece}s share no attribute
+     */
+    static boolean sharesAttribute(long attributes, long line) {
+        long set = attributes & line;
+        long unset = set ^ line;
+        return (((set - PLANES) & ~set | (unset - PLANES) & ~unset) & HIGHEST_BITS) != 0;
+    }
+
+    /**
+     * Returns the mask of the line with the provided number: the rows first, then the columns, the
+     * diagonal and the anti-diagonal.
+     * @param line The number of the line, below {@link #LINE_COUNT}
+     * @return The mask of the indices on the line
+     */
+    static int getLine(int line) {
+        return LINES[line];
+    }
+
+    /**
+     * Returns the value to add to a line counter when the {@code QuartoPiece} with the provided
+     * ordinal is placed on its line, as described by {@link #COUNTER_SIZE}.
+     * @param piece The ordinal of the {@code QuartoPiece}; must be below {@link #PIECE_COUNT}
+     * @return The increment of the line counter
+     */
+    static int toCounterIncrement(int piece) {
+        return COUNTER_INCREMENTS[piece];
+    }
+
+    /**
+     * Returns the attribute values of the {@code QuartoPiece} with the provided ordinal: bit
+     * {@code a} is set if it has attribute {@code a}, and bit {@code 4 + a} if it does not.
+     * @param piece The ordinal of the {@code QuartoPiece}; must be below {@link #PIECE_COUNT}
+     * @return The attribute values of the {@code QuartoPiece}
+     */
+    static int toAttributeValues(int piece) {
+        return piece | (~piece & 0xF) << ATTRIBUTE_COUNT;
+    }
+
+    /**
+     * Returns the attribute values that a {@code QuartoPiece} placed on the empty index of a line
+     * holding three {@code QuartoPiece}s must have to complete a QUARTO on it.
+     * @param counter The line counter, as described by {@link #COUNTER_SIZE}
+     * @return The attribute values, in the layout of {@link #toAttributeValues(int)}, that complete
+     *          the line; {@code 0} if the line does not hold exactly three {@code QuartoPiece}s
+     */
+    static int getThreats(int counter) {
+        if (counter >>> TOTAL_SHIFT != 3) {
+            return 0;
+        }
+        return THREATS[counter & (1 << TOTAL_SHIFT) - 1] & 0xFF;
+    }
+
+    /**
+     * Returns the mask of {@code QuartoPiece}s which have any of the provided attribute values.
+     * @param values The attribute values, in the layout of {@link #toAttributeValues(int)}
+     * @return The mask of {@code QuartoPiece}s, with bit {@code i} set for ordinal {@code i}
+     */
+    static int getMatchingPieces(int values) {
+        return MATCHING_PIECES[values];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QuartoBoard that = (QuartoBoard) o;
+        return attributes == that.attributes && occupied == that.occupied;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(attributes) + occupied;
     }
 
     @Override
     public String toString() {
         StringBuilder display = new StringBuilder();
-        for (int i = 0; i < boardLength; i++) {
+        for (int i = 0; i < BOARD_LENGTH; i++) {
             StringBuilder row = new StringBuilder();
-            int rowVal = i * boardLength;
-            for (int j = 0; j < boardLength; j++) {
+            int rowVal = i * BOARD_LENGTH;
+            for (int j = 0; j < BOARD_LENGTH; j++) {
                 String pieceChars = getField(rowVal + j).getDisplay();
                 if (pieceChars.equals("DRAW")) {
                     row.append(DELIM);
                 } else {
                     row.append(pieceChars);
                 }
-                if (j < boardLength - 1) {
+                if (j < BOARD_LENGTH - 1) {
                     row.append("|");
                 }
             }
             display.append(row).append(DELIM).append(BOARD_DISPLAY[i]);
-            if (i < boardLength - 1) {
+            if (i < BOARD_LENGTH - 1) {
                 display.append("\n").append(SEPARATOR).append(DELIM).append(SEPARATOR).append("\n");
             }
         }
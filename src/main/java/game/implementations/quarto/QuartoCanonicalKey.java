@@ -0,0 +1,75 @@
+package game.implementations.quarto;
+
+/**
+ * The canonical 128-bit key of a {@code QuartoGame}, shared by every position that is equivalent
+ * to it under a {@code QuartoSymmetry}, together with the {@code QuartoSymmetry} that maps the
+ * {@code QuartoGame} it was created from onto the canonical position. Keys are equal if their
+ * 128 bits are equal, regardless of the {@code QuartoSymmetry} that was used to reach them.
+ *
+ * @see QuartoCanonicalizer
+ * @see QuartoSymmetry
+ */
+public final class QuartoCanonicalKey {
+    private final long high;
+    private final long low;
+    private final QuartoSymmetry symmetry;
+
+    /**
+     * Constructs a new {@code QuartoCanonicalKey} from the provided halves and
+     * {@code QuartoSymmetry}.
+     * @param high The attribute planes of the canonical position
+     * @param low The occupied indices and next {@code QuartoPiece} of the canonical position
+     * @param symmetry The {@code QuartoSymmetry} which maps the original position onto the
+     *          canonical position
+     */
+    QuartoCanonicalKey(long high, long low, QuartoSymmetry symmetry) {
+        this.high = high;
+        this.low = low;
+        this.symmetry = symmetry;
+    }
+
+    /**
+     * Returns the upper 64 bits of this {@code QuartoCanonicalKey}: the attribute planes of the
+     * canonical position, in the layout of {@link QuartoBoard#getAttributes()}.
+     * @return The upper 64 bits of this {@code QuartoCanonicalKey}
+     */
+    public long getHigh() {
+        return high;
+    }
+
+    /**
+     * Returns the lower 64 bits of this {@code QuartoCanonicalKey}: the mask of occupied indices
+     * of the canonical position shifted left by 8, combined with the ordinal of its next
+     * {@code QuartoPiece}.
+     * @return The lower 64 bits of this {@code QuartoCanonicalKey}
+     */
+    public long getLow() {
+        return low;
+    }
+
+    /**
+     * Returns the {@code QuartoSymmetry} which maps the original position onto the canonical
+     * position; its inverse maps {@code QuartoMove}s on the canonical position back.
+     * @return The {@code QuartoSymmetry} used to reach the canonical position
+     */
+    public QuartoSymmetry getSymmetry() {
+        return symmetry;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QuartoCanonicalKey that = (QuartoCanonicalKey) o;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(high) + Long.hashCode(low);
+    }
+}
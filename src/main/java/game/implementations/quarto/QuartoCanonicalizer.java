@@ -0,0 +1,145 @@
+package game.implementations.quarto;
+
+import exceptions.IllegalInitializationException;
+import game.interfaces.Game;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility class which maps every {@code QuartoGame} onto a canonical position, such that all
+ * positions that are equivalent under a {@code QuartoSymmetry} share a single
+ * {@code QuartoCanonicalKey}. Caches and searches keyed on it store each class of equivalent
+ * positions only once.
+ *
+ * @see QuartoCanonicalKey
+ * @see QuartoSymmetry
+ * @see exceptions.IllegalInitializationException
+ */
+public final class QuartoCanonicalizer {
+    private static final int ATTRIBUTES = 4;
+    private static final int PLANE_MASK = 0xFFFF;
+    private static final int NEXT_PIECE_BITS = 8;
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private QuartoCanonicalizer() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Returns the {@code QuartoCanonicalKey} of the provided {@code QuartoGame}.
+     * <p>
+     * Every symmetry of the board is tried, and for each the best symmetry of the
+     * {@code QuartoPiece}s is found directly rather than by trying all 384: each attribute plane
+     * is complemented if that makes it smaller, after which the planes are sorted. Attributes
+     * whose planes end up equal can be swapped without changing the board, so these are ordered
+     * such that the next {@code QuartoPiece} is as small as possible. If the board is empty, every
+     * attribute can be complemented freely and the next {@code QuartoPiece} becomes ordinal 0. The
+     * smallest of the 32 candidates is the canonical position.
+     * @param game The {@code QuartoGame} to canonicalize
+     * @return The {@code QuartoCanonicalKey} of the provided {@code QuartoGame}
+     */
+    public static QuartoCanonicalKey canonicalize(QuartoGame game) {
+        long attributes = game.getAttributes();
+        int occupied = game.getOccupied();
+        int next = game.getNextPiece();
+        boolean hasAttributes = next < QuartoBoard.PIECE_COUNT;
+
+        long bestHigh = 0;
+        long bestLow = 0;
+        int bestBoard = -1;
+        int bestFlip = 0;
+        int[] bestOrder = new int[ATTRIBUTES];
+        int[] keys = new int[ATTRIBUTES];
+        for (int board = 0; board < QuartoSymmetry.BOARD_SYMMETRIES; board++) {
+            long mapped = 0;
+            int mappedOccupied = 0;
+            for (int rest = occupied; rest != 0; rest &= rest - 1) {
+                int index = Integer.numberOfTrailingZeros(rest);
+                int target = QuartoSymmetry.mapIndex(board, index);
+                mapped |= (attributes >>> index & QuartoBoard.PLANES) << target;
+                mappedOccupied |= 1 << target;
+            }
+
+            int flip = 0;
+            for (int a = 0; a < ATTRIBUTES; a++) {
+                int plane = (int) (mapped >>> a * QuartoBoard.PLANE_SIZE) & PLANE_MASK;
+                int bit = hasAttributes ? next >>> a & 1 : 0;
+                if (mappedOccupied == 0 ? bit == 1 : (plane ^ mappedOccupied) < plane) {
+                    plane ^= mappedOccupied;
+                    bit ^= 1;
+                    flip |= 1 << a;
+                }
+                keys[a] = (plane << 1 | bit ^ 1) << 2 | a;
+            }
+            Arrays.sort(keys);
+
+            long high = 0;
+            int piece = 0;
+            for (int k = 0; k < ATTRIBUTES; k++) {
+                high |= (long) (keys[k] >>> 3) << k * QuartoBoard.PLANE_SIZE;
+                piece |= (keys[k] >>> 2 & 1 ^ 1) << k;
+            }
+            long low = (long) mappedOccupied << NEXT_PIECE_BITS | (hasAttributes ? piece : next);
+            int comparison = Long.compareUnsigned(high, bestHigh);
+            if (bestBoard < 0 || comparison < 0 ||
+                    comparison == 0 && Long.compareUnsigned(low, bestLow) < 0) {
+                bestHigh = high;
+                bestLow = low;
+                bestBoard = board;
+                bestFlip = flip;
+                for (int k = 0; k < ATTRIBUTES; k++) {
+                    bestOrder[k] = keys[k] & 3;
+                }
+            }
+        }
+        return new QuartoCanonicalKey(bestHigh, bestLow,
+                                      QuartoSymmetry.of(bestBoard, bestFlip, bestOrder));
+    }
+
+    /**
+     * Returns a 64-bit hash of the {@code QuartoCanonicalKey} of the provided {@code Game}, so
+     * that all equivalent positions share it. The two halves of the key are mixed such that
+     * every bit of the hash depends on every bit of the key, which suits hash tables that use
+     * any part of it.
+     * @param game The {@code QuartoGame} to hash
+     * @return The 64-bit hash of the canonical position of the {@code QuartoGame}
+     * @throws ClassCastException Thrown if the provided {@code Game} is not a {@code QuartoGame}
+     */
+    public static long canonicalHash(Game<QuartoPiece> game) {
+        QuartoCanonicalKey key = canonicalize((QuartoGame) game);
+        long hash = key.getHigh() * 0x9E3779B97F4A7C15L ^ key.getLow();
+        hash = (hash ^ hash >>> 33) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ hash >>> 33) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ hash >>> 33;
+    }
+
+    /**
+     * Returns the valid {@code QuartoMove}s of the provided {@code QuartoGame}, keeping only the
+     * first of every group of {@code QuartoMove}s that lead to equivalent positions. Before the
+     * first {@code QuartoPiece} is placed, this reduces the 256 valid {@code QuartoMove}s to one,
+     * and the first placement is reduced to the two distinct kinds of index: on a diagonal or off
+     * both diagonals.
+     * @param game The {@code QuartoGame} to find the distinct {@code QuartoMove}s of
+     * @return The valid {@code QuartoMove}s, without {@code QuartoMove}s equivalent to earlier ones
+     */
+    public static List<QuartoMove> getDistinctMoves(QuartoGame game) {
+        QuartoGame copy = game.deepCopy();
+        Set<QuartoCanonicalKey> seen = new HashSet<>();
+        List<QuartoMove> distinctMoves = new ArrayList<>();
+        for (QuartoMove move : game.getValidMoves()) {
+            copy.doMove(move);
+            if (seen.add(canonicalize(copy))) {
+                distinctMoves.add(move);
+            }
+            copy.undoMove(move);
+        }
+        return distinctMoves;
+    }
+}
@@ -0,0 +1,143 @@
+package game.implementations.quarto;
+
+import exceptions.IllegalInitializationException;
+import java.util.HexFormat;
+
+/**
+ * Utility class which encodes a complete Quarto position into 128 bits, as two {@code long}s,
+ * and decodes it back, so that positions can be cached, stored and sent at a fixed size.
+ * <p>
+ * The high {@code long} holds the attribute planes of the board, in the layout described by
+ * {@link QuartoBoard#getAttributes()}. The low {@code long} holds, from the lowest bit up:
+ * <ul>
+ *     <li>bits 0-15: the mask of occupied indices;</li>
+ *     <li>bits 16-31: the mask of {@code QuartoPiece}s that are neither placed nor next;</li>
+ *     <li>bits 32-39: the ordinal of the next {@code QuartoPiece};</li>
+ *     <li>bits 40-47: the number of the turn that is to be played;</li>
+ *     <li>bits 48-55: the turn on which the first QUARTO was made, or 0;</li>
+ *     <li>bits 56-63: reserved, always 0.</li>
+ * </ul>
+ * The active {@code Player} follows from the turn, and QUARTO has been called exactly if the next
+ * {@code QuartoPiece} is {@code QUARTO}. The text form is the 32 hexadecimal digits of the high
+ * and then the low {@code long}, which is safe to use in protocol messages and logs.
+ *
+ * @see QuartoState
+ * @see QuartoGame
+ * @see exceptions.IllegalInitializationException
+ */
+public final class QuartoCodec {
+    private static final int FIELD_MASK = 0xFF;
+    private static final int REMAINING_SHIFT = 16;
+    private static final int NEXT_PIECE_SHIFT = 32;
+    private static final int TURN_SHIFT = 40;
+    private static final int QUARTO_TURN_SHIFT = 48;
+    private static final int RESERVED_SHIFT = 56;
+    private static final int TEXT_LENGTH = 32;
+    private static final int QUARTO = QuartoPiece.QUARTO.ordinal();
+    private static final int EMPTY = QuartoPiece.EMPTY.ordinal();
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * The first turn on which a QUARTO can be made: the first {@code QuartoPiece} is placed on the
+     * second turn, so the fourth is placed on the fifth.
+     */
+    private static final int FIRST_QUARTO_TURN = 5;
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private QuartoCodec() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Returns the high {@code long} of the encoding of the provided {@code QuartoState}.
+     * @param state The {@code QuartoState} to encode
+     * @return The high {@code long} of the encoding
+     */
+    public static long encodeHigh(QuartoState state) {
+        return state.getAttributes();
+    }
+
+    /**
+     * Returns the low {@code long} of the encoding of the provided {@code QuartoState}.
+     * @param state The {@code QuartoState} to encode
+     * @return The low {@code long} of the encoding
+     */
+    public static long encodeLow(QuartoState state) {
+        return state.getOccupied() | (long) state.getRemainingPieces() << REMAINING_SHIFT |
+                (long) state.getNextPieceOrdinal() << NEXT_PIECE_SHIFT |
+                (long) state.getTurnCount() << TURN_SHIFT |
+                (long) state.getQuartoTurn() << QUARTO_TURN_SHIFT;
+    }
+
+    /**
+     * Decodes the provided {@code long}s back into the {@code QuartoState} they were encoded
+     * from, checking that they describe a position that can be reached in a Quarto game; the turn
+     * of the first QUARTO must be set exactly if a QUARTO is on the board, and QUARTO can only
+     * have been called once a {@code QuartoPiece} has been placed.
+     * @param high The high {@code long} of the encoding
+     * @param low The low {@code long} of the encoding
+     * @return The decoded {@code QuartoState}
+     * @throws IllegalArgumentException Thrown if the {@code long}s do not describe a reachable
+     *          position
+     */
+    public static QuartoState decode(long high, long low) {
+        int occupied = (int) low & QuartoGame.ALL_PIECES;
+        int remaining = (int) (low >>> REMAINING_SHIFT) & QuartoGame.ALL_PIECES;
+        int nextPiece = (int) (low >>> NEXT_PIECE_SHIFT) & FIELD_MASK;
+        int turnCounter = (int) (low >>> TURN_SHIFT) & FIELD_MASK;
+        int quartoTurn = (int) (low >>> QUARTO_TURN_SHIFT) & FIELD_MASK;
+
+        if (low >>> RESERVED_SHIFT != 0 || nextPiece > EMPTY || turnCounter < 1 ||
+                turnCounter > QuartoGame.LAST_TURN + 1 ||
+                (nextPiece == EMPTY) != (turnCounter == 1) && turnCounter <= QuartoGame.LAST_TURN ||
+                nextPiece == QUARTO && turnCounter <= 2 ||
+                quartoTurn != 0 && (quartoTurn < FIRST_QUARTO_TURN || quartoTurn >= turnCounter) ||
+                (high & ~(occupied * QuartoBoard.PLANES)) != 0) {
+            throw new IllegalArgumentException("Not an encoded QuartoState");
+        }
+        int placed = 0;
+        for (int rest = occupied; rest != 0; rest &= rest - 1) {
+            placed |= 1 << QuartoBoard.toPiece(high, Integer.numberOfTrailingZeros(rest));
+        }
+        if (Integer.bitCount(placed) != Integer.bitCount(occupied) ||
+                Integer.bitCount(occupied) != Math.max(turnCounter - 2, 0) ||
+                (placed >>> nextPiece & 1) != 0 ||
+                remaining != (QuartoGame.ALL_PIECES & ~placed & ~(1 << nextPiece)) ||
+                (quartoTurn != 0) != QuartoBoard.hasQuarto(high, occupied)) {
+            throw new IllegalArgumentException("Not a reachable QuartoState");
+        }
+        return new QuartoState(high, occupied, remaining, nextPiece, turnCounter, quartoTurn);
+    }
+
+    /**
+     * Returns the text form of the encoding of the provided {@code QuartoState}.
+     * @param state The {@code QuartoState} to encode
+     * @return The 32 hexadecimal digits of the encoding
+     */
+    public static String toText(QuartoState state) {
+        return HEX.toHexDigits(encodeHigh(state)) + HEX.toHexDigits(encodeLow(state));
+    }
+
+    /**
+     * Decodes the provided text form back into the {@code QuartoState} it was encoded from.
+     * @param text The 32 hexadecimal digits of the encoding
+     * @return The decoded {@code QuartoState}
+     * @throws IllegalArgumentException Thrown if the text is not the text form of a reachable
+     *          position
+     */
+    public static QuartoState fromText(String text) {
+        if (text.length() != TEXT_LENGTH) {
+            throw new IllegalArgumentException("Not an encoded QuartoState");
+        }
+        try {
+            return decode(HexFormat.fromHexDigitsToLong(text, 0, TEXT_LENGTH / 2),
+                          HexFormat.fromHexDigitsToLong(text, TEXT_LENGTH / 2, TEXT_LENGTH));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Not an encoded QuartoState", e);
+        }
+    }
+}
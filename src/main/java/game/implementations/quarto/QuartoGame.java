@@ -6,24 +6,88 @@ import game.interfaces.Player;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
-
-//TODO implement checkIfQuarto helper method to reduce duplicate code
+import java.util.SplittableRandom;
 
 /**
  * Implementation of {@code AbstractGame} which defines {@code QuartoPiece} as the type of
- * {@code Piece} to be used in a {@code QuartoGame}.
+ * {@code Piece} to be used in a {@code QuartoGame}. The state is kept entirely in primitive form:
+ * the board is stored in the same bitboard layout as a {@code QuartoBoard} and the pool of
+ * playable {@code QuartoPiece}s is a bitmask, so that copying a {@code QuartoGame} is a handful of
+ * primitive assignments. A Zobrist key of the state is maintained alongside it, as are counters
+ * of the attributes on every line, from which the squares that win and the {@code QuartoPiece}s
+ * that must not be handed over are known without trying any {@code Move}.
  *
  * @see AbstractGame
+ * @see QuartoBoard
  * @see QuartoPiece
  * @see Player
  * @see game.interfaces.Piece
  */
 public final class QuartoGame extends AbstractGame<QuartoPiece> {
-    private static final int BOARD_LENGTH = 4;
+    /**
+     * The last turn on which a {@code Move} can be played, i.e. the turn placing the final
+     * {@code QuartoPiece}.
+     */
+    static final int LAST_TURN = 17;
+
+    /**
+     * The bitmask of all {@code QuartoPiece}s with attributes, and of all indices of the board.
+     */
+    static final int ALL_PIECES = 0xFFFF;
+
+    private static final int QUARTO = QuartoPiece.QUARTO.ordinal();
+    private static final int EMPTY = QuartoPiece.EMPTY.ordinal();
+    private static final QuartoPiece[] PIECES = QuartoPiece.values();
+
+    /**
+     * The seed of the Zobrist keys; fixed so that keys are the same in every process and can be
+     * stored, e.g. in an opening book.
+     */
+    private static final long ZOBRIST_SEED = 0x5155_4152_544FL;
+
+    /**
+     * The Zobrist keys of every {@code QuartoPiece} on every index, at {@code piece << 4 | index}.
+     */
+    private static final long[] PLACED_KEYS = new long[QuartoBoard.PIECE_COUNT *
+            QuartoBoard.PLANE_SIZE];
+
+    /**
+     * The Zobrist keys of every {@code QuartoPiece} being the next piece to be played. A QUARTO
+     * call is covered by {@code QUARTO} being the next piece.
+     */
+    private static final long[] NEXT_PIECE_KEYS = new long[PIECES.length];
+
+    /**
+     * The Zobrist key of the second {@code Player} being the active {@code Player}.
+     */
+    private static final long TURN_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(ZOBRIST_SEED);
+        for (int i = 0; i < PLACED_KEYS.length; i++) {
+            PLACED_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < NEXT_PIECE_KEYS.length; i++) {
+            NEXT_PIECE_KEYS[i] = random.nextLong();
+        }
+        TURN_KEY = random.nextLong();
+    }
 
-    private QuartoPiece nextPiece;
-    private boolean quarto = false;
+    private long attributes;
+    private short occupied;
+    private short remainingPieces;
+    private byte nextPiece;
+    private byte quartoTurn = 0;
     private boolean calledQuarto = false;
+    private long zobristKey;
+
+    /**
+     * The counters of the rows, the columns and the diagonals, in that order, each line taking up
+     * {@link QuartoBoard#COUNTER_SIZE} bits.
+     */
+    private long rowCounters;
+    private long columnCounters;
+    private int diagonalCounters;
 
     /**
      * Constructs a new {@code QuartoGame}, with the arguments becoming the {@code Player}s of
@@ -33,9 +97,36 @@ public final class QuartoGame extends AbstractGame<QuartoPiece> {
      */
     public QuartoGame(Player<QuartoPiece> player1, Player<QuartoPiece> player2) {
         super(player1, player2);
-        board = new QuartoBoard(BOARD_LENGTH);
-        validPieces = EnumSet.complementOf(EnumSet.of(QuartoPiece.EMPTY, QuartoPiece.QUARTO));
-        nextPiece = QuartoPiece.EMPTY;
+        remainingPieces = (short) ALL_PIECES;
+        nextPiece = (byte) EMPTY;
+        zobristKey = NEXT_PIECE_KEYS[EMPTY];
+    }
+
+    /**
+     * Constructs a new {@code QuartoGame} in the provided state, with the arguments becoming the
+     * {@code Player}s of this new {@code QuartoGame}; the turn of the state decides which of them
+     * is active.
+     * @param player1 The provided {@code Player}, who took the first turn
+     * @param player2 The provided {@code Player}, who took the second turn
+     * @param state The state to continue from
+     */
+    public QuartoGame(Player<QuartoPiece> player1, Player<QuartoPiece> player2, QuartoState state) {
+        super(player1, player2);
+        attributes = state.getAttributes();
+        occupied = (short) state.getOccupied();
+        remainingPieces = (short) state.getRemainingPieces();
+        nextPiece = (byte) state.getNextPieceOrdinal();
+        quartoTurn = (byte) state.getQuartoTurn();
+        calledQuarto = nextPiece == QUARTO;
+        turnCounter = state.getTurnCount();
+        turn = (byte) (turnCounter - 1 & 1);
+        zobristKey = NEXT_PIECE_KEYS[nextPiece] ^ (turn == 1 ? TURN_KEY : 0);
+        for (int rest = occupied & ALL_PIECES; rest != 0; rest &= rest - 1) {
+            int index = Integer.numberOfTrailingZeros(rest);
+            int piece = QuartoBoard.toPiece(attributes, index);
+            zobristKey ^= PLACED_KEYS[piece << 4 | index];
+            updateCounters(piece, index, 1);
+        }
     }
 
     /**
@@ -46,9 +137,16 @@ public final class QuartoGame extends AbstractGame<QuartoPiece> {
      */
     private QuartoGame(QuartoGame original) {
         super(original);
+        attributes = original.attributes;
+        occupied = original.occupied;
+        remainingPieces = original.remainingPieces;
         nextPiece = original.nextPiece;
-        quarto = original.quarto;
+        quartoTurn = original.quartoTurn;
         calledQuarto = original.calledQuarto;
+        zobristKey = original.zobristKey;
+        rowCounters = original.rowCounters;
+        columnCounters = original.columnCounters;
+        diagonalCounters = original.diagonalCounters;
     }
 
     @Override
@@ -58,144 +156,294 @@ public final class QuartoGame extends AbstractGame<QuartoPiece> {
 
     @Override
     public <U extends Move<QuartoPiece>> void doMove(U move) {
-        super.doMove(new QuartoMove(nextPiece, move.getIndex()));
-        checkIfQuarto(move.getIndex(), nextPiece.ordinal());
-        setNextPiece(move.getPiece());
+        play(move.getIndex(), move.getPiece().ordinal());
+    }
+
+    @Override
+    public void doMove(int move) {
+        play(Move.getIndex(move), Move.getPiece(move));
+    }
+
+    @Override
+    public <U extends Move<QuartoPiece>> void undoMove(U move) {
+        revert(move.getIndex());
+    }
+
+    @Override
+    public void undoMove(int move) {
+        revert(Move.getIndex(move));
     }
 
     /**
-     * Advances the game state by checking if the {@code QuartoPiece} described by its bitmask,
-     * {@code pieceMask}, lies on a 4-long line of {@code QuartoPiece}s sharing at least one
-     * attribute. If so, the {@code quarto} variable will be updated to reflect such.
-     * @param index The index of the {@code QuartoPiece} to check
-     * @param pieceMask The bitmask of the {@code QuartoPiece} to check
-     */
-    private void checkIfQuarto(int index, int pieceMask) {
-        if (quarto) {
-            return;
-        }
-
-        quarto = true;
-        // check row
-        int mask = 0;
-        int totalPositions = board.getTotalPositions();
-        int quotient = index / BOARD_LENGTH;
-        int start = quotient * BOARD_LENGTH;
-        int end = start + BOARD_LENGTH;
-        for (int i = start; i < end; i++) {
-            QuartoPiece piece = board.getField(i);
-            if (piece == QuartoPiece.EMPTY) {
-                mask = 0b1111;
-                break;
-            }
-            mask |= pieceMask ^ piece.ordinal();
+     * Places the next {@code QuartoPiece} at the provided index, unless no {@code QuartoPiece}
+     * has been handed over yet, and hands over the provided {@code QuartoPiece}.
+     * @param index The index to place the next {@code QuartoPiece} at
+     * @param handed The ordinal of the {@code QuartoPiece} to hand over
+     */
+    private void play(int index, int handed) {
+        int piece = nextPiece;
+        if (piece < QuartoBoard.PIECE_COUNT) {
+            attributes |= QuartoBoard.toPlanes(piece) << index;
+            occupied |= (short) (1 << index);
+            zobristKey ^= PLACED_KEYS[piece << 4 | index];
+            updateCounters(piece, index, 1);
+            checkIfQuarto(index);
         }
-        if ((mask & 0b1111) != 0b1111) {
-            return;
+        advanceTurn();
+        zobristKey ^= TURN_KEY ^ NEXT_PIECE_KEYS[piece];
+        setNextPiece(handed);
+    }
+
+    /**
+     * Reverts the most recently played {@code Move}, which placed its {@code QuartoPiece} at the
+     * provided index; the {@code QuartoPiece} it handed over is known to be the next one.
+     * @param index The index of the most recently played {@code Move}
+     */
+    private void revert(int index) {
+        retreatTurn();
+        calledQuarto = false;
+        remainingPieces |= (short) (1 << nextPiece);
+        zobristKey ^= TURN_KEY ^ NEXT_PIECE_KEYS[nextPiece];
+        if (quartoTurn == turnCounter) {
+            quartoTurn = 0;
+        }
+        if (turnCounter == 1) {
+            nextPiece = (byte) EMPTY;
+        } else {
+            nextPiece = (byte) QuartoBoard.toPiece(attributes, index);
+            attributes &= ~(QuartoBoard.PLANES << index);
+            occupied &= (short) ~(1 << index);
+            zobristKey ^= PLACED_KEYS[nextPiece << 4 | index];
+            updateCounters(nextPiece, index, -1);
         }
+        zobristKey ^= NEXT_PIECE_KEYS[nextPiece];
+    }
 
-        // check column
-        mask = 0;
-        int remainder = index - BOARD_LENGTH * quotient;
-        for (int i = remainder; i < totalPositions; i += BOARD_LENGTH) {
-            QuartoPiece piece = board.getField(i);
-            if (piece == QuartoPiece.EMPTY) {
-                mask = 0b1111;
-                break;
-            }
-            mask |= pieceMask ^ piece.ordinal();
-        }
-        if ((mask & 0b1111) != 0b1111) {
-            return;
-        }
-
-        // check diagonal
-        if (quotient == remainder) {
-            mask = 0;
-            for (int i = 0; i < totalPositions; i += BOARD_LENGTH + 1) {
-                QuartoPiece piece = board.getField(i);
-                if (piece == QuartoPiece.EMPTY) {
-                    mask = 0b1111;
-                    break;
-                }
-                mask |= pieceMask ^ piece.ordinal();
-            }
-            if ((mask & 0b1111) != 0b1111) {
-                return;
-            }
+    /**
+     * Adds the {@code QuartoPiece} with the provided ordinal to, or removes it from, the counters
+     * of the lines through the provided index.
+     * @param piece The ordinal of the {@code QuartoPiece}
+     * @param index The index the {@code QuartoPiece} is placed at or removed from
+     * @param sign {@code 1} to add the {@code QuartoPiece}, {@code -1} to remove it
+     */
+    private void updateCounters(int piece, int index, int sign) {
+        int increment = sign * QuartoBoard.toCounterIncrement(piece);
+        rowCounters += (long) increment << (index >>> 2) * QuartoBoard.COUNTER_SIZE;
+        columnCounters += (long) increment << (index & 3) * QuartoBoard.COUNTER_SIZE;
+        if (index % 5 == 0) {
+            diagonalCounters += increment;
         }
+        if (index % 3 == 0 && index > 0 && index < QuartoBoard.PLANE_SIZE - 1) {
+            diagonalCounters += increment << QuartoBoard.COUNTER_SIZE;
+        }
+    }
 
-        // check diagonal
-        if (remainder == totalPositions - 1 - quotient) {
-            mask = 0;
-            for (int i = BOARD_LENGTH - 1; i < totalPositions; i += BOARD_LENGTH - 1) {
-                QuartoPiece piece = board.getField(i);
-                if (piece == QuartoPiece.EMPTY) {
-                    mask = 0b1111;
-                    break;
-                }
-                mask |= pieceMask ^ piece.ordinal();
-            }
-            if ((mask & 0b1111) != 0b1111) {
-                return;
-            }
+    /**
+     * Returns the counter of the line with the provided number, as numbered by
+     * {@link QuartoBoard#getLine(int)}.
+     * @param line The number of the line
+     * @return The counter of the line, as described by {@link QuartoBoard#COUNTER_SIZE}
+     */
+    private int getCounter(int line) {
+        long counters = line < 4 ? rowCounters : line < 8 ? columnCounters : diagonalCounters;
+        return (int) (counters >>> (line & 3) * QuartoBoard.COUNTER_SIZE) & 0xFFFF;
+    }
+
+    /**
+     * Returns the attribute values that complete a QUARTO on any line of the board, as described
+     * by {@link QuartoBoard#getThreats(int)}.
+     * @return The attribute values that complete a line
+     */
+    private int getThreats() {
+        int threats = 0;
+        for (int line = 0; line < QuartoBoard.LINE_COUNT; line++) {
+            threats |= QuartoBoard.getThreats(getCounter(line));
         }
+        return threats;
+    }
 
-        quarto = false;
+    /**
+     * Advances the game state by checking if the {@code QuartoPiece} at the provided index lies on
+     * a 4-long line of {@code QuartoPiece}s sharing at least one attribute. If so, and no QUARTO
+     * has been made before, the {@code quartoTurn} variable will be updated to the current turn;
+     * remembering the turn allows {@code undoMove} to restore it exactly.
+     * @param index The index of the {@code QuartoPiece} to check
+     */
+    private void checkIfQuarto(int index) {
+        if (quartoTurn == 0 && QuartoBoard.isQuarto(attributes, occupied & ALL_PIECES, index)) {
+            quartoTurn = (byte) turnCounter;
+        }
     }
 
     /**
      * Advances the game state by removing the provided {@code QuartoPiece} from the pool of
      * playable {@code Piece}s and checks if other game advancements should be made according to
      * QUARTO game rules.
-     * @param piece The {@code QuartoPiece} that is to be removed from the pool of playable
-     *          {@code Piece}s
-     */
-    private void setNextPiece(QuartoPiece piece) {
-        nextPiece = piece;
-        validPieces.remove(piece);
-        if (turnCounter == 2) {
-            validPieces.add(QuartoPiece.QUARTO);
-        } else if (piece == QuartoPiece.QUARTO) {
+     * @param piece The ordinal of the {@code QuartoPiece} that is to be removed from the pool of
+     *          playable {@code Piece}s
+     */
+    private void setNextPiece(int piece) {
+        nextPiece = (byte) piece;
+        zobristKey ^= NEXT_PIECE_KEYS[piece];
+        remainingPieces &= (short) ~(1 << piece);
+        if (piece == QUARTO) {
             calledQuarto = true;
-        } else if (turnCounter == 17) {
-            validPieces.add(QuartoPiece.EMPTY);
-        } else if (piece == QuartoPiece.EMPTY) {
-            validPieces.remove(QuartoPiece.QUARTO);
         }
     }
 
+    /**
+     * Returns the bitmask of valid {@code QuartoPiece}s, with bit {@code i} set if the
+     * {@code QuartoPiece} with ordinal {@code i} is valid. QUARTO can be called from the second
+     * turn onward, and EMPTY is only valid on the last turn, to signify that QUARTO is not called.
+     * @return The bitmask of valid {@code QuartoPiece}s
+     */
+    private int getValidPieceMask() {
+        return getValidPieceMask(remainingPieces, turnCounter, calledQuarto);
+    }
+
+    /**
+     * Returns the bitmask of valid {@code QuartoPiece}s in a state with the provided properties,
+     * as described by {@link #getValidPieceMask()}.
+     * @param remainingPieces The bitmask of {@code QuartoPiece}s that are neither placed nor next
+     * @param turnCounter The number of the turn that is to be played
+     * @param calledQuarto Whether QUARTO has been called
+     * @return The bitmask of valid {@code QuartoPiece}s
+     */
+    static int getValidPieceMask(int remainingPieces, int turnCounter, boolean calledQuarto) {
+        int mask = remainingPieces & ALL_PIECES;
+        if (!calledQuarto && turnCounter > 1 && turnCounter <= LAST_TURN) {
+            mask |= 1 << QUARTO;
+            if (turnCounter == LAST_TURN) {
+                mask |= 1 << EMPTY;
+            }
+        }
+        return mask;
+    }
+
+    @Override
+    public EnumSet<QuartoPiece> getValidPieces() {
+        return toPieceSet(getValidPieceMask());
+    }
+
+    /**
+     * Returns the {@code QuartoPiece}s in the provided bitmask as a set.
+     * @param mask The bitmask of {@code QuartoPiece}s, with bit {@code i} set for ordinal {@code i}
+     * @return The set of {@code QuartoPiece}s in the bitmask
+     */
+    static EnumSet<QuartoPiece> toPieceSet(int mask) {
+        EnumSet<QuartoPiece> pieces = EnumSet.noneOf(QuartoPiece.class);
+        for (; mask != 0; mask &= mask - 1) {
+            pieces.add(PIECES[Integer.numberOfTrailingZeros(mask)]);
+        }
+        return pieces;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public QuartoMove returnMoveIfValid(QuartoPiece piece, int index) {
-        if (!isGameOver() && board.isValidField(index) &&
-                board.getField(index) == QuartoPiece.EMPTY && validPieces.contains(piece)) {
-            return new QuartoMove(piece, index);
+        if (index > -1 && index < QuartoBoard.PLANE_SIZE &&
+                isValidMove(Move.pack(index, piece.ordinal()))) {
+            return QuartoMove.of(piece, index);
         }
         return null;
     }
 
+    @Override
+    public boolean isValidMove(int move) {
+        return !isGameOver() && isValidMove(move, occupied, getValidPieceMask());
+    }
+
+    /**
+     * Checks if the provided packed {@code Move} places a {@code QuartoPiece} on an empty index
+     * and hands over a valid {@code QuartoPiece}, in a state that is not terminal.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @param occupied The mask of occupied indices of the board
+     * @param validPieces The bitmask of valid {@code QuartoPiece}s, as returned by
+     *          {@link #getValidPieceMask(int, int, boolean)}
+     * @return {@code True}: the packed {@code Move} is valid <br>
+     *          {@code False}: the packed {@code Move} is not valid
+     */
+    static boolean isValidMove(int move, int occupied, int validPieces) {
+        int index = Move.getIndex(move);
+        int piece = Move.getPiece(move);
+        return index < QuartoBoard.PLANE_SIZE && piece < PIECES.length &&
+                (occupied >>> index & 1) == 0 && (validPieces >>> piece & 1) != 0;
+    }
+
     @Override
     public boolean isGameOver() {
-        return calledQuarto || validPieces.isEmpty();
+        return calledQuarto || turnCounter > LAST_TURN;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public List<QuartoMove> getValidMoves() {
+        int[] moves = new int[getValidMoveCount()];
+        int count = fillValidMoves(moves);
+        List<QuartoMove> validMoves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            validMoves.add(toMove(moves[i]));
+        }
+        return validMoves;
+    }
+
+    @Override
+    public int getValidMoveCount() {
+        if (isGameOver()) {
+            return 0;
+        }
+        return countValidMoves(occupied, getValidPieceMask());
+    }
+
+    /**
+     * Returns the number of {@code Move}s that place a {@code QuartoPiece} on any empty index and
+     * hand over any of the provided valid {@code QuartoPiece}s.
+     * @param occupied The mask of occupied indices of the board
+     * @param validPieces The bitmask of valid {@code QuartoPiece}s
+     * @return The number of valid {@code Move}s
+     */
+    static int countValidMoves(int occupied, int validPieces) {
+        return Integer.bitCount(~occupied & ALL_PIECES) * Integer.bitCount(validPieces);
+    }
+
+    @Override
+    public int fillValidMoves(int[] moves) {
         if (isGameOver()) {
-            return List.of();
+            return 0;
         }
+        return fillValidMoves(moves, occupied, getValidPieceMask());
+    }
 
-        List<QuartoMove> validMoves = new ArrayList<>();
-        for (byte i = 0; i < board.getTotalPositions(); i++) {
-            if (board.getField(i) == QuartoPiece.EMPTY) {
-                for (QuartoPiece piece : validPieces) {
-                    validMoves.add(new QuartoMove(piece, i));
-                }
+    /**
+     * Writes all {@code Move}s that place a {@code QuartoPiece} on any empty index and hand over
+     * any of the provided valid {@code QuartoPiece}s into the provided buffer, packed and ordered
+     * by index and then by {@code QuartoPiece}.
+     * @param moves The buffer to write the packed {@code Move}s into; must be able to hold at
+     *          least {@link #countValidMoves(int, int)} {@code Move}s
+     * @param occupied The mask of occupied indices of the board
+     * @param validPieces The bitmask of valid {@code QuartoPiece}s
+     * @return The number of {@code Move}s written into the buffer
+     */
+    static int fillValidMoves(int[] moves, int occupied, int validPieces) {
+        int count = 0;
+        for (int empty = ~occupied & ALL_PIECES; empty != 0; empty &= empty - 1) {
+            int index = Integer.numberOfTrailingZeros(empty);
+            for (int pieces = validPieces; pieces != 0; pieces &= pieces - 1) {
+                moves[count++] = Move.pack(index, Integer.numberOfTrailingZeros(pieces));
             }
         }
-        return validMoves;
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public QuartoMove toMove(int move) {
+        return QuartoMove.of(move);
+    }
+
+    @Override
+    public long getZobristKey() {
+        return zobristKey;
     }
 
     @Override
@@ -203,10 +451,145 @@ public final class QuartoGame extends AbstractGame<QuartoPiece> {
         if (!calledQuarto) {
             return null;
         }
+        return players[quartoTurn != 0 ? turn ^ 1 : turn];
+    }
+
+    /**
+     * Returns a snapshot of the {@code QuartoBoard} of this {@code QuartoGame}; later
+     * {@code Move}s are not reflected in it, and changes to it do not affect this
+     * {@code QuartoGame}.
+     * @return A snapshot of the {@code QuartoBoard} of this {@code QuartoGame}
+     */
+    public QuartoBoard getBoard() {
+        return new QuartoBoard(attributes, occupied & ALL_PIECES);
+    }
 
-        if (quarto) {
-            turn ^= 1;
+    /**
+     * Returns the empty squares at which placing the provided {@code QuartoPiece} makes a QUARTO.
+     * @param piece The {@code QuartoPiece} to place
+     * @return The mask of winning squares, with bit {@code i} set if placing the
+     *          {@code QuartoPiece} at index {@code i} makes a QUARTO; {@code 0} for
+     *          {@code QuartoPiece}s without attributes
+     */
+    public int getWinningSquares(QuartoPiece piece) {
+        int ordinal = piece.ordinal();
+        if (ordinal >= QuartoBoard.PIECE_COUNT) {
+            return 0;
         }
-        return players[turn];
+        int values = QuartoBoard.toAttributeValues(ordinal);
+        int squares = 0;
+        for (int line = 0; line < QuartoBoard.LINE_COUNT; line++) {
+            if ((QuartoBoard.getThreats(getCounter(line)) & values) != 0) {
+                squares |= QuartoBoard.getLine(line);
+            }
+        }
+        return squares & ~occupied & ALL_PIECES;
+    }
+
+    /**
+     * Returns the empty squares at which placing the next {@code QuartoPiece}, the one the active
+     * {@code Player} has been handed, makes a QUARTO.
+     * @return The mask of winning squares, as described by
+     *          {@link #getWinningSquares(QuartoPiece)}
+     */
+    public int getWinningSquares() {
+        return getWinningSquares(PIECES[nextPiece]);
+    }
+
+    /**
+     * Returns the remaining {@code QuartoPiece}s which, when handed over, can be placed to make a
+     * QUARTO on the current board.
+     * @return The mask of poison {@code QuartoPiece}s, with bit {@code i} set for the
+     *          {@code QuartoPiece} with ordinal {@code i}
+     */
+    public int getPoisonPieces() {
+        return QuartoBoard.getMatchingPieces(getThreats()) & remainingPieces & ALL_PIECES;
+    }
+
+    /**
+     * Returns the remaining {@code QuartoPiece}s which, when handed over after the next
+     * {@code QuartoPiece} has been placed at the provided index, can be placed to make a QUARTO;
+     * the {@code QuartoPiece}s that must not be part of a {@code Move} at that index.
+     * @param index The empty index to place the next {@code QuartoPiece} at
+     * @return The mask of poison {@code QuartoPiece}s, as described by {@link #getPoisonPieces()}
+     */
+    public int getPoisonPieces(int index) {
+        int piece = nextPiece;
+        if (piece >= QuartoBoard.PIECE_COUNT) {
+            return getPoisonPieces();
+        }
+        updateCounters(piece, index, 1);
+        int threats = getThreats();
+        updateCounters(piece, index, -1);
+        return QuartoBoard.getMatchingPieces(threats) & remainingPieces & ALL_PIECES;
+    }
+
+    /**
+     * Checks if a QUARTO has been made on the board, whether or not it has been called.
+     * @return {@code True}: a line of four {@code QuartoPiece}s shares an attribute <br>
+     *          {@code False}: no line of four {@code QuartoPiece}s shares an attribute
+     */
+    boolean isQuartoOnBoard() {
+        return quartoTurn != 0;
+    }
+
+    /**
+     * Returns an immutable snapshot of the current state of this {@code QuartoGame}.
+     * @return The {@code QuartoState} of this {@code QuartoGame}
+     */
+    public QuartoState toState() {
+        return new QuartoState(attributes, occupied & ALL_PIECES, remainingPieces & ALL_PIECES,
+                               nextPiece, turnCounter, quartoTurn);
+    }
+
+    /**
+     * Returns the attribute planes of the board, in the layout described by
+     * {@link QuartoBoard#getAttributes()}.
+     * @return The attribute planes of the board
+     */
+    long getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the mask of occupied indices of the board, with bit {@code i} set if index {@code i}
+     * holds a {@code QuartoPiece}.
+     * @return The mask of occupied indices of the board
+     */
+    int getOccupied() {
+        return occupied & ALL_PIECES;
+    }
+
+    /**
+     * Returns the ordinal of the {@code QuartoPiece} that is to be placed next; {@code EMPTY}
+     * before the first {@code QuartoPiece} is handed over, and {@code QUARTO} once it is called.
+     * @return The ordinal of the next {@code QuartoPiece}
+     */
+    int getNextPiece() {
+        return nextPiece;
+    }
+
+    @Override
+    public String getBoardDisplay() {
+        return getBoard().toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QuartoGame that = (QuartoGame) o;
+        return zobristKey == that.zobristKey && turnCounter == that.turnCounter &&
+                attributes == that.attributes && occupied == that.occupied &&
+                nextPiece == that.nextPiece;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
     }
 }
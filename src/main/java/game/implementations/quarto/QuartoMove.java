@@ -1,10 +1,13 @@
 package game.implementations.quarto;
 
 import game.abstracts.AbstractMove;
+import game.interfaces.Move;
 
 /**
  * Implementation of {@code AbstractMove} which defines {@code QuartoPiece} as the type of
- * {@code Piece} in a {@code QuartoMove}.
+ * {@code Piece} in a {@code QuartoMove}. Every possible {@code QuartoMove} is created once, up
+ * front, and shared; instances are obtained through {@link #of(QuartoPiece, int)} or
+ * {@link #of(int)}, so that generating, validating and echoing {@code Move}s creates no garbage.
  *
  * @see AbstractMove
  * @see QuartoGame
@@ -12,13 +15,55 @@ import game.abstracts.AbstractMove;
  * @see game.interfaces.Piece
  */
 public final class QuartoMove extends AbstractMove<QuartoPiece> {
+    private static final QuartoPiece[] PIECES = QuartoPiece.values();
+    private static final QuartoMove[] MOVES = new QuartoMove[QuartoBoard.PLANE_SIZE *
+            PIECES.length];
+
+    static {
+        for (int index = 0; index < QuartoBoard.PLANE_SIZE; index++) {
+            for (QuartoPiece piece : PIECES) {
+                MOVES[index * PIECES.length + piece.ordinal()] = new QuartoMove(piece, index);
+            }
+        }
+    }
+
     /**
      * Constructs a new {@code QuartoMove} by directly calling the parent's, {@code AbstractMove}'s,
-     * constructor.
+     * constructor. Only used to fill the table of shared instances.
      * @param piece The {@code QuartoPiece} of this new {@code QuartoMove}
      * @param index The index of this new {@code QuartoMove}
      */
-    public QuartoMove(QuartoPiece piece, int index) {
+    private QuartoMove(QuartoPiece piece, int index) {
         super(piece, index);
     }
+
+    /**
+     * Returns the shared {@code QuartoMove} with the provided {@code QuartoPiece} and index.
+     * @param piece The {@code QuartoPiece} of the {@code QuartoMove}
+     * @param index The index of the {@code QuartoMove}
+     * @return The shared {@code QuartoMove} with the provided {@code QuartoPiece} and index
+     * @throws IllegalArgumentException Thrown if the index does not lie on a {@code QuartoBoard}
+     */
+    public static QuartoMove of(QuartoPiece piece, int index) {
+        if (index < 0 || index >= QuartoBoard.PLANE_SIZE) {
+            throw new IllegalArgumentException("Index " + index + " is not on a QuartoBoard");
+        }
+        return MOVES[index * PIECES.length + piece.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code QuartoMove} represented by the provided packed {@code Move}; the
+     * inverse of {@link #toPacked()}.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @return The shared {@code QuartoMove} represented by the packed {@code Move}
+     * @throws IllegalArgumentException Thrown if the packed {@code Move} does not represent a
+     *          {@code QuartoMove}
+     */
+    public static QuartoMove of(int move) {
+        int piece = Move.getPiece(move);
+        if (piece >= PIECES.length) {
+            throw new IllegalArgumentException("Piece " + piece + " is not a QuartoPiece");
+        }
+        return of(PIECES[piece], Move.getIndex(move));
+    }
 }
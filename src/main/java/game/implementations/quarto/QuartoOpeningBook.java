@@ -0,0 +1,88 @@
+package game.implementations.quarto;
+
+import game.interfaces.Game;
+import game.interfaces.Move;
+import game.interfaces.OpeningBook;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Implementation of {@code OpeningBook} which reads the {@code QuartoMove}s stored by a
+ * {@code QuartoOpeningBookBuilder} from a memory-mapped file, without loading the book onto the
+ * heap. Positions are found by their {@code QuartoCanonicalKey}, so a single entry answers every
+ * position that is equivalent to it; the stored {@code QuartoMove} is mapped back onto the
+ * position that was looked up. A {@code QuartoOpeningBook} is never changed after it is opened and
+ * may be shared between threads.
+ * <p>
+ * The file is a {@code QuartoPositionFile} which stores the last turn that has positions in the
+ * book in its header, and the packed {@code QuartoMove} on the canonical position as the value of
+ * every position.
+ *
+ * @see QuartoOpeningBookBuilder
+ * @see QuartoCanonicalizer
+ * @see OpeningBook
+ */
+public final class QuartoOpeningBook implements OpeningBook<QuartoPiece> {
+    static final int MAGIC = 0x514F_4231;
+
+    private final QuartoPositionFile file;
+
+    /**
+     * Constructs a new {@code QuartoOpeningBook} over the provided {@code QuartoPositionFile}.
+     * @param file The mapped book file
+     */
+    private QuartoOpeningBook(QuartoPositionFile file) {
+        this.file = file;
+    }
+
+    /**
+     * Maps the book file at the provided path into memory.
+     * @param path The path of the file, as written by {@link QuartoOpeningBookBuilder}
+     * @return The {@code QuartoOpeningBook} stored in the file
+     * @throws IOException Thrown if the file cannot be read or is not a book file
+     */
+    public static QuartoOpeningBook open(Path path) throws IOException {
+        return new QuartoOpeningBook(QuartoPositionFile.open(path, MAGIC));
+    }
+
+    /**
+     * Returns the {@code QuartoMove} stored for the position of the provided {@code QuartoGame}.
+     * @param game The {@code QuartoGame} to look up; not changed
+     * @return The stored {@code QuartoMove}, mapped onto the provided {@code QuartoGame}, or
+     *          {@code null} if the position is not in this {@code QuartoOpeningBook}
+     */
+    public QuartoMove getMove(QuartoGame game) {
+        if (game.isGameOver()) {
+            return null;
+        }
+        QuartoCanonicalKey key = QuartoCanonicalizer.canonicalize(game);
+        long value = file.find(key);
+        if (value < 0) {
+            return null;
+        }
+        QuartoMove move = key.getSymmetry().inverse().map(QuartoMove.of((int) value));
+        return game.isValidMove(move.toPacked()) ? move : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <U extends Move<QuartoPiece>> U lookup(Game<QuartoPiece> game) {
+        return game instanceof QuartoGame quartoGame ? (U) getMove(quartoGame) : null;
+    }
+
+    /**
+     * Returns the number of the last turn that has positions in this {@code QuartoOpeningBook}.
+     * @return The number of the last turn in this {@code QuartoOpeningBook}
+     */
+    public int getLastTurn() {
+        return file.getParameter();
+    }
+
+    /**
+     * Returns the number of positions stored in this {@code QuartoOpeningBook}.
+     * @return The number of stored positions
+     */
+    public int size() {
+        return file.size();
+    }
+}
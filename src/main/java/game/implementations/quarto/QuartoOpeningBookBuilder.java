@@ -0,0 +1,106 @@
+package game.implementations.quarto;
+
+import game.interfaces.Strategy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builder which collects the {@code QuartoMove}s to play in early positions of Quarto, normally
+ * found by long offline searches, and writes them into a file that can be read by
+ * {@link QuartoOpeningBook}. Positions are stored once per {@code QuartoCanonicalKey}, with the
+ * {@code QuartoMove} mapped onto the canonical position. A {@code QuartoOpeningBookBuilder} is not
+ * safe to use from multiple threads.
+ *
+ * @see QuartoOpeningBook
+ * @see QuartoCanonicalizer
+ */
+public final class QuartoOpeningBookBuilder {
+    private final Map<QuartoCanonicalKey, Integer> moves = new HashMap<>();
+    private int lastTurn = 0;
+
+    /**
+     * Stores the provided {@code QuartoMove} as the {@code QuartoMove} to play in the position of
+     * the provided {@code QuartoGame} and every position equivalent to it, replacing any
+     * {@code QuartoMove} stored for them before.
+     * @param game The {@code QuartoGame} to store the {@code QuartoMove} for; not changed
+     * @param move The {@code QuartoMove} to play, which must be valid in the {@code QuartoGame}
+     * @throws IllegalArgumentException Thrown if the {@code QuartoMove} is not valid in the
+     *          {@code QuartoGame}
+     */
+    public void put(QuartoGame game, QuartoMove move) {
+        if (!game.isValidMove(move.toPacked())) {
+            throw new IllegalArgumentException("Move is not valid in the provided QuartoGame");
+        }
+        QuartoCanonicalKey key = QuartoCanonicalizer.canonicalize(game);
+        // The QuartoSymmetry of the key is not needed to look up the move, so it is not kept
+        moves.put(new QuartoCanonicalKey(key.getHigh(), key.getLow(), QuartoSymmetry.IDENTITY),
+                  key.getSymmetry().map(move).toPacked());
+        lastTurn = Math.max(lastTurn, game.getTurnCount());
+    }
+
+    /**
+     * Asks the provided {@code Strategy} for the {@code QuartoMove} to play in every distinct
+     * position that can be reached from the provided {@code QuartoGame} within the provided
+     * number of turns, and stores the answers. Positions that are already stored are not searched
+     * again. The number of positions grows quickly with every turn, so only the first few turns
+     * can be searched deeply.
+     * @param root The {@code QuartoGame} to search from; not changed
+     * @param turns The number of turns, starting with the turn of the root, to store positions of
+     * @param strategy The {@code Strategy} which determines the {@code QuartoMove}s to store
+     * @return The number of positions that were searched
+     */
+    public int addSearched(QuartoGame root, int turns, Strategy<QuartoPiece> strategy) {
+        int searched = 0;
+        List<QuartoGame> frontier = List.of(root.deepCopy());
+        for (int turn = 0; turn < turns && !frontier.isEmpty(); turn++) {
+            List<QuartoGame> next = new ArrayList<>();
+            Set<QuartoCanonicalKey> seen = new HashSet<>();
+            for (QuartoGame game : frontier) {
+                if (game.isGameOver()) {
+                    continue;
+                }
+                if (!moves.containsKey(QuartoCanonicalizer.canonicalize(game))) {
+                    QuartoMove move = strategy.determineMove(game.deepCopy());
+                    put(game, move);
+                    searched++;
+                }
+                if (turn + 1 == turns) {
+                    continue;
+                }
+                for (QuartoMove reply : QuartoCanonicalizer.getDistinctMoves(game)) {
+                    QuartoGame child = game.deepCopy();
+                    child.doMove(reply);
+                    if (seen.add(QuartoCanonicalizer.canonicalize(child))) {
+                        next.add(child);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return searched;
+    }
+
+    /**
+     * Returns the number of positions stored so far.
+     * @return The number of stored positions
+     */
+    public int size() {
+        return moves.size();
+    }
+
+    /**
+     * Writes the stored positions into a book file at the provided path, replacing any file that
+     * is already there.
+     * @param path The path to write the book file to
+     * @throws IOException Thrown if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        QuartoPositionFile.write(path, QuartoOpeningBook.MAGIC, lastTurn, moves);
+    }
+}
@@ -0,0 +1,150 @@
+package game.implementations.quarto;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only file of values keyed by {@code QuartoCanonicalKey}, mapped into memory rather than
+ * read onto the heap. Values are found by a binary search, so a lookup touches a few pages of the
+ * file; the file is never changed after it is opened and may be read from any number of threads.
+ * <p>
+ * The file starts with a header of {@value #HEADER_SIZE} bytes: a magic number identifying the
+ * kind of file, a parameter of that kind of file, and the number of entries. Each entry that
+ * follows holds two {@code long}s: the high half of the {@code QuartoCanonicalKey}, and its low
+ * half with a 32-bit value in the upper bits. Entries are sorted by key, comparing the high
+ * halves unsigned.
+ *
+ * @see QuartoTablebase
+ * @see QuartoOpeningBook
+ */
+final class QuartoPositionFile {
+    static final int HEADER_SIZE = 16;
+    private static final int ENTRY_SIZE = 16;
+    private static final int VALUE_SHIFT = 32;
+    private static final long KEY_MASK = 0xFFFF_FFFFL;
+
+    private final MappedByteBuffer buffer;
+    private final int parameter;
+    private final int size;
+
+    /**
+     * Constructs a new {@code QuartoPositionFile} over the provided mapped file.
+     * @param buffer The mapped contents of the file
+     * @param parameter The parameter stored in the header
+     * @param size The number of entries in the file
+     */
+    private QuartoPositionFile(MappedByteBuffer buffer, int parameter, int size) {
+        this.buffer = buffer;
+        this.parameter = parameter;
+        this.size = size;
+    }
+
+    /**
+     * Maps the file at the provided path into memory, checking that it is of the expected kind.
+     * @param path The path of the file
+     * @param magic The magic number of the expected kind of file
+     * @return The {@code QuartoPositionFile} stored in the file
+     * @throws IOException Thrown if the file cannot be read or is not of the expected kind
+     */
+    static QuartoPositionFile open(Path path, int magic) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE ||
+                    (length - HEADER_SIZE) % ENTRY_SIZE != 0) {
+                throw new IOException("Not a valid position file: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            if (buffer.getInt(0) != magic ||
+                    buffer.getLong(2 * Integer.BYTES) != (length - HEADER_SIZE) / ENTRY_SIZE) {
+                throw new IOException("Not a valid position file: " + path);
+            }
+            return new QuartoPositionFile(buffer, buffer.getInt(Integer.BYTES),
+                                          (int) ((length - HEADER_SIZE) / ENTRY_SIZE));
+        }
+    }
+
+    /**
+     * Writes the provided values into a file at the provided path, replacing any file that is
+     * already there.
+     * @param path The path to write the file to
+     * @param magic The magic number of the kind of file
+     * @param parameter The parameter to store in the header
+     * @param values The values to store, by {@code QuartoCanonicalKey}; only the lowest 32 bits
+     *          of each value are kept
+     * @throws IOException Thrown if the file cannot be written
+     */
+    static void write(Path path, int magic, int parameter,
+                      Map<QuartoCanonicalKey, ? extends Number> values) throws IOException {
+        List<QuartoCanonicalKey> keys = new ArrayList<>(values.keySet());
+        keys.sort(Comparator.comparing(QuartoCanonicalKey::getHigh, Long::compareUnsigned)
+                          .thenComparingLong(QuartoCanonicalKey::getLow));
+        if (HEADER_SIZE + (long) keys.size() * ENTRY_SIZE > Integer.MAX_VALUE) {
+            throw new IOException("Too many positions to map as a single file");
+        }
+
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(magic);
+            out.writeInt(parameter);
+            out.writeLong(keys.size());
+            for (QuartoCanonicalKey key : keys) {
+                out.writeLong(key.getHigh());
+                out.writeLong(key.getLow() |
+                                      (values.get(key).longValue() & KEY_MASK) << VALUE_SHIFT);
+            }
+        }
+    }
+
+    /**
+     * Returns the value stored for the provided {@code QuartoCanonicalKey}.
+     * @param key The {@code QuartoCanonicalKey} to look up
+     * @return The stored value, as an unsigned 32-bit number, or -1 if there is none
+     */
+    long find(QuartoCanonicalKey key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = low + high >>> 1;
+            int offset = HEADER_SIZE + middle * ENTRY_SIZE;
+            int comparison = Long.compareUnsigned(buffer.getLong(offset), key.getHigh());
+            long entryLow = buffer.getLong(offset + Long.BYTES);
+            if (comparison == 0) {
+                comparison = Long.compare(entryLow & KEY_MASK, key.getLow());
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return entryLow >>> VALUE_SHIFT;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the parameter stored in the header.
+     * @return The parameter of the file
+     */
+    int getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Returns the number of entries in the file.
+     * @return The number of entries
+     */
+    int size() {
+        return size;
+    }
+}
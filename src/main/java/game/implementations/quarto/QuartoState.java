@@ -0,0 +1,260 @@
+package game.implementations.quarto;
+
+import game.interfaces.Move;
+import java.util.EnumSet;
+
+/**
+ * Immutable state of a Quarto game, following the same rules as {@code QuartoGame}. Playing a
+ * {@code Move} returns a new {@code QuartoState} and leaves the original untouched, so that any
+ * number of positions of a game can be kept and read from any number of threads without
+ * synchronization. A {@code QuartoState} is a handful of primitives, so keeping one per turn
+ * costs a single small object rather than a copy of the board and pieces as objects.
+ * <p>
+ * A {@code QuartoState} does not know the {@code Player}s; the first {@code Player} is active on
+ * odd turns and the second on even turns. Use {@link QuartoGame#toState()} and
+ * {@link QuartoGame#QuartoGame(game.interfaces.Player, game.interfaces.Player, QuartoState)} to
+ * convert between the two.
+ *
+ * @see QuartoGame
+ * @see QuartoMove
+ * @see QuartoBoard
+ */
+public final class QuartoState {
+    private static final int QUARTO = QuartoPiece.QUARTO.ordinal();
+    private static final int EMPTY = QuartoPiece.EMPTY.ordinal();
+    private static final QuartoPiece[] PIECES = QuartoPiece.values();
+
+    /**
+     * The state before the first turn: an empty board, with no {@code QuartoPiece} handed over.
+     */
+    public static final QuartoState INITIAL = new QuartoState(0, 0, QuartoGame.ALL_PIECES, EMPTY,
+                                                              1, 0);
+
+    private final long attributes;
+    private final short occupied;
+    private final short remainingPieces;
+    private final byte nextPiece;
+    private final byte turnCounter;
+    private final byte quartoTurn;
+
+    /**
+     * Constructs a new {@code QuartoState} from its primitive representation.
+     * @param attributes The attribute planes of the board, as described by
+     *          {@link QuartoBoard#getAttributes()}
+     * @param occupied The mask of occupied indices of the board
+     * @param remainingPieces The bitmask of {@code QuartoPiece}s that are neither placed nor next
+     * @param nextPiece The ordinal of the {@code QuartoPiece} that is to be placed next
+     * @param turnCounter The number of the turn that is to be played
+     * @param quartoTurn The turn on which the first QUARTO was made, or 0 if there is none
+     */
+    QuartoState(long attributes, int occupied, int remainingPieces, int nextPiece,
+                int turnCounter, int quartoTurn) {
+        this.attributes = attributes;
+        this.occupied = (short) occupied;
+        this.remainingPieces = (short) remainingPieces;
+        this.nextPiece = (byte) nextPiece;
+        this.turnCounter = (byte) turnCounter;
+        this.quartoTurn = (byte) quartoTurn;
+    }
+
+    /**
+     * Returns the {@code QuartoState} after playing the provided {@code QuartoMove}, which must be
+     * valid in this {@code QuartoState}; this {@code QuartoState} is not changed.
+     * @param move The {@code QuartoMove} to play
+     * @return The resulting {@code QuartoState}
+     */
+    public QuartoState play(QuartoMove move) {
+        return play(move.toPacked());
+    }
+
+    /**
+     * Returns the {@code QuartoState} after playing the provided packed {@code Move}, which must
+     * be valid in this {@code QuartoState}; this {@code QuartoState} is not changed.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @return The resulting {@code QuartoState}
+     */
+    public QuartoState play(int move) {
+        int index = Move.getIndex(move);
+        int handed = Move.getPiece(move);
+        long newAttributes = attributes;
+        int newOccupied = getOccupied();
+        int newQuartoTurn = quartoTurn;
+        if (nextPiece < QuartoBoard.PIECE_COUNT) {
+            newAttributes |= QuartoBoard.toPlanes(nextPiece) << index;
+            newOccupied |= 1 << index;
+            if (newQuartoTurn == 0 && QuartoBoard.isQuarto(newAttributes, newOccupied, index)) {
+                newQuartoTurn = turnCounter;
+            }
+        }
+        return new QuartoState(newAttributes, newOccupied, remainingPieces & ~(1 << handed),
+                               handed, turnCounter + 1, newQuartoTurn);
+    }
+
+    /**
+     * Checks if the provided packed {@code Move} could legally be played in this
+     * {@code QuartoState}, as described by {@link QuartoGame#isValidMove(int)}.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @return {@code True}: the packed {@code Move} is valid <br>
+     *          {@code False}: the packed {@code Move} is not valid
+     */
+    public boolean isValidMove(int move) {
+        return !isGameOver() && QuartoGame.isValidMove(move, getOccupied(), getValidPieceMask());
+    }
+
+    /**
+     * Returns the number of valid {@code Move}s in this {@code QuartoState}.
+     * @return The number of valid {@code Move}s
+     */
+    public int getValidMoveCount() {
+        if (isGameOver()) {
+            return 0;
+        }
+        return QuartoGame.countValidMoves(getOccupied(), getValidPieceMask());
+    }
+
+    /**
+     * Writes all valid {@code Move}s in this {@code QuartoState} into the provided buffer, packed
+     * and ordered as described by {@link QuartoGame#fillValidMoves(int[])}.
+     * @param moves The buffer to write the packed {@code Move}s into; must be able to hold at
+     *          least {@link #getValidMoveCount()} {@code Move}s
+     * @return The number of {@code Move}s written into the buffer
+     */
+    public int fillValidMoves(int[] moves) {
+        if (isGameOver()) {
+            return 0;
+        }
+        return QuartoGame.fillValidMoves(moves, getOccupied(), getValidPieceMask());
+    }
+
+    /**
+     * Returns the valid {@code QuartoPiece}s in this {@code QuartoState}.
+     * @return The set of all valid {@code QuartoPiece}s
+     */
+    public EnumSet<QuartoPiece> getValidPieces() {
+        return QuartoGame.toPieceSet(getValidPieceMask());
+    }
+
+    /**
+     * Returns the bitmask of valid {@code QuartoPiece}s, as described by
+     * {@link QuartoGame#getValidPieceMask(int, int, boolean)}.
+     * @return The bitmask of valid {@code QuartoPiece}s
+     */
+    private int getValidPieceMask() {
+        return QuartoGame.getValidPieceMask(remainingPieces, turnCounter, nextPiece == QUARTO);
+    }
+
+    /**
+     * Checks if this {@code QuartoState} is terminal.
+     * @return {@code True}: QUARTO has been called or the board is full <br>
+     *          {@code False}: the game is still playable
+     */
+    public boolean isGameOver() {
+        return nextPiece == QUARTO || turnCounter > QuartoGame.LAST_TURN;
+    }
+
+    /**
+     * Returns the number of the turn that is to be played.
+     * @return The number of the turn that is to be played
+     */
+    public int getTurnCount() {
+        return turnCounter;
+    }
+
+    /**
+     * Returns which {@code Player} is to play the next turn: 0 for the first {@code Player} and 1
+     * for the second.
+     * @return The index of the active {@code Player}
+     */
+    public int getActivePlayerIndex() {
+        return turnCounter - 1 & 1;
+    }
+
+    /**
+     * Returns which {@code Player} has won: 0 for the first {@code Player}, 1 for the second, and
+     * -1 if QUARTO has not been called. Calling QUARTO wins if a QUARTO is on the board, and
+     * loses otherwise.
+     * @return The index of the winning {@code Player}, or -1 if there is none
+     */
+    public int getWinnerIndex() {
+        if (nextPiece != QUARTO) {
+            return -1;
+        }
+        return quartoTurn != 0 ? getActivePlayerIndex() ^ 1 : getActivePlayerIndex();
+    }
+
+    /**
+     * Returns the {@code QuartoPiece} that is to be placed next; {@code EMPTY} before the first
+     * {@code QuartoPiece} is handed over, and {@code QUARTO} once it is called.
+     * @return The next {@code QuartoPiece}
+     */
+    public QuartoPiece getNextPiece() {
+        return PIECES[nextPiece];
+    }
+
+    /**
+     * Returns a {@code QuartoBoard} holding the {@code QuartoPiece}s of this {@code QuartoState}.
+     * @return The {@code QuartoBoard} of this {@code QuartoState}
+     */
+    public QuartoBoard getBoard() {
+        return new QuartoBoard(attributes, getOccupied());
+    }
+
+    /**
+     * Returns the attribute planes of the board, in the layout described by
+     * {@link QuartoBoard#getAttributes()}.
+     * @return The attribute planes of the board
+     */
+    long getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the mask of occupied indices of the board.
+     * @return The mask of occupied indices of the board
+     */
+    int getOccupied() {
+        return occupied & QuartoGame.ALL_PIECES;
+    }
+
+    /**
+     * Returns the bitmask of {@code QuartoPiece}s that are neither placed nor next.
+     * @return The bitmask of remaining {@code QuartoPiece}s
+     */
+    int getRemainingPieces() {
+        return remainingPieces & QuartoGame.ALL_PIECES;
+    }
+
+    /**
+     * Returns the ordinal of the {@code QuartoPiece} that is to be placed next.
+     * @return The ordinal of the next {@code QuartoPiece}
+     */
+    int getNextPieceOrdinal() {
+        return nextPiece;
+    }
+
+    /**
+     * Returns the turn on which the first QUARTO was made, or 0 if there is none.
+     * @return The turn of the first QUARTO
+     */
+    int getQuartoTurn() {
+        return quartoTurn;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QuartoState that = (QuartoState) o;
+        return attributes == that.attributes && occupied == that.occupied &&
+                nextPiece == that.nextPiece && turnCounter == that.turnCounter;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(attributes) + occupied) + 32 * nextPiece + turnCounter;
+    }
+}
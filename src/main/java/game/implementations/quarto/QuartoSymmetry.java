@@ -0,0 +1,205 @@
+package game.implementations.quarto;
+
+import java.util.Arrays;
+
+/**
+ * A symmetry of Quarto: a transform that maps every position to an equivalent position, by
+ * moving the indices of the board and by mapping every {@code QuartoPiece} to another.
+ * <p>
+ * The board has 32 symmetries that keep its rows, columns and diagonals intact: the 8 rotations
+ * and reflections, swapping the inner and outer rows and columns, swapping the middle two rows
+ * and columns, and all combinations of these. The {@code QuartoPiece}s have 384 symmetries: the
+ * 24 permutations of the four attributes, each combined with complementing any subset of them.
+ * {@code QUARTO} and {@code EMPTY} are mapped to themselves.
+ *
+ * @see QuartoCanonicalizer
+ * @see QuartoGame
+ * @see QuartoPiece
+ */
+public final class QuartoSymmetry {
+    /**
+     * The number of symmetries of the board.
+     */
+    static final int BOARD_SYMMETRIES = 32;
+
+    private static final int BOARD_LENGTH = 4;
+    private static final int ATTRIBUTES = 4;
+    private static final QuartoPiece[] PIECES = QuartoPiece.values();
+
+    /**
+     * For every symmetry of the board, the index every index is mapped to.
+     */
+    private static final byte[][] BOARD_MAPS = new byte[BOARD_SYMMETRIES][];
+
+    static {
+        int board = 0;
+        for (int order = 0; order < BOARD_SYMMETRIES / 4; order++) {
+            for (int crossed = 0; crossed < 2; crossed++) {
+                for (int transposed = 0; transposed < 2; transposed++) {
+                    BOARD_MAPS[board++] = toBoardMap(order, crossed == 1, transposed == 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * The symmetry which maps every position to itself.
+     */
+    public static final QuartoSymmetry IDENTITY = of(0, 0, new int[]{0, 1, 2, 3});
+
+    private final byte[] indices;
+    private final byte[] pieces;
+
+    /**
+     * Constructs a new {@code QuartoSymmetry} from the provided tables.
+     * @param indices The index every index is mapped to
+     * @param pieces The ordinal every {@code QuartoPiece} ordinal is mapped to
+     */
+    private QuartoSymmetry(byte[] indices, byte[] pieces) {
+        this.indices = indices;
+        this.pieces = pieces;
+    }
+
+    /**
+     * Returns the {@code QuartoSymmetry} which first applies the symmetry of the board with the
+     * provided number, and maps every {@code QuartoPiece} by first complementing the attributes in
+     * {@code flip} and then moving attribute {@code order[k]} to attribute {@code k}.
+     * @param board The number of the symmetry of the board, below {@link #BOARD_SYMMETRIES}
+     * @param flip The bitmask of attributes to complement
+     * @param order The permutation of the attributes
+     * @return The described {@code QuartoSymmetry}
+     */
+    static QuartoSymmetry of(int board, int flip, int[] order) {
+        byte[] pieces = new byte[PIECES.length];
+        for (int piece = 0; piece < PIECES.length; piece++) {
+            int mapped = piece;
+            if (piece < QuartoBoard.PIECE_COUNT) {
+                mapped = 0;
+                for (int k = 0; k < ATTRIBUTES; k++) {
+                    mapped |= ((piece ^ flip) >>> order[k] & 1) << k;
+                }
+            }
+            pieces[piece] = (byte) mapped;
+        }
+        return new QuartoSymmetry(BOARD_MAPS[board], pieces);
+    }
+
+    /**
+     * Returns the index that the provided index is mapped to by the symmetry of the board with
+     * the provided number.
+     * @param board The number of the symmetry of the board, below {@link #BOARD_SYMMETRIES}
+     * @param index The index to map
+     * @return The mapped index
+     */
+    static int mapIndex(int board, int index) {
+        return BOARD_MAPS[board][index];
+    }
+
+    /**
+     * Builds the index map of a symmetry of the board. Row {@code r} and column {@code c} are
+     * both moved by one of the 8 permutations of {@code 0..3} that keep {@code {0, 3}} and
+     * {@code {1, 2}} together, after which the columns can be mirrored, swapping both diagonals,
+     * and rows and columns can be swapped.
+     * @param order The number of the permutation of the rows and columns, below 8
+     * @param crossed Whether the columns are mirrored
+     * @param transposed Whether rows and columns are swapped
+     * @return The index every index is mapped to
+     */
+    private static byte[] toBoardMap(int order, boolean crossed, boolean transposed) {
+        byte[] map = new byte[QuartoBoard.PLANE_SIZE];
+        for (int row = 0; row < BOARD_LENGTH; row++) {
+            for (int column = 0; column < BOARD_LENGTH; column++) {
+                int newRow = permute(order, row);
+                int newColumn = permute(order, column);
+                if (crossed) {
+                    newColumn = BOARD_LENGTH - 1 - newColumn;
+                }
+                map[row * BOARD_LENGTH + column] = (byte) (transposed ?
+                        newColumn * BOARD_LENGTH + newRow : newRow * BOARD_LENGTH + newColumn);
+            }
+        }
+        return map;
+    }
+
+    /**
+     * Applies one of the 8 permutations of {@code 0..3} that keep {@code {0, 3}} and
+     * {@code {1, 2}} together; bit 0 swaps 1 and 2, bit 1 swaps 0 and 3, and bit 2 swaps the
+     * inner and outer pair.
+     * @param order The number of the permutation, below 8
+     * @param line The row or column to permute
+     * @return The permuted row or column
+     */
+    private static int permute(int order, int line) {
+        if ((order & 1) != 0 && (line == 1 || line == 2)) {
+            line = 3 - line;
+        } else if ((order & 2) != 0 && (line == 0 || line == 3)) {
+            line = 3 - line;
+        }
+        if ((order & 4) != 0) {
+            line ^= 1;
+        }
+        return line;
+    }
+
+    /**
+     * Returns the index that the provided index is mapped to.
+     * @param index The index to map
+     * @return The mapped index
+     */
+    public int mapIndex(int index) {
+        return indices[index];
+    }
+
+    /**
+     * Returns the {@code QuartoPiece} that the provided {@code QuartoPiece} is mapped to.
+     * @param piece The {@code QuartoPiece} to map
+     * @return The mapped {@code QuartoPiece}
+     */
+    public QuartoPiece mapPiece(QuartoPiece piece) {
+        return PIECES[pieces[piece.ordinal()]];
+    }
+
+    /**
+     * Returns the {@code QuartoMove} that the provided {@code QuartoMove} is mapped to, i.e. the
+     * {@code QuartoMove} that has the same effect on the mapped position.
+     * @param move The {@code QuartoMove} to map
+     * @return The mapped {@code QuartoMove}
+     */
+    public QuartoMove map(QuartoMove move) {
+        return QuartoMove.of(mapPiece(move.getPiece()), mapIndex(move.getIndex()));
+    }
+
+    /**
+     * Returns the {@code QuartoSymmetry} which undoes this {@code QuartoSymmetry}; used to map a
+     * {@code QuartoMove} found on a canonical position back to the original position.
+     * @return The inverse of this {@code QuartoSymmetry}
+     */
+    public QuartoSymmetry inverse() {
+        byte[] inverseIndices = new byte[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            inverseIndices[indices[i]] = (byte) i;
+        }
+        byte[] inversePieces = new byte[pieces.length];
+        for (int i = 0; i < pieces.length; i++) {
+            inversePieces[pieces[i]] = (byte) i;
+        }
+        return new QuartoSymmetry(inverseIndices, inversePieces);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        QuartoSymmetry that = (QuartoSymmetry) o;
+        return Arrays.equals(indices, that.indices) && Arrays.equals(pieces, that.pieces);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(indices) + Arrays.hashCode(pieces);
+    }
+}
@@ -0,0 +1,156 @@
+package game.implementations.quarto;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Read-only endgame tablebase of Quarto positions, as written by
+ * {@link QuartoTablebaseGenerator}. The file is mapped into memory rather than read onto the
+ * heap, and positions are found by a binary search on their {@code QuartoCanonicalKey}, so a
+ * lookup touches a few pages of the file and creates no garbage apart from the key itself. A
+ * {@code QuartoTablebase} is never changed after it is opened and may be shared between threads.
+ * <p>
+ * Scores are given from the point of view of the active {@code Player}: a win that ends the game
+ * in {@code d} turns scores {@code WIN - d}, a loss in {@code d} turns scores
+ * {@code -(WIN - d)}, and a draw scores {@code 0}. Positions in which the active {@code Player}
+ * can call QUARTO on this turn are decided without a lookup, so they are never stored.
+ * <p>
+ * The file is a {@code QuartoPositionFile} which stores the largest number of empty indices that
+ * was solved in its header, and the score of every position as its value.
+ *
+ * @see QuartoTablebaseGenerator
+ * @see QuartoCanonicalizer
+ */
+public final class QuartoTablebase {
+    /**
+     * The score of the active {@code Player} if the game has been won before their turn.
+     */
+    public static final int WIN = 64;
+
+    /**
+     * The score of a draw.
+     */
+    public static final int DRAW = 0;
+
+    /**
+     * The score returned for positions that are not in the {@code QuartoTablebase}.
+     */
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    static final int MAGIC = 0x5154_4231;
+
+    private final QuartoPositionFile file;
+
+    /**
+     * Constructs a new {@code QuartoTablebase} over the provided {@code QuartoPositionFile}.
+     * @param file The mapped tablebase file
+     */
+    private QuartoTablebase(QuartoPositionFile file) {
+        this.file = file;
+    }
+
+    /**
+     * Maps the tablebase file at the provided path into memory.
+     * @param path The path of the file, as written by {@link QuartoTablebaseGenerator}
+     * @return The {@code QuartoTablebase} stored in the file
+     * @throws IOException Thrown if the file cannot be read or is not a tablebase file
+     */
+    public static QuartoTablebase open(Path path) throws IOException {
+        QuartoPositionFile file = QuartoPositionFile.open(path, MAGIC);
+        if (file.getParameter() < 0 || file.getParameter() > QuartoBoard.PLANE_SIZE) {
+            throw new IOException("Not a QuartoTablebase file: " + path);
+        }
+        return new QuartoTablebase(file);
+    }
+
+    /**
+     * Returns the score of the provided {@code QuartoGame} for its active {@code Player}.
+     * @param game The {@code QuartoGame} to look up; not changed
+     * @return The score of the position, or {@link #UNKNOWN} if it has more empty indices than
+     *          were solved or was not part of the solved positions
+     */
+    public int probe(QuartoGame game) {
+        int score = getTrivialScore(game);
+        if (score != UNKNOWN ||
+                Integer.bitCount(~game.getOccupied() & QuartoGame.ALL_PIECES) > getMaxEmpty()) {
+            return score;
+        }
+
+        long value = file.find(QuartoCanonicalizer.canonicalize(game));
+        return value < 0 ? UNKNOWN : (byte) value;
+    }
+
+    /**
+     * Returns a {@code QuartoMove} that achieves the score of the provided {@code QuartoGame},
+     * preferring the fastest win and the slowest loss.
+     * @param game The {@code QuartoGame} to find the best {@code QuartoMove} in; not changed
+     * @return The best {@code QuartoMove}, or {@code null} if the game is over or any of the
+     *          resulting positions is not in the {@code QuartoTablebase}
+     */
+    public QuartoMove getBestMove(QuartoGame game) {
+        QuartoGame copy = game.deepCopy();
+        int[] moves = new int[copy.getValidMoveCount()];
+        int count = copy.fillValidMoves(moves);
+        int bestScore = UNKNOWN;
+        int bestMove = -1;
+        for (int i = 0; i < count; i++) {
+            copy.doMove(moves[i]);
+            int score = probe(copy);
+            copy.undoMove(moves[i]);
+            if (score == UNKNOWN) {
+                return null;
+            }
+            score = toParentScore(score);
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = moves[i];
+            }
+        }
+        return bestMove < 0 ? null : QuartoMove.of(bestMove);
+    }
+
+    /**
+     * Returns the largest number of empty indices of the positions that were solved.
+     * @return The largest number of empty indices that was solved
+     */
+    public int getMaxEmpty() {
+        return file.getParameter();
+    }
+
+    /**
+     * Returns the number of positions stored in this {@code QuartoTablebase}.
+     * @return The number of stored positions
+     */
+    public int size() {
+        return file.size();
+    }
+
+    /**
+     * Returns the score of the provided {@code QuartoGame} if it can be decided without a search:
+     * if the game is over, or if the active {@code Player} can call QUARTO on this turn.
+     * @param game The {@code QuartoGame} to score
+     * @return The score of the position, or {@link #UNKNOWN} if it needs a search
+     */
+    static int getTrivialScore(QuartoGame game) {
+        if (game.isGameOver()) {
+            if (game.getNextPiece() != QuartoPiece.QUARTO.ordinal()) {
+                return DRAW;
+            }
+            return game.isQuartoOnBoard() ? -WIN : WIN;
+        }
+        if (game.isQuartoOnBoard()) {
+            return WIN - 1;
+        }
+        return game.getWinningSquares() != 0 ? WIN - 1 : UNKNOWN;
+    }
+
+    /**
+     * Converts the score of a position into the score of the position one turn earlier, from the
+     * point of view of the {@code Player} who was active then.
+     * @param score The score of the later position
+     * @return The score of the earlier position
+     */
+    static int toParentScore(int score) {
+        return -score + Integer.signum(score);
+    }
+}
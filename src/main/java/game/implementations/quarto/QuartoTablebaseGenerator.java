@@ -0,0 +1,212 @@
+package game.implementations.quarto;
+
+import exceptions.IllegalInitializationException;
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Move;
+import game.interfaces.Player;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class which solves Quarto endgames exactly and writes the results into a file that can
+ * be read by {@link QuartoTablebase}.
+ * <p>
+ * Every position below the provided roots is solved, working back from the end of the game: a
+ * position is scored only once the scores of all positions after it are known. Positions are
+ * stored once per {@code QuartoCanonicalKey}, so every class of equivalent positions is solved
+ * and written only once, and the roots are solved as separate tasks that share the results found
+ * so far.
+ * <p>
+ * Solving every position with a given number of empty indices is not feasible: with a single
+ * empty index there are already more than 10<sup>10</sup> classes of equivalent positions. The
+ * positions to solve are therefore chosen by their roots, such as those reached in played games
+ * or by {@link #randomRoots(int, int, long)}.
+ *
+ * @see QuartoTablebase
+ * @see QuartoCanonicalizer
+ * @see exceptions.IllegalInitializationException
+ */
+public final class QuartoTablebaseGenerator {
+    private static final int QUARTO = QuartoPiece.QUARTO.ordinal();
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private QuartoTablebaseGenerator() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Solves every position below the provided roots and writes them into a tablebase file at the
+     * provided path, replacing any file that is already there.
+     * @param roots The positions to solve from, each with at most {@code maxEmpty} empty indices
+     * @param maxEmpty The largest number of empty indices to record in the file
+     * @param path The path to write the tablebase file to
+     * @param pool The {@code ForkJoinPool} to solve in, or {@code null} to solve on the calling
+     *          thread
+     * @return The number of positions written
+     * @throws IOException Thrown if the file cannot be written
+     * @throws IllegalArgumentException Thrown if a root has more than {@code maxEmpty} empty
+     *          indices
+     */
+    public static int generate(Collection<QuartoState> roots, int maxEmpty, Path path,
+                               ForkJoinPool pool) throws IOException {
+        for (QuartoState root : roots) {
+            if (QuartoBoard.PLANE_SIZE - Integer.bitCount(root.getOccupied()) > maxEmpty) {
+                throw new IllegalArgumentException("Root has more than " + maxEmpty +
+                                                           " empty indices");
+            }
+        }
+
+        Map<QuartoCanonicalKey, Byte> table = new ConcurrentHashMap<>();
+        List<RootTask> tasks = new ArrayList<>(roots.size());
+        for (QuartoState root : roots) {
+            tasks.add(new RootTask(root, table));
+        }
+        if (pool == null) {
+            tasks.forEach(RootTask::compute);
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    ForkJoinTask.invokeAll(tasks);
+                }
+            });
+        }
+        QuartoPositionFile.write(path, QuartoTablebase.MAGIC, maxEmpty, table);
+        return table.size();
+    }
+
+    /**
+     * Plays random games from the start until the provided number of empty indices is left and
+     * returns the positions they end in. Neither {@code Player} calls QUARTO or leaves one for the
+     * other to call unless every {@code Move} does, so that the positions are rarely decided yet.
+     * @param count The number of positions to return
+     * @param empty The number of empty indices of the returned positions
+     * @param seed The seed of the random number generator, so that runs can be repeated
+     * @return The reached positions
+     */
+    public static List<QuartoState> randomRoots(int count, int empty, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<QuartoState> roots = new ArrayList<>(count);
+        int[] moves = new int[QuartoBoard.PLANE_SIZE * QuartoPiece.values().length];
+        int[] safeMoves = new int[moves.length];
+        for (int i = 0; i < count; i++) {
+            QuartoGame game = new QuartoGame(RootTask.PLAYER, RootTask.PLAYER);
+            while (QuartoBoard.PLANE_SIZE - Integer.bitCount(game.getOccupied()) > empty &&
+                    !game.isGameOver()) {
+                int size = 0;
+                int safeSize = 0;
+                int moveCount = game.fillValidMoves(moves);
+                int winningSquares = game.getWinningSquares();
+                for (int j = 0; j < moveCount; j++) {
+                    int index = Move.getIndex(moves[j]);
+                    int piece = Move.getPiece(moves[j]);
+                    if (piece == QUARTO) {
+                        continue;
+                    }
+                    moves[size++] = moves[j];
+                    if (!game.isQuartoOnBoard() && (winningSquares >>> index & 1) == 0 &&
+                            (game.getPoisonPieces(index) >>> piece & 1) == 0) {
+                        safeMoves[safeSize++] = moves[j];
+                    }
+                }
+                game.doMove(safeSize > 0 ? safeMoves[random.nextInt(safeSize)] :
+                                    moves[random.nextInt(size)]);
+            }
+            roots.add(game.toState());
+        }
+        return roots;
+    }
+
+    /**
+     * Returns the score of the provided {@code QuartoGame} for its active {@code Player}, solving
+     * and recording every position below it that is not in the table yet.
+     * @param game The {@code QuartoGame} to solve, restored before returning
+     * @param table The scores of the positions solved so far, by {@code QuartoCanonicalKey}
+     * @param buffers One reusable buffer of packed {@code Move}s per number of empty indices
+     * @return The score of the position, as described by {@link QuartoTablebase}
+     */
+    private static int solve(QuartoGame game, Map<QuartoCanonicalKey, Byte> table,
+                             int[][] buffers) {
+        int trivialScore = QuartoTablebase.getTrivialScore(game);
+        if (game.isGameOver() || game.isQuartoOnBoard()) {
+            return trivialScore;
+        }
+        QuartoCanonicalKey key = null;
+        if (trivialScore == QuartoTablebase.UNKNOWN) {
+            key = QuartoCanonicalizer.canonicalize(game);
+            Byte known = table.get(key);
+            if (known != null) {
+                return known;
+            }
+        }
+
+        int empty = QuartoBoard.PLANE_SIZE - Integer.bitCount(game.getOccupied());
+        int size = game.getValidMoveCount();
+        if (buffers[empty] == null || buffers[empty].length < size) {
+            buffers[empty] = new int[size];
+        }
+        int[] moves = buffers[empty];
+        int count = game.fillValidMoves(moves);
+        // A QUARTO that can be made now decides the score, but the positions after every other
+        // Move are still solved, so that they can be looked up if the QUARTO is missed
+        int score = -QuartoTablebase.WIN;
+        for (int i = 0; i < count; i++) {
+            // Calling QUARTO ends the game, so there is nothing below it to solve
+            if (Move.getPiece(moves[i]) == QUARTO) {
+                continue;
+            }
+            game.doMove(moves[i]);
+            score = Math.max(score, QuartoTablebase.toParentScore(solve(game, table, buffers)));
+            game.undoMove(moves[i]);
+        }
+        if (key == null) {
+            return trivialScore;
+        }
+        // The QuartoSymmetry of the key is not needed to look up the score, so it is not kept
+        table.put(new QuartoCanonicalKey(key.getHigh(), key.getLow(), QuartoSymmetry.IDENTITY),
+                  (byte) score);
+        return score;
+    }
+
+    /**
+     * Task which solves every position below a single root, on its own {@code QuartoGame}.
+     */
+    @SuppressWarnings("serial")
+    private static final class RootTask extends RecursiveAction {
+        private static final Player<QuartoPiece> PLAYER =
+                new GenericPlayer<>("tablebase", new NullStrategy<QuartoPiece>());
+
+        private final QuartoState root;
+        private final Map<QuartoCanonicalKey, Byte> table;
+
+        /**
+         * Constructs a new {@code RootTask} for the provided root.
+         * @param root The position to solve from
+         * @param table The shared scores of the positions solved so far
+         */
+        private RootTask(QuartoState root, Map<QuartoCanonicalKey, Byte> table) {
+            this.root = root;
+            this.table = table;
+        }
+
+        @Override
+        protected void compute() {
+            solve(new QuartoGame(PLAYER, PLAYER, root), table,
+                  new int[QuartoBoard.PLANE_SIZE + 1][]);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package game.implementations.quarto;
+
+import exceptions.IllegalInitializationException;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Utility class which finds QUARTOs on many boards at once with the incubating Vector API. Every
+ * lane holds the attribute planes or the occupied indices of one board, and all ten lines are
+ * checked in every lane with the same borrow trick as {@link QuartoBoard#sharesAttribute}.
+ * <p>
+ * This class is only loaded if the {@code jdk.incubator.vector} module is present; see
+ * {@link QuartoBatchSimulator}.
+ *
+ * @see QuartoBatchSimulator
+ * @see QuartoBoard
+ * @see exceptions.IllegalInitializationException
+ */
+final class QuartoVectorKernel {
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final long HIGHEST_BITS = QuartoBoard.PLANES << (QuartoBoard.PLANE_SIZE - 1);
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private QuartoVectorKernel() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Checks the provided boards for a line of four {@code QuartoPiece}s sharing an attribute.
+     * @param attributes The attribute planes of every board
+     * @param occupied The masks of occupied indices of every board
+     * @param quartos Set to whether every board holds a QUARTO
+     * @param length The number of boards to check
+     */
+    static void findQuartos(long[] attributes, long[] occupied, boolean[] quartos, int length) {
+        int bound = SPECIES.loopBound(length);
+        int board = 0;
+        for (; board < bound; board += SPECIES.length()) {
+            LongVector planes = LongVector.fromArray(SPECIES, attributes, board);
+            LongVector squares = LongVector.fromArray(SPECIES, occupied, board);
+            VectorMask<Long> found = SPECIES.maskAll(false);
+            for (int line = 0; line < QuartoBoard.LINE_COUNT; line++) {
+                long mask = QuartoBoard.getLine(line);
+                long lines = mask * QuartoBoard.PLANES;
+                VectorMask<Long> full = squares.and(mask).compare(VectorOperators.EQ, mask);
+                LongVector set = planes.and(lines);
+                LongVector unset = set.lanewise(VectorOperators.XOR, lines);
+                LongVector shared = set.sub(QuartoBoard.PLANES).and(set.not())
+                        .or(unset.sub(QuartoBoard.PLANES).and(unset.not())).and(HIGHEST_BITS);
+                found = found.or(full.and(shared.compare(VectorOperators.NE, 0)));
+            }
+            found.intoArray(quartos, board);
+        }
+        for (; board < length; board++) {
+            quartos[board] = false;
+            for (int line = 0; line < QuartoBoard.LINE_COUNT && !quartos[board]; line++) {
+                int mask = QuartoBoard.getLine(line);
+                quartos[board] = (occupied[board] & mask) == mask &&
+                        QuartoBoard.sharesAttribute(attributes[board], mask * QuartoBoard.PLANES);
+            }
+        }
+    }
+}
@@ -45,12 +45,17 @@ public final class HumanStrategy<T extends Enum<T> & Piece> implements Strategy<
     }
 
     /**
-     * Asks the user to choose the {@code Piece} for their next {@code Move}.
+     * Asks the user to choose the {@code Piece} for their next {@code Move}, unless there is only
+     * one to choose from, e.g. the colour of the user in a
+     * {@link game.implementations.connectfour.ConnectFourGame}.
      * @param validPieces The set of {@code Piece}s to choose from
      * @return The {@code Piece} the user chose
      */
     @SuppressWarnings("unchecked")
     private T determinePiece(EnumSet<T> validPieces) {
+        if (validPieces.size() == 1) {
+            return validPieces.iterator().next();
+        }
         byte count = 1;
         System.out.println("Remaining pieces:");
         for (T piece : validPieces) {
@@ -1,115 +1,751 @@
 package game.implementations.strategy;
 
 import game.interfaces.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.List;
-
-//TODO node cache, instant return fully converged, parallelized
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Implementation of {@code Strategy} which employs the
  * <a href="https://en.wikipedia.org/wiki/Monte_Carlo_tree_search">
- * <cite>Monte-Carlo tree search</cite></a> algorithm to determine a {@code Move}.
+ * <cite>Monte-Carlo tree search</cite></a> algorithm to determine a {@code Move}. If an
+ * {@code OpeningBook} is provided, it is consulted first and the search only runs for positions
+ * that are not in the book.
+ * <p>
+ * The search can run on multiple threads that share a single tree. The statistics of a
+ * {@code Node} are updated atomically without locks, and children are added lock-free: every
+ * thread claims the next unexpanded {@code Move} of a {@code Node} with a single atomic increment
+ * and publishes its child into a slot of its own. A visit is counted as soon as a thread passes
+ * through a {@code Node}, while its result is only added once the playout has finished; until
+ * then the visit counts as a loss, a <cite>virtual loss</cite> that makes the other threads
+ * prefer different branches. Every thread plays out on its own copy of the {@code Game} with its
+ * own random number generator.
+ * <p>
+ * Alternatively, every thread can search a tree of its own, sharing nothing with the other
+ * threads until the search ends, when the visits of the children of all roots are summed up to
+ * choose the {@code Move}. Such a root-parallel search needs almost no atomic updates and scales
+ * with the number of cores, but the trees do not learn from each other; see {@link Parallelism}.
+ * <p>
+ * After a search, the subtree below the chosen {@code Move} is kept. When the next search starts
+ * from a position reached from there by the reply of the opponent, the subtree below that reply
+ * becomes the new root, so that its statistics are searched on rather than thrown away.
+ * <p>
+ * A search spends a {@code SearchBudget} of time, iterations or new {@code Node}s, but returns
+ * as soon as the most visited child of the root can no longer be overtaken by the second one in
+ * the part of the budget that is left. A position with a single valid {@code Move}, or with a
+ * {@code Move} that wins on the spot, is not searched at all.
  * @param <T> A generic type that unifies the generic classes in the {@link game} package
  *
  * @see Game
  * @see Move
+ * @see OpeningBook
  * @see Player
+ * @see SearchBudget
  * @see Strategy
  */
 public final class MCTSStrategy<T extends Enum<T> & Piece> implements Strategy<T> {
-    private static final float TIMEOUT = 5f;
+    private static final SearchBudget DEFAULT_BUDGET = SearchBudget.ofMillis(5000);
+    private static final double EXPLORATION = 1.4;
+    private static final int CHECK_INTERVAL = 16;
+    private static final int MAX_CHUNK = 64;
+
+    /**
+     * The ways in which an {@code MCTSStrategy} can divide its search over multiple threads.
+     */
+    public enum Parallelism {
+        /**
+         * All threads search a single shared tree, spread over its branches by virtual loss.
+         */
+        TREE,
+        /**
+         * Every thread searches an independent tree; the visits of the root children are summed
+         * once the search has ended.
+         */
+        ROOT
+    }
+
+    private final OpeningBook<T> book;
+    private final int threads;
+    private final Parallelism parallelism;
+    private final SearchBudget budget;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private List<Node> kept = List.of();
+    private Game<T> keptState;
+    private long playouts;
+    private long nodes;
+    private long reusedVisits;
+    private boolean converged;
+    private volatile Search current;
+
+    /**
+     * Constructs a new {@code MCTSStrategy} which searches every position for at most 5 seconds
+     * on a single thread.
+     */
+    public MCTSStrategy() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new {@code MCTSStrategy} which plays the {@code Move}s of the provided
+     * {@code OpeningBook} where it can, and searches all other positions for at most 5 seconds on
+     * a single thread.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     */
+    public MCTSStrategy(OpeningBook<T> book) {
+        this(book, 1, DEFAULT_BUDGET, Parallelism.TREE);
+    }
+
+    /**
+     * Constructs a new {@code MCTSStrategy} whose threads search a single shared tree.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     * @param threads The number of threads that search the shared tree, including the calling
+     *          thread
+     * @param timeoutMillis The number of milliseconds to search for per {@code Move}
+     * @throws IllegalArgumentException Thrown if the number of threads or milliseconds is not
+     *          positive
+     */
+    public MCTSStrategy(OpeningBook<T> book, int threads, long timeoutMillis) {
+        this(book, threads, SearchBudget.ofMillis(timeoutMillis), Parallelism.TREE);
+    }
+
+    /**
+     * Constructs a new {@code MCTSStrategy} which searches for a fixed time per {@code Move}.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     * @param threads The number of threads that search, including the calling thread
+     * @param timeoutMillis The number of milliseconds to search for per {@code Move}
+     * @param parallelism The way in which the threads divide the search
+     * @throws IllegalArgumentException Thrown if the number of threads or milliseconds is not
+     *          positive
+     */
+    public MCTSStrategy(OpeningBook<T> book, int threads, long timeoutMillis,
+                        Parallelism parallelism) {
+        this(book, threads, SearchBudget.ofMillis(timeoutMillis), parallelism);
+    }
+
+    /**
+     * Constructs a new {@code MCTSStrategy} with the provided settings.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     * @param threads The number of threads that search, including the calling thread
+     * @param budget The most to spend on searching a single {@code Move}
+     * @param parallelism The way in which the threads divide the search
+     * @throws IllegalArgumentException Thrown if the number of threads is not positive
+     */
+    public MCTSStrategy(OpeningBook<T> book, int threads, SearchBudget budget,
+                        Parallelism parallelism) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Cannot search on " + threads + " threads");
+        }
+        this.book = book;
+        this.threads = threads;
+        this.budget = budget;
+        this.parallelism = parallelism;
+    }
 
     @Override
     public <U extends Move<T>, V extends Game<T>> U determineMove(V game) {
-        Node<U> root = new Node<>(game, null, null);
-        double end = System.nanoTime() + TIMEOUT * Math.pow(10, 9);
-        while (System.nanoTime() < end) {
-            Node<U> node = root;
-            while (node.unplayedMoves.isEmpty() && !node.game.isGameOver()) {
-                node = node.getBestChild();
+        if (book != null) {
+            U bookMove = book.lookup(game);
+            if (bookMove != null) {
+                return bookMove;
             }
+        }
+        if (game.isGameOver()) {
+            kept = List.of();
+            keptState = null;
+            return null;
+        }
 
-            if (!(node.game.isGameOver() || node.unplayedMoves.isEmpty())) {
-                node = node.expand();
+        playouts = 0;
+        nodes = 0;
+        converged = true;
+        int winningMove = findWinningMove(game);
+        if (winningMove >= 0) {
+            kept = List.of();
+            keptState = null;
+            reusedVisits = 0;
+            return game.toMove(winningMove);
+        }
+        boolean shared = parallelism == Parallelism.TREE;
+        List<Node> roots = findRoots(game, shared ? 1 : threads);
+        reusedVisits = roots.stream().mapToLong(root -> root.visits - 1).sum();
+        if (roots.getFirst().moves.length == 1) {
+            int move = roots.getFirst().getChildMove(0);
+            keep(game, roots, move);
+            return game.toMove(move);
+        }
+
+        Search search = new Search(roots);
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Node root = roots.get(shared ? 0 : i);
+            workers.add(new Worker(search, root, game, seeds.split(), shared, i == 0));
+        }
+        current = search;
+        PlayoutWorker.runAll(workers);
+        current = null;
+
+        playouts = workers.stream().mapToLong(worker -> worker.playouts).sum();
+        nodes = workers.stream().mapToLong(worker -> worker.nodes).sum();
+        converged = search.stopped;
+        int move = getMostVisitedMove(roots);
+        keep(game, roots, move);
+        return game.toMove(move);
+    }
+
+    /**
+     * Stops the search in progress, if any; {@link #determineMove(Game)} then returns the most
+     * visited {@code Move} so far. May be called from any thread.
+     */
+    @Override
+    public void cancel() {
+        Search search = current;
+        if (search != null) {
+            search.cancelled = true;
+        }
+    }
+
+    /**
+     * Returns a valid {@code Move} of the provided {@code Game} state that wins the game at once
+     * for the active {@code Player}, if there is one.
+     * @param game The {@code Game} state to look for a winning {@code Move} in; not changed
+     * @return The packed winning {@code Move}, or {@code -1} if there is none
+     */
+    private int findWinningMove(Game<T> game) {
+        Game<T> copy = game.deepCopy();
+        Player<T> mover = copy.getActivePlayer();
+        int[] valid = new int[copy.getValidMoveCount()];
+        int count = copy.fillValidMoves(valid);
+        for (int i = 0; i < count; i++) {
+            copy.doMove(valid[i]);
+            boolean won = copy.isGameOver() && copy.getWinner() == mover;
+            copy.undoMove(valid[i]);
+            if (won) {
+                return valid[i];
             }
-            node.propagateResult(node.rollout());
         }
+        return -1;
+    }
 
-        int maxTrials = -1;
-        U bestMove = null;
-        for (Node<U> child : root.children) {
-            if (child.trials > maxTrials) {
-                maxTrials = child.trials;
-                bestMove = child.parentMove;
+    /**
+     * Returns the roots to search the provided {@code Game} state from: the kept subtrees of the
+     * previous search if they lead to this state, or new {@code Node}s otherwise.
+     * @param game The {@code Game} state to search
+     * @param count The number of roots to return
+     * @return The roots to search from
+     */
+    private List<Node> findRoots(Game<T> game, int count) {
+        List<Node> roots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Node root = null;
+            if (keptState != null && i < kept.size() && kept.get(i) != null) {
+                root = kept.get(i).findDescendant(keptState, game);
             }
+            if (root != null && root.moves == null) {
+                root = null;
+            }
+            roots.add(root != null ? root : new Node(-1, game));
         }
-        return bestMove;
+        kept = List.of();
+        keptState = null;
+        return roots;
+    }
+
+    /**
+     * Keeps the subtrees below the chosen {@code Move} of the provided roots, together with the
+     * {@code Game} state they start from, for the next search to continue on.
+     * @param game The searched {@code Game} state; not changed
+     * @param roots The roots of the searched trees
+     * @param move The chosen packed {@code Move}
+     */
+    private void keep(Game<T> game, List<Node> roots, int move) {
+        kept = new ArrayList<>(roots.size());
+        for (Node root : roots) {
+            kept.add(root.findChild(move));
+        }
+        keptState = game.deepCopy();
+        keptState.doMove(move);
+    }
+
+    /**
+     * Returns the {@code Move} whose child {@code Node}s have been visited most often, summed over
+     * the provided roots. All roots hold the same {@code Move}s in the same order, and every
+     * search expands them in that order, so that children are matched by their index.
+     * @param roots The roots of the searched trees
+     * @return The packed {@code Move} that has been visited most often
+     */
+    private static int getMostVisitedMove(List<Node> roots) {
+        long[] visits = getRootVisits(roots);
+        int best = 0;
+        for (int i = 1; i < visits.length; i++) {
+            if (visits[i] > visits[best]) {
+                best = i;
+            }
+        }
+        return roots.getFirst().getChildMove(best);
+    }
+
+    /**
+     * Returns the visits of the children of the provided roots, summed per {@code Move}.
+     * @param roots The roots of the searched trees
+     * @return The visits per child slot, as described by {@link #getMostVisitedMove(List)}
+     */
+    private static long[] getRootVisits(List<Node> roots) {
+        long[] visits = new long[roots.getFirst().moves.length];
+        for (Node root : roots) {
+            for (int i = 0; i < visits.length; i++) {
+                Node child = root.children.get(i);
+                if (child != null) {
+                    visits[i] += child.visits;
+                }
+            }
+        }
+        return visits;
+    }
+
+    /**
+     * Returns the number of playouts of the last search, summed over all threads.
+     * @return The number of playouts
+     */
+    public long getPlayoutCount() {
+        return playouts;
+    }
+
+    /**
+     * Returns the number of {@code Node}s the last search created, summed over all threads.
+     * @return The number of new {@code Node}s
+     */
+    public long getNodeCount() {
+        return nodes;
     }
 
     /**
-     * Class to represent a node within a tree-structure, specifically for MCTS.
-     * @param <U> A generic type that represents the type of {@code Move}s that can be played
-     *          with {@code Piece}s of type {@link T}
+     * Checks whether the last search returned before spending its whole {@code SearchBudget},
+     * because its {@code Move} could no longer change or was the only one.
+     * @return {@code True}: If the last search ended early <br> {@code False}: If it spent its
+     *          whole {@code SearchBudget}
      */
-    private final class Node<U extends Move<T>> {
+    public boolean hasConverged() {
+        return converged;
+    }
+
+    /**
+     * Returns the number of visits that the last search took over from the previous one, summed
+     * over all roots; {@code 0} if it started from scratch.
+     * @return The number of reused visits
+     */
+    public long getReusedVisitCount() {
+        return reusedVisits;
+    }
+
+    /**
+     * Returns the number of threads that search.
+     * @return The number of threads
+     */
+    public int getThreadCount() {
+        return threads;
+    }
+
+    /**
+     * Returns the way in which the threads divide the search.
+     * @return The {@code Parallelism} of this {@code MCTSStrategy}
+     */
+    public Parallelism getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the most this {@code MCTSStrategy} spends on searching a single {@code Move}.
+     * @return The {@code SearchBudget} of this {@code MCTSStrategy}
+     */
+    public SearchBudget getBudget() {
+        return budget;
+    }
+
+    /**
+     * Class to represent the state that all {@code Worker}s of a single search share: what is
+     * left of the {@code SearchBudget}, and whether the search has converged. Iterations and
+     * {@code Node}s are handed out to the {@code Worker}s in chunks, so that they rarely touch
+     * the shared counter.
+     */
+    private final class Search {
+        private final List<Node> roots;
+        private final long start = System.nanoTime();
+        private final long deadline;
+        private final AtomicLong remaining;
+        private final long chunk;
+        private volatile boolean stopped = false;
+        private volatile boolean cancelled = false;
+
+        /**
+         * Constructs a new {@code Search} below the provided roots, starting now.
+         * @param roots The roots of the searched trees
+         */
+        private Search(List<Node> roots) {
+            this.roots = roots;
+            boolean timed = budget.getKind() == SearchBudget.Kind.MILLIS;
+            deadline = timed ? start + budget.getLimit() * 1_000_000 : Long.MAX_VALUE;
+            remaining = new AtomicLong(timed ? 0 : budget.getLimit());
+            chunk = Math.clamp(budget.getLimit() / (threads * 16L), 1, MAX_CHUNK);
+        }
+
+        /**
+         * Checks whether the provided {@code Worker} may run another iteration, claiming a new
+         * chunk of the {@code SearchBudget} for it if it has used up its previous one.
+         * @param worker The {@code Worker} that is about to run an iteration
+         * @return {@code True}: If the {@code Worker} may run another iteration <br>
+         *          {@code False}: If the search is over
+         */
+        private boolean proceed(Worker worker) {
+            if (stopped || cancelled || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            if (budget.getKind() == SearchBudget.Kind.MILLIS) {
+                return System.nanoTime() < deadline;
+            }
+            if (worker.allowance == 0) {
+                worker.allowance = Math.clamp(remaining.getAndAdd(-chunk), 0, chunk);
+            }
+            return worker.allowance > 0;
+        }
+
+        /**
+         * Charges the provided {@code Worker} for the iteration it has just run.
+         * @param worker The {@code Worker} that has run an iteration
+         * @param created Whether the iteration created a {@code Node}
+         */
+        private void spend(Worker worker, boolean created) {
+            if (budget.getKind() == SearchBudget.Kind.ITERATIONS
+                    || budget.getKind() == SearchBudget.Kind.NODES && created) {
+                worker.allowance--;
+            }
+        }
+
+        /**
+         * Stops the search if the most visited child of the roots leads the second by more
+         * visits than the rest of the {@code SearchBudget} can add, so that it cannot be
+         * overtaken anymore.
+         * @param leader The {@code Worker} on the calling thread, whose progress is used to
+         *          estimate the iterations that are left
+         */
+        private void checkConvergence(Worker leader) {
+            long best = 0;
+            long second = 0;
+            for (long visits : getRootVisits(roots)) {
+                if (visits > best) {
+                    second = best;
+                    best = visits;
+                } else if (visits > second) {
+                    second = visits;
+                }
+            }
+            if (best - second > estimateRemaining(leader)) {
+                stopped = true;
+            }
+        }
+
+        /**
+         * Estimates the number of iterations that all {@code Worker}s together can still run,
+         * from the rest of the {@code SearchBudget} and the progress of the leading
+         * {@code Worker} so far.
+         * @param leader The {@code Worker} on the calling thread
+         * @return The estimated number of iterations left
+         */
+        private long estimateRemaining(Worker leader) {
+            long units = Math.max(0, remaining.get()) + threads * chunk;
+            return switch (budget.getKind()) {
+                case MILLIS -> {
+                    long now = System.nanoTime();
+                    double rate = leader.playouts / (double) Math.max(1, now - start);
+                    yield (long) Math.ceil(rate * Math.max(0, deadline - now) * threads);
+                }
+                case ITERATIONS -> units;
+                case NODES -> leader.nodes == 0 ? Long.MAX_VALUE
+                                                : units * leader.playouts / leader.nodes;
+            };
+        }
+    }
+
+    /**
+     * Class to represent the work of a single thread of a search: repeatedly selecting a path down
+     * the tree, expanding it by one {@code Node}, playing out a random game from there and adding
+     * the result to every {@code Node} on the path, until the search is over.
+     */
+    private final class Worker extends PlayoutWorker<T> {
+        private final Search search;
+        private final Node root;
         private final Game<T> game;
-        private final Player<T> activePlayer;
-        private final Node<U> parent;
-        private final U parentMove;
-        private final List<Node<U>> children;
-        private final List<U> unplayedMoves;
-        private int trials = 0;
-        private float score = 0;
-
-        /**
-         * Constructs a new {@code Node}, using the provided arguments as a way to maintain a
-         * tree-structure.
-         * @param game The {@code Game} state which this {@code Node} represents
-         * @param parent The {@code Node} one level above this {@code Node}
-         * @param parentMove The {@code Move} the parent {@code Node} made to reach the provided
-         *          {@code Game} state
-         */
-        private Node(Game<T> game, Node<U> parent, U parentMove) {
+        private final boolean shared;
+        private final boolean leader;
+        private final List<Node> path = new ArrayList<>();
+        private final List<Player<T>> movers = new ArrayList<>();
+        private long nodes = 0;
+        private long allowance = 0;
+
+        /**
+         * Constructs a new {@code Worker} which searches below the provided root.
+         * @param search The state shared by all {@code Worker}s of the search
+         * @param root The root {@code Node} to search below
+         * @param game The {@code Game} state of the root; not changed
+         * @param random The random number generator of this {@code Worker}
+         * @param shared Whether other {@code Worker}s search below the same root, so that its
+         *          {@code Node}s have to be updated atomically
+         * @param leader Whether this {@code Worker} checks the search for convergence
+         */
+        private Worker(Search search, Node root, Game<T> game, SplittableRandom random,
+                       boolean shared, boolean leader) {
+            super(random);
+            this.search = search;
+            this.root = root;
             this.game = game;
-            this.activePlayer = game.getActivePlayer();
-            this.parent = parent;
-            this.parentMove = parentMove;
-            children = new ArrayList<>();
-            unplayedMoves = game.getValidMoves();
+            this.shared = shared;
+            this.leader = leader;
+        }
+
+        @Override
+        public void run() {
+            while (search.proceed(this)) {
+                boolean created = playOut();
+                playouts++;
+                if (created) {
+                    nodes++;
+                }
+                search.spend(this, created);
+                if (leader && playouts % CHECK_INTERVAL == 0) {
+                    search.checkConvergence(this);
+                }
+            }
+        }
+
+        /**
+         * Runs a single iteration of the search.
+         * @return {@code True}: If the iteration created a {@code Node} <br> {@code False}: If it
+         *          only reached {@code Node}s that existed already
+         */
+        private boolean playOut() {
+            Game<T> state = game.deepCopy();
+            path.clear();
+            movers.clear();
+            root.addVisit(shared);
+            Node node = root;
+            boolean expanded = false;
+            while (!state.isGameOver()) {
+                Node child = node.expand(shared);
+                expanded = child != null;
+                if (!expanded) {
+                    child = node.getBestChild();
+                    if (child == null) {
+                        break;
+                    }
+                    child.addVisit(shared);
+                }
+                path.add(child);
+                movers.add(state.getActivePlayer());
+                state.doMove(child.move);
+                if (expanded) {
+                    child.generateMoves(state);
+                    break;
+                }
+                node = child;
+            }
+
+            Player<T> winner = rollout(state);
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).addScore(toResult(winner, movers.get(i)), shared);
+            }
+            return expanded;
+        }
+    }
+
+    /**
+     * Class to represent a node within a tree-structure, specifically for MCTS, which may be
+     * searched by multiple threads at once. A {@code Node} holds the packed {@code Move} leading
+     * to it, not the {@code Game} state, so that the tree takes little memory; the state is
+     * rebuilt by every thread on the way down.
+     */
+    private static final class Node {
+        private static final VarHandle VISITS;
+        private static final VarHandle SCORE;
+        private static final VarHandle EXPANDED;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VISITS = lookup.findVarHandle(Node.class, "visits", int.class);
+                SCORE = lookup.findVarHandle(Node.class, "score", int.class);
+                EXPANDED = lookup.findVarHandle(Node.class, "expanded", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final int move;
+        private volatile int[] moves;
+        private volatile AtomicReferenceArray<Node> children;
+        private volatile int visits = 1;
+        private volatile int score = 0;
+        private volatile int expanded = 0;
+
+        /**
+         * Constructs a new {@code Node} that is reached by the provided packed {@code Move}, and
+         * which counts the visit of the thread creating it.
+         * @param move The packed {@code Move} leading to this {@code Node}, or {@code -1} for
+         *          the root
+         * @param game The {@code Game} state of this {@code Node} if its {@code Move}s are to be
+         *          generated right away, or {@code null} to generate them later
+         */
+        private Node(int move, Game<?> game) {
+            this.move = move;
+            if (game != null) {
+                generateMoves(game);
+            }
+        }
+
+        /**
+         * Generates the valid {@code Move}s of this {@code Node}, which until then has no
+         * children; to be called once, by the thread that created it, before the {@code Node}
+         * is searched further.
+         * @param game The {@code Game} state of this {@code Node}
+         */
+        private void generateMoves(Game<?> game) {
+            int[] valid = new int[game.getValidMoveCount()];
+            game.fillValidMoves(valid);
+            children = new AtomicReferenceArray<>(valid.length);
+            moves = valid;
         }
 
         /**
-         * Selects and plays a yet to be played {@code Move}, creates a new child {@code Node} to
-         * represent this new part of the tree, and returns this child.
-         * @return The yet to be unexplored child {@code Node}
+         * Claims the next unexpanded {@code Move} of this {@code Node}, if any, and adds the child
+         * {@code Node} it leads to. The child is published before this method returns, but its
+         * own {@code Move}s are only generated by the calling thread afterwards.
+         * @param shared Whether other threads search this {@code Node} as well
+         * @return The new child {@code Node}, or {@code null} if every {@code Move} has been
+         *          claimed already or the {@code Move}s of this {@code Node} are not known yet
          */
-        private Node<U> expand() {
-            U move = unplayedMoves.removeLast();
-            Game<T> copy = game.deepCopy();
-            copy.doMove(move);
-            Node<U> child = new Node<>(copy, this, move);
-            children.add(child);
+        private Node expand(boolean shared) {
+            int[] valid = moves;
+            if (valid == null || expanded >= valid.length) {
+                return null;
+            }
+            int index = shared ? (int) EXPANDED.getAndAdd(this, 1) : plainIncrement(EXPANDED);
+            if (index >= valid.length) {
+                return null;
+            }
+            Node child = new Node(getChildMove(index), null);
+            if (shared) {
+                children.set(index, child);
+            } else {
+                children.setPlain(index, child);
+            }
             return child;
         }
 
         /**
-         * Uses an Exploitation vs Exploration heuristic to select the child {@code Node} which is
-         * most worth exploring.
-         * @return The best child {@code Node} to explore, according to the heuristic
-         */
-        private Node<U> getBestChild() {
-            double bestScore = Integer.MIN_VALUE;
-            Node<U> bestChild = null;
-            for (Node<U> child : children) {
-                if (child.trials == 0) {
+         * Returns the packed {@code Move} of the child {@code Node} in the provided slot; children
+         * are expanded from the last valid {@code Move} to the first.
+         * @param index The slot of the child {@code Node}
+         * @return The packed {@code Move} leading to the child {@code Node}
+         */
+        private int getChildMove(int index) {
+            return moves[moves.length - 1 - index];
+        }
+
+        /**
+         * Returns the child {@code Node} that the provided packed {@code Move} leads to.
+         * @param move The packed {@code Move} to look up
+         * @return The child {@code Node}, or {@code null} if it has not been expanded
+         */
+        private Node findChild(int move) {
+            AtomicReferenceArray<Node> published = children;
+            if (published == null) {
+                return null;
+            }
+            for (int i = 0; i < published.length(); i++) {
+                Node child = published.get(i);
+                if (child != null && child.move == move) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the {@code Node} of the provided target {@code Game} state if it is this
+         * {@code Node} itself or one of its children, that is, if the target is reached from the
+         * state of this {@code Node} by at most one {@code Move}. States are matched by their
+         * Zobrist key and turn count.
+         * @param state The {@code Game} state of this {@code Node}; not changed
+         * @param target The {@code Game} state to look for
+         * @return The {@code Node} of the target state, or {@code null} if it is not found
+         */
+        private Node findDescendant(Game<?> state, Game<?> target) {
+            if (matches(state, target)) {
+                return this;
+            }
+            AtomicReferenceArray<Node> published = children;
+            if (published == null || state.getTurnCount() + 1 != target.getTurnCount()) {
+                return null;
+            }
+            Game<?> copy = state.deepCopy();
+            for (int i = 0; i < published.length(); i++) {
+                Node child = published.get(i);
+                if (child == null) {
+                    continue;
+                }
+                copy.doMove(child.move);
+                boolean found = matches(copy, target);
+                copy.undoMove(child.move);
+                if (found) {
                     return child;
                 }
-                float exploit = child.score / child.trials;
-                double explore = 1.4 * Math.sqrt(Math.log(trials) / child.trials);
-                double totalScore = exploit + explore;
-                if (totalScore > bestScore) {
-                    bestScore = totalScore;
+            }
+            return null;
+        }
+
+        /**
+         * Checks whether the two provided {@code Game} states are the same position.
+         * @param state The first {@code Game} state
+         * @param target The second {@code Game} state
+         * @return {@code True}: If both states are of the same {@code Game} and have the same
+         *          Zobrist key and turn count <br> {@code False}: If they differ
+         */
+        private static boolean matches(Game<?> state, Game<?> target) {
+            return state.getClass() == target.getClass()
+                    && state.getTurnCount() == target.getTurnCount()
+                    && state.getZobristKey() == target.getZobristKey();
+        }
+
+        /**
+         * Uses an Exploitation vs Exploration heuristic to select the child {@code Node} which is
+         * most worth exploring. Children that are claimed but not yet published are skipped.
+         * @return The best child {@code Node} to explore, according to the heuristic, or
+         *          {@code null} if there is none yet
+         */
+        private Node getBestChild() {
+            AtomicReferenceArray<Node> published = children;
+            if (published == null) {
+                return null;
+            }
+            double logVisits = Math.log(visits);
+            double bestScore = Double.NEGATIVE_INFINITY;
+            Node bestChild = null;
+            for (int i = 0; i < published.length(); i++) {
+                Node child = published.get(i);
+                if (child == null) {
+                    continue;
+                }
+                int childVisits = child.visits;
+                double exploit = child.score / (double) (PlayoutWorker.WIN * childVisits);
+                double explore = EXPLORATION * Math.sqrt(logVisits / childVisits);
+                if (exploit + explore > bestScore) {
+                    bestScore = exploit + explore;
                     bestChild = child;
                 }
             }
@@ -117,45 +753,43 @@ public final class MCTSStrategy<T extends Enum<T> & Piece> implements Strategy<T
         }
 
         /**
-         * Plays out a {@code Game}, starting with the {@code Game} state which this
-         * {@code Node} represents, and returns the winning {@code Player} once a terminal state has
-         * been reached.
-         * @return The {@code Player} who won in the reached terminal {@code Game} state
+         * Counts a visit of this {@code Node}, before the result of the playout is known.
+         * @param shared Whether other threads search this {@code Node} as well
          */
-        private Player<T> rollout() {
-            Game<T> copy = game.deepCopy();
-            while (true) {
-                if (copy.isGameOver()) {
-                    return copy.getWinner();
-                }
-                List<U> validMoves = copy.getValidMoves();
-                copy.doMove(validMoves.get((int) (Math.random() * validMoves.size())));
+        private void addVisit(boolean shared) {
+            if (shared) {
+                VISITS.getAndAdd(this, 1);
+            } else {
+                plainIncrement(VISITS);
             }
         }
 
         /**
-         * Updates the relevant attributes of this {@code Node} and all parent {@code Node}s,
-         * recursively, according to the winning {@code Player} of a {@code rollout} in order to
-         * keep the {@code getBestChild} heuristic correct.
-         * @param winner The {@code Player} who is used to determine whether this {@code Node}
-         *               should be rewarded or penalized
+         * Adds the result of a finished playout to this {@code Node}.
+         * @param result The score of the playout, as described by {@link PlayoutWorker#WIN}
+         * @param shared Whether other threads search this {@code Node} as well
          */
-        private void propagateResult(Player<T> winner) {
-            trials++;
-            if (winner != activePlayer) {
-                //win
-                score += 1;
-            } else if (winner == null) {
-                //draw
-                score += Float.MIN_VALUE;
+        private void addScore(int result, boolean shared) {
+            if (result == 0) {
+                return;
             }
-            //            else {
-            //                loss
-            //                score -= 1;
-            //            }
-            if (parent != null) {
-                parent.propagateResult(winner);
+            if (shared) {
+                SCORE.getAndAdd(this, result);
+            } else {
+                SCORE.set(this, (int) SCORE.get(this) + result);
             }
         }
+
+        /**
+         * Increments the provided field of this {@code Node} with plain memory accesses, for
+         * {@code Node}s that only a single thread searches.
+         * @param handle The {@code VarHandle} of the field to increment
+         * @return The value of the field before the increment
+         */
+        private int plainIncrement(VarHandle handle) {
+            int value = (int) handle.get(this);
+            handle.set(this, value + 1);
+            return value;
+        }
     }
 }
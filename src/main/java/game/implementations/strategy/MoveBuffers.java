@@ -0,0 +1,33 @@
+package game.implementations.strategy;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffers of packed {@code Move}s, one per ply of a depth-first search, so that
+ * generating the {@code Move}s of a position does not allocate once the buffers have grown to
+ * the depth and branching factor of the search. A {@code MoveBuffers} is not safe to use from
+ * multiple threads at once.
+ *
+ * @see SolverStrategy
+ * @see ParallelSolverStrategy
+ */
+final class MoveBuffers {
+    private int[][] buffers = new int[0][];
+
+    /**
+     * Returns the reusable buffer of packed {@code Move}s for the provided ply, making sure that
+     * it can hold at least the provided number of {@code Move}s.
+     * @param ply The number of turns played since the root of the search
+     * @param size The number of packed {@code Move}s the buffer must be able to hold
+     * @return The buffer of packed {@code Move}s
+     */
+    int[] get(int ply, int size) {
+        if (ply >= buffers.length) {
+            buffers = Arrays.copyOf(buffers, ply + 1);
+        }
+        if (buffers[ply] == null || buffers[ply].length < size) {
+            buffers[ply] = new int[size];
+        }
+        return buffers[ply];
+    }
+}
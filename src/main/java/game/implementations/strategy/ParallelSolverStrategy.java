@@ -0,0 +1,420 @@
+package game.implementations.strategy;
+
+import game.implementations.OffHeapTranspositionTable;
+import game.interfaces.*;
+import java.lang.foreign.Arena;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Implementation of {@code Strategy} which searches the tree of {@code Move}s exactly, like
+ * {@link SolverStrategy}, on all threads of a {@code ForkJoinPool}.
+ * <p>
+ * The tree is split in
+ * <a href="https://www.chessprogramming.org/Young_Brothers_Wait_Concept">
+ * <cite>young brothers wait</cite></a> style: at a node close enough to the root, the first
+ * {@code Move} is searched on its own to establish a bound, after which all remaining
+ * {@code Move}s are searched as parallel tasks on their own copies of the {@code Game}, which idle
+ * threads steal from each other. The bound found by any sibling narrows the window of siblings
+ * that start later, and a sibling that causes a cutoff stops all of its running siblings. Results
+ * are shared between threads through a {@code TranspositionTable} that must be safe for
+ * concurrent use, such as an {@code OffHeapTranspositionTable}.
+ * <p>
+ * Searches are iteratively deepened until the whole tree has been searched or the time runs out,
+ * and can be stopped early from any thread by {@link #cancel()}; the best {@code Move} of the
+ * deepest completed search is played. Scores follow the convention of {@code SolverStrategy}.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see Game
+ * @see Strategy
+ * @see SolverStrategy
+ * @see TranspositionTable
+ */
+public final class ParallelSolverStrategy<T extends Enum<T> & Piece> implements Strategy<T> {
+    /**
+     * The score of the active {@code Player} if the game has been won before their turn.
+     */
+    public static final int WIN = SolverStrategy.WIN;
+
+    /**
+     * The score of a draw, and of positions beyond the searched depth.
+     */
+    public static final int DRAW = SolverStrategy.DRAW;
+
+    private static final float TIMEOUT = 5f;
+    private static final long TABLE_BYTES = 64L << 20;
+    private static final int INFINITY = WIN + 1;
+    private static final int CHECK_INTERVAL = 0xFFF;
+    private static final int SPLIT_PLIES = 4;
+    private static final int MIN_SPLIT_DEPTH = 3;
+
+    private final OpeningBook<T> book;
+    private final TranspositionTable table;
+    private final ForkJoinPool pool;
+    private final long timeout;
+    private final AtomicLongArray history = new AtomicLongArray(SolverStrategy.HISTORY_SIZE);
+    private final IntToLongFunction historyScore = history::get;
+    private final LongAdder nodes = new LongAdder();
+    private volatile long deadline;
+    private volatile boolean aborted;
+
+    /**
+     * Constructs a new {@code ParallelSolverStrategy} without an {@code OpeningBook}, which
+     * searches for 5 seconds per {@code Move} on the common {@code ForkJoinPool}. Its
+     * {@code TranspositionTable} is released once the {@code ParallelSolverStrategy} is no longer
+     * reachable.
+     */
+    public ParallelSolverStrategy() {
+        this(null, new OffHeapTranspositionTable(TABLE_BYTES, Arena.ofAuto()),
+             ForkJoinPool.commonPool(), (long) (TIMEOUT * 1000));
+    }
+
+    /**
+     * Constructs a new {@code ParallelSolverStrategy} with the provided settings.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     * @param table The {@code TranspositionTable} to store search results in, which must be safe
+     *          for concurrent use
+     * @param pool The {@code ForkJoinPool} to search on
+     * @param timeoutMillis The number of milliseconds to search for per {@code Move}
+     */
+    public ParallelSolverStrategy(OpeningBook<T> book, TranspositionTable table,
+                                  ForkJoinPool pool, long timeoutMillis) {
+        this.book = book;
+        this.table = table;
+        this.pool = pool;
+        this.timeout = timeoutMillis * 1_000_000;
+    }
+
+    @Override
+    public <U extends Move<T>, V extends Game<T>> U determineMove(V game) {
+        if (book != null) {
+            U bookMove = book.lookup(game);
+            if (bookMove != null) {
+                return bookMove;
+            }
+        }
+        if (game.isGameOver()) {
+            return null;
+        }
+
+        Game<T> copy = game.deepCopy();
+        start(System.nanoTime() + timeout);
+        return game.toMove(SolverStrategy.deepen(copy, depth -> {
+            SearchTask task = new SearchTask(copy, -1, depth, null, 0);
+            pool.invoke(task);
+            return aborted ? SolverStrategy.ABORTED :
+                    SolverStrategy.toRootResult(task.bestMove, task.horizon);
+        }));
+    }
+
+    /**
+     * Searches the whole tree of {@code Move}s below the provided {@code Game}, without a time
+     * limit, and returns its exact score.
+     * @param game The {@code Game} to solve; not changed
+     * @return The score of the {@code Game} for its active {@code Player}, as described in
+     *          {@link SolverStrategy}
+     * @throws CancellationException Thrown if the search was stopped by {@link #cancel()} before
+     *          the score was known; a cancelled search has no score, not even a draw
+     */
+    public int solve(Game<T> game) {
+        start(Long.MAX_VALUE);
+        SearchTask task = new SearchTask(game.deepCopy(), -1, TranspositionTable.MAX_DEPTH, null,
+                                         0);
+        pool.invoke(task);
+        if (aborted) {
+            throw new CancellationException("The search was cancelled before it was solved");
+        }
+        return task.score;
+    }
+
+    /**
+     * Stops the search in progress, if any; {@link #determineMove(Game)} then returns the best
+     * {@code Move} of the deepest completed search. May be called from any thread.
+     */
+    @Override
+    public void cancel() {
+        aborted = true;
+    }
+
+    /**
+     * Returns the number of positions visited by the last search, over all threads.
+     * @return The number of visited positions
+     */
+    public long getNodeCount() {
+        return nodes.sum();
+    }
+
+    /**
+     * Resets the state of a search before it starts.
+     * @param searchDeadline The value of {@code System.nanoTime()} at which to stop searching
+     */
+    private void start(long searchDeadline) {
+        deadline = searchDeadline;
+        aborted = false;
+        nodes.reset();
+        table.newSearch();
+        for (int i = 0; i < SolverStrategy.HISTORY_SIZE; i++) {
+            history.set(i, history.get(i) >> 1);
+        }
+    }
+
+    /**
+     * Records that the provided packed {@code Move} caused a cutoff at the provided depth.
+     * @param move The packed {@code Move}
+     * @param depth The number of turns that were left to search
+     */
+    private void addHistory(int move, int depth) {
+        history.addAndGet(move & SolverStrategy.HISTORY_SIZE - 1,
+                          SolverStrategy.toHistoryBonus(depth));
+    }
+
+    /**
+     * Class which holds the state shared by the sibling tasks of a node whose {@code Move}s are
+     * searched in parallel.
+     */
+    private static final class Split {
+        private final Split parent;
+        private final int beta;
+        private int alpha;
+        private int bestScore;
+        private int bestMove;
+        private volatile boolean cutoff;
+
+        /**
+         * Constructs a new {@code Split} for a node whose first {@code Move} has been searched.
+         * @param parent The {@code Split} the node itself is searched under, or {@code null}
+         * @param alpha The score the active {@code Player} is already assured of
+         * @param beta The score the other {@code Player} is already assured of, negated
+         * @param bestScore The best score found so far
+         * @param bestMove The packed {@code Move} with the best score found so far
+         */
+        private Split(Split parent, int alpha, int beta, int bestScore, int bestMove) {
+            this.parent = parent;
+            this.alpha = alpha;
+            this.beta = beta;
+            this.bestScore = bestScore;
+            this.bestMove = bestMove;
+        }
+
+        /**
+         * Returns the current lower bound of the window of the node.
+         * @return The score the active {@code Player} is already assured of
+         */
+        private synchronized int getAlpha() {
+            return alpha;
+        }
+
+        /**
+         * Records the score of one of the {@code Move}s of the node.
+         * @param score The score of the {@code Move}, from the point of view of the node
+         * @param move The packed {@code Move}
+         */
+        private synchronized void update(int score, int move) {
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                alpha = Math.max(alpha, score);
+            }
+            if (alpha >= beta) {
+                cutoff = true;
+            }
+        }
+
+        /**
+         * Checks whether the results of this {@code Split} are no longer needed, because a
+         * sibling of it or of any of its ancestors caused a cutoff.
+         * @return {@code True}: A cutoff happened above; searching may stop. <br>
+         *          {@code False}: The results are still needed.
+         */
+        private boolean isCutOff() {
+            for (Split split = this; split != null; split = split.parent) {
+                if (split.cutoff) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Class which searches one subtree on its own copy of the {@code Game}: either the root of a
+     * search, or one {@code Move} of a {@code Split}.
+     */
+    @SuppressWarnings("serial")
+    private final class SearchTask extends RecursiveAction {
+        private final Game<T> game;
+        private final int move;
+        private final int depth;
+        private final Split split;
+        private final int ply;
+        private final MoveBuffers moveBuffers = new MoveBuffers();
+        private long taskNodes;
+        private boolean horizon;
+        private int score;
+        private int bestMove = -1;
+
+        /**
+         * Constructs a new {@code SearchTask}.
+         * @param game The {@code Game} to search, owned by this task
+         * @param move The packed {@code Move} of the {@code Split} to play first, or {@code -1}
+         *          to search the root
+         * @param depth The number of turns left to search after the {@code Move}
+         * @param split The {@code Split} to report to, or {@code null} for the root
+         * @param ply The number of turns played since the root after the {@code Move}
+         */
+        private SearchTask(Game<T> game, int move, int depth, Split split, int ply) {
+            this.game = game;
+            this.move = move;
+            this.depth = depth;
+            this.split = split;
+            this.ply = ply;
+        }
+
+        @Override
+        protected void compute() {
+            if (System.nanoTime() > deadline) {
+                aborted = true;
+            }
+            if (split == null) {
+                score = search(depth, -INFINITY, INFINITY, 0);
+            } else if (!isStopped()) {
+                game.doMove(move);
+                int childScore = search(depth, SolverStrategy.toChildScore(split.beta),
+                                        SolverStrategy.toChildScore(split.getAlpha()), ply);
+                if (!isStopped()) {
+                    split.update(SolverStrategy.toParentScore(childScore), move);
+                }
+            }
+            nodes.add(taskNodes);
+        }
+
+        /**
+         * Checks whether this task should stop searching.
+         * @return {@code True}: The search was aborted or the result is no longer needed. <br>
+         *          {@code False}: The search goes on.
+         */
+        private boolean isStopped() {
+            return aborted || split != null && split.isCutOff();
+        }
+
+        /**
+         * Searches the {@code Game} of this task to the provided depth within the provided window,
+         * searching the younger brothers of nodes close to the root in parallel.
+         * @param depth The number of turns left to search
+         * @param alpha The score the active {@code Player} is already assured of
+         * @param beta The score the other {@code Player} is already assured of, negated
+         * @param ply The number of turns played since the root of the search
+         * @return The score of the {@code Game} for its active {@code Player}; if it is outside of
+         *          the window, a bound in the direction of the window
+         */
+        private int search(int depth, int alpha, int beta, int ply) {
+            if (game.isGameOver()) {
+                Player<T> winner = game.getWinner();
+                if (winner == null) {
+                    return DRAW;
+                }
+                return winner == game.getActivePlayer() ? WIN : -WIN;
+            }
+            if (depth == 0) {
+                horizon = true;
+                return DRAW;
+            }
+            if ((++taskNodes & CHECK_INTERVAL) == 0 && System.nanoTime() > deadline) {
+                aborted = true;
+            }
+            if (isStopped()) {
+                return DRAW;
+            }
+
+            long key = game.getZobristKey();
+            long entry = table.probe(key);
+            int tableMove = -1;
+            if (entry != TranspositionTable.MISSING) {
+                tableMove = TranspositionTable.getMove(entry);
+                if (ply > 0 && SolverStrategy.isCutoff(entry, depth, alpha, beta)) {
+                    if (TranspositionTable.getDepth(entry) != TranspositionTable.MAX_DEPTH) {
+                        horizon = true;
+                    }
+                    return TranspositionTable.getScore(entry);
+                }
+            }
+
+            int[] moves = moveBuffers.get(ply, game.getValidMoveCount());
+            int count = game.fillValidMoves(moves);
+            int sorted = SolverStrategy.orderTableMove(moves, count, tableMove);
+
+            boolean parentHorizon = horizon;
+            horizon = false;
+            boolean splits = ply < SPLIT_PLIES && depth >= MIN_SPLIT_DEPTH;
+            int originalAlpha = alpha;
+            int bestScore = -INFINITY;
+            int bestMove = -1;
+            int i = 0;
+            for (; i < count && !(splits && i > 0 && i < count - 1); i++) {
+                if (i >= sorted) {
+                    SolverStrategy.selectByHistory(moves, i, count, historyScore);
+                }
+                int move = moves[i];
+                game.doMove(move);
+                int score = SolverStrategy.toParentScore(
+                        search(depth - 1, SolverStrategy.toChildScore(beta),
+                               SolverStrategy.toChildScore(alpha), ply + 1));
+                game.undoMove(move);
+                if (isStopped()) {
+                    return DRAW;
+                }
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = move;
+                    alpha = Math.max(alpha, score);
+                }
+                if (alpha >= beta) {
+                    addHistory(move, depth);
+                    break;
+                }
+            }
+
+            if (alpha < beta && i < count) {
+                Split node = new Split(split, alpha, beta, bestScore, bestMove);
+                List<SearchTask> siblings = new ArrayList<>(count - i);
+                for (int j = i; j < count; j++) {
+                    SolverStrategy.selectByHistory(moves, j, count, historyScore);
+                    siblings.add(new SearchTask(game.deepCopy(), moves[j], depth - 1, node,
+                                                ply + 1));
+                }
+                ForkJoinTask.invokeAll(siblings);
+                if (isStopped()) {
+                    return DRAW;
+                }
+                for (SearchTask sibling : siblings) {
+                    horizon |= sibling.horizon;
+                }
+                synchronized (node) {
+                    bestScore = node.bestScore;
+                    bestMove = node.bestMove;
+                }
+                if (node.cutoff) {
+                    addHistory(bestMove, depth);
+                }
+            }
+
+            if (ply == 0) {
+                this.bestMove = bestMove;
+            }
+            int bound = bestScore <= originalAlpha ? TranspositionTable.UPPER :
+                    bestScore >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+            table.store(key, bestMove, bestScore, horizon ? depth : TranspositionTable.MAX_DEPTH,
+                        bound);
+            horizon |= parentHorizon;
+            return bestScore;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package game.implementations.strategy;
+
+import game.interfaces.Game;
+import game.interfaces.Piece;
+import game.interfaces.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Class to represent the work of a single thread of a Monte-Carlo search, holding what every such
+ * search needs regardless of the shape of its tree or graph: a random number generator of its
+ * own, a reusable buffer of packed {@code Move}s for random playouts, and the number of playouts
+ * run. Searches run their {@code PlayoutWorker}s through {@link #runAll(List)}.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see MCTSStrategy
+ * @see TranspositionMCTSStrategy
+ */
+abstract class PlayoutWorker<T extends Enum<T> & Piece> implements Runnable {
+    /**
+     * The score a playout adds to a node whose {@code Move} was played by the winner; a draw adds
+     * half of it, a loss nothing. Scores are kept in half points so that they can be updated as
+     * integers.
+     */
+    static final int WIN = 2;
+    static final int DRAW = 1;
+
+    private final SplittableRandom random;
+    private int[] buffer = new int[0];
+    long playouts = 0;
+
+    /**
+     * Constructs a new {@code PlayoutWorker} with the provided random number generator.
+     * @param random The random number generator of this {@code PlayoutWorker}
+     */
+    PlayoutWorker(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Runs the provided {@code PlayoutWorker}s, the first on the calling thread and every other
+     * on a thread of its own, and returns once all of them have finished. If the calling thread
+     * is interrupted, the other threads are interrupted as well, which ends their search, and
+     * are still waited for, so that no thread changes the searched nodes after this method has
+     * returned; the interrupt is then restored.
+     * @param workers The {@code PlayoutWorker}s to run; must not be empty
+     */
+    static void runAll(List<? extends PlayoutWorker<?>> workers) {
+        List<Thread> helpers = new ArrayList<>(workers.size() - 1);
+        for (PlayoutWorker<?> worker : workers.subList(1, workers.size())) {
+            helpers.add(Thread.ofPlatform().daemon().start(worker));
+        }
+        workers.getFirst().run();
+        boolean interrupted = false;
+        for (Thread helper : helpers) {
+            while (helper.isAlive()) {
+                try {
+                    helper.join();
+                } catch (InterruptedException _) {
+                    interrupted = true;
+                    helpers.forEach(Thread::interrupt);
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the score that a playout won by the provided {@code Player} adds to a node whose
+     * {@code Move} was played by the provided mover.
+     * @param winner The {@code Player} who won the playout, or {@code null} on a draw
+     * @param mover The {@code Player} who played the {@code Move} of the node
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     * @return {@link #WIN}, {@link #DRAW} or {@code 0}
+     */
+    static <T extends Enum<T> & Piece> int toResult(Player<T> winner, Player<T> mover) {
+        return winner == null ? DRAW : winner == mover ? WIN : 0;
+    }
+
+    /**
+     * Plays out the provided {@code Game} with random {@code Move}s until a terminal state has
+     * been reached. {@code Move}s are generated in packed form into a single buffer, so that
+     * playing out does not allocate once the buffer is large enough.
+     * @param state The {@code Game} state to play out; changed
+     * @return The {@code Player} who won in the reached terminal {@code Game} state, or
+     *          {@code null} on a draw
+     */
+    Player<T> rollout(Game<T> state) {
+        while (!state.isGameOver()) {
+            int count = fillValidMoves(state);
+            state.doMove(buffer[random.nextInt(count)]);
+        }
+        return state.getWinner();
+    }
+
+    /**
+     * Generates the valid {@code Move}s of the provided {@code Game} state in packed form into
+     * the buffer of this {@code PlayoutWorker}, growing it if needed.
+     * @param state The {@code Game} state to generate the {@code Move}s of
+     * @return The number of valid {@code Move}s
+     */
+    int fillValidMoves(Game<T> state) {
+        if (buffer.length < state.getValidMoveCount()) {
+            buffer = new int[state.getValidMoveCount()];
+        }
+        return state.fillValidMoves(buffer);
+    }
+
+    /**
+     * Returns a packed {@code Move} from the buffer, as generated by the last call of
+     * {@link #fillValidMoves(Game)}.
+     * @param index The index of the {@code Move} in the buffer
+     * @return The packed {@code Move}
+     */
+    int getBufferedMove(int index) {
+        return buffer[index];
+    }
+}
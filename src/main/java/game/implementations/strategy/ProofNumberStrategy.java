@@ -0,0 +1,337 @@
+package game.implementations.strategy;
+
+import game.interfaces.*;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@code Strategy} which uses
+ * <a href="https://en.wikipedia.org/wiki/Proof-number_search">
+ * <cite>proof-number search</cite></a> to find forced wins, and plays them instantly.
+ * <p>
+ * Proof-number search grows the tree of {@code Move}s towards the leaf that is cheapest to prove
+ * or disprove, measured by the number of leaves that must still be resolved. Positions where the
+ * opponent has few {@code Move}s that do not lose, as often happens in Quarto to the
+ * {@code Player} who must give away a piece, are therefore resolved far faster than by alpha-beta
+ * search or sampling. Leaves are initialized with their number of {@code Move}s, so that nodes
+ * with few options are preferred.
+ * <p>
+ * The tree is kept in a bounded node store of parallel arrays that grows on demand up to a memory
+ * cap; a proof that does not fit, or does not finish in time, is given up. If no forced win is
+ * found, the {@code Move} is left to a fallback {@code Strategy}. Besides playing, any position
+ * can be resolved through {@link #prove(Game)}.
+ * <p>
+ * A {@code ProofNumberStrategy} keeps its node store between searches and is therefore not safe to
+ * use from multiple threads at once.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see Game
+ * @see Strategy
+ * @see SolverStrategy
+ */
+public final class ProofNumberStrategy<T extends Enum<T> & Piece> implements Strategy<T> {
+    /**
+     * The proven value of a position for the active {@code Player}.
+     */
+    public enum Outcome {
+        /**
+         * The active {@code Player} can force a win.
+         */
+        WIN,
+
+        /**
+         * Neither {@code Player} can force a win.
+         */
+        DRAW,
+
+        /**
+         * The other {@code Player} can force a win.
+         */
+        LOSS,
+
+        /**
+         * The search ran out of memory or time before the position was resolved.
+         */
+        UNKNOWN
+    }
+
+    /**
+     * The number of bytes each node of the store takes up.
+     */
+    public static final int NODE_BYTES = 6 * Integer.BYTES + 1;
+
+    private static final float TIMEOUT = 1f;
+    private static final long MEMORY_CAP = 64L << 20;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int INITIAL_CAPACITY = 1 << 12;
+    private static final int CHECK_INTERVAL = 0x3F;
+
+    private final Strategy<T> fallback;
+    private final int maxNodes;
+    private final long timeout;
+    private int[] proof = new int[0];
+    private int[] disproof = new int[0];
+    private int[] parents = new int[0];
+    private int[] firstChildren = new int[0];
+    private int[] childCounts = new int[0];
+    private int[] moves = new int[0];
+    private boolean[] orNodes = new boolean[0];
+    private int[] moveBuffer = new int[0];
+    private int[] path = new int[0];
+    private int size;
+    private long deadline;
+    private volatile boolean cancelled;
+    private Player<T> player;
+    private boolean opponentWins;
+
+    /**
+     * Constructs a new {@code ProofNumberStrategy} which falls back on an {@code MCTSStrategy},
+     * and tries to prove a win for at most 1 second and 64 MiB per {@code Move}.
+     */
+    public ProofNumberStrategy() {
+        this(new MCTSStrategy<>(), MEMORY_CAP, (long) (TIMEOUT * 1000));
+    }
+
+    /**
+     * Constructs a new {@code ProofNumberStrategy} with the provided settings.
+     * @param fallback The {@code Strategy} to determine the {@code Move} with if no forced win is
+     *          found
+     * @param memoryCap The largest number of bytes the node store may take up, including while it
+     *          grows
+     * @param timeoutMillis The number of milliseconds to search for a proof for
+     * @throws IllegalArgumentException Thrown if the memory cap does not fit a single node
+     */
+    public ProofNumberStrategy(Strategy<T> fallback, long memoryCap, long timeoutMillis) {
+        if (memoryCap < NODE_BYTES) {
+            throw new IllegalArgumentException("Cannot store nodes in " + memoryCap + " bytes");
+        }
+        this.fallback = fallback;
+        this.maxNodes = (int) Math.min(memoryCap / NODE_BYTES, Integer.MAX_VALUE - 8);
+        this.timeout = timeoutMillis * 1_000_000;
+    }
+
+    @Override
+    public <U extends Move<T>, V extends Game<T>> U determineMove(V game) {
+        if (game.isGameOver()) {
+            return null;
+        }
+        Game<T> copy = game.deepCopy();
+        deadline = System.nanoTime() + timeout;
+        cancelled = false;
+        if (search(copy, copy.getActivePlayer(), false) == 0) {
+            for (int child = firstChildren[0]; child < firstChildren[0] + childCounts[0]; child++) {
+                if (proof[child] == 0) {
+                    return game.toMove(moves[child]);
+                }
+            }
+        }
+        if (cancelled && childCounts[0] > 0) {
+            return game.toMove(moves[firstChildren[0]]);
+        }
+        return fallback.determineMove(game);
+    }
+
+    /**
+     * Stops the search in progress, if any, including that of the fallback {@code Strategy}. A
+     * proof search that is stopped plays the first valid {@code Move} rather than handing the
+     * position to the fallback {@code Strategy}. May be called from any thread.
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+        fallback.cancel();
+    }
+
+    /**
+     * Resolves the position of the provided {@code Game} within the memory cap and time limit,
+     * by first trying to prove a win for the active {@code Player}, and then a loss.
+     * @param game The {@code Game} to resolve; not changed
+     * @return The {@code Outcome} of the position for the active {@code Player}
+     */
+    public Outcome prove(Game<T> game) {
+        Game<T> copy = game.deepCopy();
+        deadline = System.nanoTime() + timeout;
+        cancelled = false;
+        int proven = search(copy, copy.getActivePlayer(), false);
+        if (proven == 0) {
+            return Outcome.WIN;
+        }
+        if (proven != INFINITY) {
+            return Outcome.UNKNOWN;
+        }
+        proven = search(copy, copy.getActivePlayer(), true);
+        return proven == 0 ? Outcome.LOSS : proven == INFINITY ? Outcome.DRAW : Outcome.UNKNOWN;
+    }
+
+    /**
+     * Returns the number of nodes stored by the last search.
+     * @return The number of stored nodes
+     */
+    public int getNodeCount() {
+        return size;
+    }
+
+    /**
+     * Runs a proof-number search for a win of the provided {@code Player}, or of their opponent,
+     * from the position of the provided {@code Game}, until the root is resolved or memory or time
+     * run out.
+     * @param game The {@code Game} to search, restored before returning
+     * @param player The {@code Player} the search is about
+     * @param opponentWins Whether to prove a win for the opponent of the {@code Player} rather than
+     *          for the {@code Player}
+     * @return The proof number of the root: {@code 0} if the win is proven, {@code INFINITY} if it
+     *          is disproven, or any other value if the search was given up
+     */
+    private int search(Game<T> game, Player<T> player, boolean opponentWins) {
+        this.player = player;
+        this.opponentWins = opponentWins;
+        size = 0;
+        ensureCapacity(1);
+        int root = addNode(game, -1, -1);
+        int iterations = 0;
+        while (proof[root] != 0 && disproof[root] != 0) {
+            if ((++iterations & CHECK_INTERVAL) == 0 &&
+                    (cancelled || System.nanoTime() > deadline)) {
+                break;
+            }
+            int depth = 0;
+            int node = root;
+            while (childCounts[node] > 0) {
+                node = selectChild(node);
+                game.doMove(moves[node]);
+                if (depth == path.length) {
+                    path = Arrays.copyOf(path, 2 * depth + 16);
+                }
+                path[depth++] = node;
+            }
+            boolean expanded = expand(game, node);
+            while (depth > 0) {
+                int child = path[--depth];
+                game.undoMove(moves[child]);
+                update(parents[child]);
+            }
+            if (!expanded) {
+                break;
+            }
+        }
+        return proof[root];
+    }
+
+    /**
+     * Returns the most proving child of the provided node: the one with the lowest proof number
+     * at a node where the side the proof is for moves, or the lowest disproof number otherwise.
+     * @param node The node to select a child of
+     * @return The most proving child
+     */
+    private int selectChild(int node) {
+        int[] numbers = orNodes[node] ? proof : disproof;
+        int best = firstChildren[node];
+        for (int child = best + 1; child < firstChildren[node] + childCounts[node]; child++) {
+            if (numbers[child] < numbers[best]) {
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Adds the children of the provided leaf to the node store.
+     * @param game The {@code Game} in the position of the leaf, restored before returning
+     * @param node The leaf to expand
+     * @return {@code True}: The leaf was expanded. <br>
+     *          {@code False}: The children do not fit within the memory cap.
+     */
+    private boolean expand(Game<T> game, int node) {
+        int count = game.getValidMoveCount();
+        if (!ensureCapacity(size + count)) {
+            return false;
+        }
+        if (moveBuffer.length < count) {
+            moveBuffer = new int[count];
+        }
+        int[] childMoves = Arrays.copyOf(moveBuffer, game.fillValidMoves(moveBuffer));
+        firstChildren[node] = size;
+        childCounts[node] = childMoves.length;
+        for (int move : childMoves) {
+            game.doMove(move);
+            addNode(game, node, move);
+            game.undoMove(move);
+        }
+        update(node);
+        return true;
+    }
+
+    /**
+     * Stores a new leaf for the position of the provided {@code Game}, with its proof and disproof
+     * numbers initialized from the result of the game or its number of {@code Move}s.
+     * @param game The {@code Game} in the position of the leaf; not changed
+     * @param parent The parent of the leaf, or {@code -1} for the root
+     * @param move The packed {@code Move} leading to the leaf, or {@code -1} for the root
+     * @return The index of the new leaf
+     */
+    private int addNode(Game<T> game, int parent, int move) {
+        int node = size++;
+        parents[node] = parent;
+        moves[node] = move;
+        firstChildren[node] = 0;
+        childCounts[node] = 0;
+        orNodes[node] = (game.getActivePlayer() == player) ^ opponentWins;
+        if (game.isGameOver()) {
+            Player<T> winner = game.getWinner();
+            boolean won = opponentWins ? winner != null && winner != player : winner == player;
+            proof[node] = won ? 0 : INFINITY;
+            disproof[node] = won ? INFINITY : 0;
+        } else {
+            int count = game.getValidMoveCount();
+            proof[node] = orNodes[node] ? 1 : count;
+            disproof[node] = orNodes[node] ? count : 1;
+        }
+        return node;
+    }
+
+    /**
+     * Recomputes the proof and disproof numbers of the provided inner node from its children.
+     * @param node The node to update
+     */
+    private void update(int node) {
+        boolean or = orNodes[node];
+        int[] minimized = or ? proof : disproof;
+        int[] summed = or ? disproof : proof;
+        int min = INFINITY;
+        long sum = 0;
+        for (int child = firstChildren[node]; child < firstChildren[node] + childCounts[node];
+             child++) {
+            min = Math.min(min, minimized[child]);
+            sum = Math.min(sum + summed[child], INFINITY);
+        }
+        minimized[node] = min;
+        summed[node] = (int) sum;
+    }
+
+    /**
+     * Grows the node store, if needed, such that it can hold at least the provided number of
+     * nodes. While the store grows, its old and new arrays exist at the same time, so the new
+     * length is limited such that both together stay within the memory cap.
+     * @param capacity The number of nodes the store must be able to hold
+     * @return {@code True}: The store can hold the nodes. <br>
+     *          {@code False}: The store cannot grow to hold the nodes within the memory cap.
+     */
+    private boolean ensureCapacity(int capacity) {
+        if (capacity <= proof.length) {
+            return true;
+        }
+        int length = (int) Math.min(Math.max((long) capacity, Math.max(2L * proof.length,
+                                                                        INITIAL_CAPACITY)),
+                                    maxNodes - proof.length);
+        if (length < capacity) {
+            return false;
+        }
+        proof = Arrays.copyOf(proof, length);
+        disproof = Arrays.copyOf(disproof, length);
+        parents = Arrays.copyOf(parents, length);
+        firstChildren = Arrays.copyOf(firstChildren, length);
+        childCounts = Arrays.copyOf(childCounts, length);
+        moves = Arrays.copyOf(moves, length);
+        orNodes = Arrays.copyOf(orNodes, length);
+        return true;
+    }
+}
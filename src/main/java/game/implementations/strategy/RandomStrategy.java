@@ -4,7 +4,6 @@ import game.interfaces.Game;
 import game.interfaces.Move;
 import game.interfaces.Piece;
 import game.interfaces.Strategy;
-import java.util.List;
 
 /**
  * Implementation of {@code Strategy} which selects a random valid {@code Move}.
@@ -16,10 +15,11 @@ import java.util.List;
 public final class RandomStrategy<T extends Enum<T> & Piece> implements Strategy<T> {
     @Override
     public <U extends Move<T>, V extends Game<T>> U determineMove(V game) {
-        List<U> validMoves = game.getValidMoves();
-        if (validMoves.isEmpty()) {
+        int[] validMoves = new int[game.getValidMoveCount()];
+        int count = game.fillValidMoves(validMoves);
+        if (count == 0) {
             return null;
         }
-        return validMoves.get((int) (Math.random() * validMoves.size()));
+        return game.toMove(validMoves[(int) (Math.random() * count)]);
     }
 }
@@ -0,0 +1,89 @@
+package game.implementations.strategy;
+
+/**
+ * Class to represent how much a searching {@code Strategy} may spend on a single {@code Move}:
+ * a number of milliseconds, a number of iterations or a number of newly created nodes. A
+ * {@code SearchBudget} limits exactly one of these; the others are unlimited.
+ *
+ * @see MCTSStrategy
+ */
+public final class SearchBudget {
+    /**
+     * The kinds of resource a {@code SearchBudget} can limit.
+     */
+    public enum Kind {
+        MILLIS, ITERATIONS, NODES
+    }
+
+    private final Kind kind;
+    private final long limit;
+
+    /**
+     * Constructs a new {@code SearchBudget} of the provided kind and limit.
+     * @param kind The kind of resource to limit
+     * @param limit The amount of the resource to spend per {@code Move}
+     * @throws IllegalArgumentException Thrown if the limit is not positive
+     */
+    private SearchBudget(Kind kind, long limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Cannot search with a budget of " + limit + " "
+                                                       + kind.name().toLowerCase());
+        }
+        this.kind = kind;
+        this.limit = limit;
+    }
+
+    /**
+     * Returns a {@code SearchBudget} which limits the search to the provided number of
+     * milliseconds.
+     * @param millis The number of milliseconds to search for per {@code Move}
+     * @return The {@code SearchBudget}
+     * @throws IllegalArgumentException Thrown if the number of milliseconds is not positive
+     */
+    public static SearchBudget ofMillis(long millis) {
+        return new SearchBudget(Kind.MILLIS, millis);
+    }
+
+    /**
+     * Returns a {@code SearchBudget} which limits the search to the provided number of
+     * iterations, summed over all threads.
+     * @param iterations The number of iterations to run per {@code Move}
+     * @return The {@code SearchBudget}
+     * @throws IllegalArgumentException Thrown if the number of iterations is not positive
+     */
+    public static SearchBudget ofIterations(long iterations) {
+        return new SearchBudget(Kind.ITERATIONS, iterations);
+    }
+
+    /**
+     * Returns a {@code SearchBudget} which limits the search to the provided number of newly
+     * created nodes, summed over all threads; nodes kept from a previous search do not count.
+     * @param nodes The number of nodes to create per {@code Move}
+     * @return The {@code SearchBudget}
+     * @throws IllegalArgumentException Thrown if the number of nodes is not positive
+     */
+    public static SearchBudget ofNodes(long nodes) {
+        return new SearchBudget(Kind.NODES, nodes);
+    }
+
+    /**
+     * Returns the kind of resource this {@code SearchBudget} limits.
+     * @return The {@code Kind} of this {@code SearchBudget}
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the amount of the resource that may be spent per {@code Move}.
+     * @return The limit of this {@code SearchBudget}
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return limit + " " + kind.name().toLowerCase();
+    }
+}
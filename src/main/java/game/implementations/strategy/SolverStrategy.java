@@ -0,0 +1,387 @@
+package game.implementations.strategy;
+
+import game.implementations.ArrayTranspositionTable;
+import game.interfaces.*;
+import java.util.concurrent.CancellationException;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Implementation of {@code Strategy} which searches the tree of {@code Move}s exactly, using
+ * <a href="https://en.wikipedia.org/wiki/Negamax">
+ * <cite>negamax</cite></a> with alpha-beta pruning, a {@code TranspositionTable} and move ordering
+ * by the best {@code Move} of the {@code TranspositionTable} followed by the history heuristic.
+ * <p>
+ * Searches are iteratively deepened until either the whole tree has been searched, in which case
+ * the chosen {@code Move} is perfect, or the time runs out, in which case the best {@code Move} of
+ * the deepest completed search is played. Positions beyond the searched depth are scored as a
+ * draw. Scores are given from the point of view of the active {@code Player}: a win that ends the
+ * game in {@code d} turns scores {@code WIN - d}, a loss in {@code d} turns scores
+ * {@code -(WIN - d)}, and a draw scores {@code 0}; they are relative to the position rather than
+ * the root, so stored scores stay valid wherever the position is reached.
+ * <p>
+ * A {@code SolverStrategy} keeps its {@code TranspositionTable} and history between searches and
+ * is therefore not safe to use from multiple threads at once. The history is halved at the start
+ * of every search, so that cutoffs of earlier searches weigh less than those of the current one.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see Game
+ * @see Move
+ * @see OpeningBook
+ * @see Strategy
+ * @see TranspositionTable
+ */
+public final class SolverStrategy<T extends Enum<T> & Piece> implements Strategy<T> {
+    /**
+     * The score of the active {@code Player} if the game has been won before their turn.
+     */
+    public static final int WIN = 1000;
+
+    /**
+     * The score of a draw, and of positions beyond the searched depth.
+     */
+    public static final int DRAW = 0;
+
+    private static final float TIMEOUT = 5f;
+    private static final int TABLE_BITS = 20;
+    private static final int INFINITY = WIN + 1;
+    private static final int CHECK_INTERVAL = 0xFFF;
+
+    /**
+     * The number of history scores; packed {@code Move}s are mapped onto them by their lowest
+     * bits.
+     */
+    static final int HISTORY_SIZE = 1 << 16;
+
+    /**
+     * The result of a search of the root that was aborted, as described by
+     * {@link #deepen(Game, IntToLongFunction)}.
+     */
+    static final long ABORTED = -1L;
+
+    private static final long HORIZON = 1L << Integer.SIZE;
+
+    private final OpeningBook<T> book;
+    private final TranspositionTable table;
+    private final long timeout;
+    private final long[] history = new long[HISTORY_SIZE];
+    private final IntToLongFunction historyScore = slot -> history[slot];
+    private final MoveBuffers moveBuffers = new MoveBuffers();
+    private long deadline;
+    private boolean aborted;
+    private volatile boolean cancelled;
+    private long nodes;
+    private long horizonNodes;
+    private int rootMove;
+
+    /**
+     * Constructs a new {@code SolverStrategy} without an {@code OpeningBook}, which searches for
+     * 5 seconds per {@code Move}.
+     */
+    public SolverStrategy() {
+        this(null, new ArrayTranspositionTable(TABLE_BITS), (long) (TIMEOUT * 1000));
+    }
+
+    /**
+     * Constructs a new {@code SolverStrategy} with the provided settings.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     * @param table The {@code TranspositionTable} to store search results in
+     * @param timeoutMillis The number of milliseconds to search for per {@code Move}
+     */
+    public SolverStrategy(OpeningBook<T> book, TranspositionTable table, long timeoutMillis) {
+        this.book = book;
+        this.table = table;
+        this.timeout = timeoutMillis * 1_000_000;
+    }
+
+    @Override
+    public <U extends Move<T>, V extends Game<T>> U determineMove(V game) {
+        if (book != null) {
+            U bookMove = book.lookup(game);
+            if (bookMove != null) {
+                return bookMove;
+            }
+        }
+        if (game.isGameOver()) {
+            return null;
+        }
+
+        Game<T> copy = game.deepCopy();
+        start(System.nanoTime() + timeout);
+        return game.toMove(deepen(copy, depth -> {
+            horizonNodes = 0;
+            search(copy, depth, -INFINITY, INFINITY, 0);
+            return aborted ? ABORTED : toRootResult(rootMove, horizonNodes != 0);
+        }));
+    }
+
+    /**
+     * Searches the whole tree of {@code Move}s below the provided {@code Game}, without a time
+     * limit, and returns its exact score.
+     * @param game The {@code Game} to solve; not changed
+     * @return The score of the {@code Game} for its active {@code Player}, as described above
+     * @throws CancellationException Thrown if the search was stopped by {@link #cancel()} before
+     *          the score was known
+     */
+    public int solve(Game<T> game) {
+        start(Long.MAX_VALUE);
+        horizonNodes = 0;
+        int score = search(game.deepCopy(), TranspositionTable.MAX_DEPTH, -INFINITY, INFINITY, 0);
+        if (aborted) {
+            throw new CancellationException("The search was cancelled before it was solved");
+        }
+        return score;
+    }
+
+    /**
+     * Stops the search in progress, if any; {@link #determineMove(Game)} then returns the best
+     * {@code Move} of the deepest completed search. May be called from any thread.
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns the number of positions visited by the last search.
+     * @return The number of visited positions
+     */
+    public long getNodeCount() {
+        return nodes;
+    }
+
+    /**
+     * Resets the state of a search before it starts.
+     * @param searchDeadline The value of {@code System.nanoTime()} at which to stop searching
+     */
+    private void start(long searchDeadline) {
+        deadline = searchDeadline;
+        aborted = false;
+        cancelled = false;
+        nodes = 0;
+        table.newSearch();
+        for (int i = 0; i < HISTORY_SIZE; i++) {
+            history[i] >>= 1;
+        }
+    }
+
+    /**
+     * Searches the provided {@code Game} to the provided depth within the provided window, using
+     * negamax with alpha-beta pruning.
+     * @param game The {@code Game} to search, restored before returning
+     * @param depth The number of turns left to search
+     * @param alpha The score the active {@code Player} is already assured of
+     * @param beta The score the other {@code Player} is already assured of, negated
+     * @param ply The number of turns played since the root of the search
+     * @return The score of the {@code Game} for its active {@code Player}; if it is outside of the
+     *          window, a bound in the direction of the window
+     */
+    private int search(Game<T> game, int depth, int alpha, int beta, int ply) {
+        if (game.isGameOver()) {
+            Player<T> winner = game.getWinner();
+            if (winner == null) {
+                return DRAW;
+            }
+            return winner == game.getActivePlayer() ? WIN : -WIN;
+        }
+        if (depth == 0) {
+            horizonNodes++;
+            return DRAW;
+        }
+        if ((++nodes & CHECK_INTERVAL) == 0 && (cancelled || System.nanoTime() > deadline)) {
+            aborted = true;
+        }
+        if (aborted) {
+            return DRAW;
+        }
+
+        long key = game.getZobristKey();
+        long entry = table.probe(key);
+        int tableMove = -1;
+        if (entry != TranspositionTable.MISSING) {
+            tableMove = TranspositionTable.getMove(entry);
+            if (ply > 0 && isCutoff(entry, depth, alpha, beta)) {
+                if (TranspositionTable.getDepth(entry) != TranspositionTable.MAX_DEPTH) {
+                    horizonNodes++;
+                }
+                return TranspositionTable.getScore(entry);
+            }
+        }
+
+        int[] moves = moveBuffers.get(ply, game.getValidMoveCount());
+        int count = game.fillValidMoves(moves);
+        int sorted = orderTableMove(moves, count, tableMove);
+
+        int originalAlpha = alpha;
+        long originalHorizonNodes = horizonNodes;
+        int bestScore = -INFINITY;
+        int bestMove = -1;
+        for (int i = 0; i < count; i++) {
+            if (i >= sorted) {
+                selectByHistory(moves, i, count, historyScore);
+            }
+            int move = moves[i];
+            game.doMove(move);
+            int score = toParentScore(search(game, depth - 1, toChildScore(beta),
+                                             toChildScore(alpha), ply + 1));
+            game.undoMove(move);
+            if (aborted) {
+                return DRAW;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                alpha = Math.max(alpha, score);
+            }
+            if (alpha >= beta) {
+                history[move & HISTORY_SIZE - 1] += toHistoryBonus(depth);
+                break;
+            }
+        }
+
+        if (ply == 0) {
+            rootMove = bestMove;
+        }
+        int bound = bestScore <= originalAlpha ? TranspositionTable.UPPER :
+                bestScore >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+        table.store(key, bestMove, bestScore, horizonNodes == originalHorizonNodes ?
+                TranspositionTable.MAX_DEPTH : depth, bound);
+        return bestScore;
+    }
+
+    /**
+     * Iteratively deepens searches of the root of the provided {@code Game} until a search is
+     * aborted or no longer reaches positions beyond its depth, and returns the best {@code Move}
+     * of the deepest completed search. If not even the shallowest search completed, the first
+     * valid {@code Move} is returned instead.
+     * @param game The {@code Game} that is searched; not changed
+     * @param search Searches the root to the provided depth and returns {@link #ABORTED} or the
+     *          result of {@link #toRootResult(int, boolean)}
+     * @param <T> A generic type that unifies the generic classes in the {@link game} package
+     * @return The best packed {@code Move}
+     */
+    static <T extends Enum<T> & Piece> int deepen(Game<T> game, IntToLongFunction search) {
+        int bestMove = -1;
+        for (int depth = 1; depth < TranspositionTable.MAX_DEPTH; depth++) {
+            long result = search.applyAsLong(depth);
+            if (result == ABORTED) {
+                break;
+            }
+            bestMove = (int) result;
+            if ((result & HORIZON) == 0) {
+                break;
+            }
+        }
+        if (bestMove < 0) {
+            int[] moves = new int[game.getValidMoveCount()];
+            game.fillValidMoves(moves);
+            bestMove = moves[0];
+        }
+        return bestMove;
+    }
+
+    /**
+     * Packs the result of a completed search of the root, as returned to
+     * {@link #deepen(Game, IntToLongFunction)}.
+     * @param bestMove The best packed {@code Move} of the search
+     * @param horizon Whether the search reached positions beyond its depth
+     * @return The packed result
+     */
+    static long toRootResult(int bestMove, boolean horizon) {
+        return bestMove & 0xFFFF_FFFFL | (horizon ? HORIZON : 0);
+    }
+
+    /**
+     * Checks whether the provided entry of a {@code TranspositionTable} was searched deep enough,
+     * and its score is exact or a bound outside of the provided window, so that the score can be
+     * returned without searching the position again.
+     * @param entry The packed entry, not {@link TranspositionTable#MISSING}
+     * @param depth The number of turns left to search
+     * @param alpha The score the active {@code Player} is already assured of
+     * @param beta The score the other {@code Player} is already assured of, negated
+     * @return {@code True}: the score of the entry can be returned <br>
+     *          {@code False}: the position must be searched
+     */
+    static boolean isCutoff(long entry, int depth, int alpha, int beta) {
+        int score = TranspositionTable.getScore(entry);
+        int bound = TranspositionTable.getBound(entry);
+        return TranspositionTable.getDepth(entry) >= depth &&
+                (bound == TranspositionTable.EXACT ||
+                        bound == TranspositionTable.LOWER && score >= beta ||
+                        bound == TranspositionTable.UPPER && score <= alpha);
+    }
+
+    /**
+     * Moves the provided best {@code Move} of a {@code TranspositionTable} to the front of the
+     * provided buffer, if it is in the buffer.
+     * @param moves The buffer of packed {@code Move}s
+     * @param count The number of packed {@code Move}s in the buffer
+     * @param tableMove The packed {@code Move} to search first, or {@code -1} if there is none
+     * @return The number of {@code Move}s at the front of the buffer that are already ordered
+     */
+    static int orderTableMove(int[] moves, int count, int tableMove) {
+        for (int i = 0; i < count && tableMove >= 0; i++) {
+            if (moves[i] == tableMove) {
+                moves[i] = moves[0];
+                moves[0] = tableMove;
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the amount by which a cutoff at the provided depth raises the history score of its
+     * {@code Move}. Scores are kept as {@code long}s and halved at the start of every search, as
+     * a solving search starts at {@link TranspositionTable#MAX_DEPTH} and adds tens of thousands
+     * per cutoff, which would overflow an {@code int} within a single search.
+     * @param depth The number of turns that were left to search
+     * @return The increase of the history score
+     */
+    static long toHistoryBonus(int depth) {
+        return (long) depth * depth;
+    }
+
+    /**
+     * Moves the packed {@code Move} with the highest history score among those from the provided
+     * position onwards to that position.
+     * @param moves The buffer of packed {@code Move}s
+     * @param from The position to fill
+     * @param count The number of packed {@code Move}s in the buffer
+     * @param history Returns the history score of a slot below {@link #HISTORY_SIZE}
+     */
+    static void selectByHistory(int[] moves, int from, int count, IntToLongFunction history) {
+        int best = from;
+        long bestHistory = history.applyAsLong(moves[from] & HISTORY_SIZE - 1);
+        for (int i = from + 1; i < count; i++) {
+            long moveHistory = history.applyAsLong(moves[i] & HISTORY_SIZE - 1);
+            if (moveHistory > bestHistory) {
+                best = i;
+                bestHistory = moveHistory;
+            }
+        }
+        int move = moves[best];
+        moves[best] = moves[from];
+        moves[from] = move;
+    }
+
+    /**
+     * Converts the score of a position into the score of the position one turn earlier, from the
+     * point of view of the {@code Player} who was active then.
+     * @param score The score of the later position
+     * @return The score of the earlier position
+     */
+    static int toParentScore(int score) {
+        return -score + Integer.signum(score);
+    }
+
+    /**
+     * Converts a bound on the score of a position into the bound on the score of the position
+     * one turn later; the inverse of {@link #toParentScore(int)}.
+     * @param score The bound on the score of the earlier position
+     * @return The bound on the score of the later position
+     */
+    static int toChildScore(int score) {
+        return -score - Integer.signum(score);
+    }
+}
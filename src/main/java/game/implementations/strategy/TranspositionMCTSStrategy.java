@@ -0,0 +1,438 @@
+package game.implementations.strategy;
+
+import game.interfaces.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ToLongFunction;
+
+/**
+ * Implementation of {@code Strategy} which employs Monte-Carlo tree search over a directed acyclic
+ * graph rather than a tree: every position is a single {@code Node}, stored in a concurrent hash
+ * table under a 64-bit key, no matter how many orders of {@code Move}s lead to it. By default the
+ * key is the Zobrist key of the {@code Game}; a key that is shared by all positions equivalent
+ * under a symmetry, such as {@code QuartoCanonicalizer.canonicalHash}, folds those positions onto
+ * a single {@code Node} as well.
+ * <p>
+ * A {@code Node} holds the score of all playouts through its position, however they reached it,
+ * while the number of times each {@code Move} was tried is kept on the edge from the parent. The
+ * selection weighs the score of the child {@code Node} against the visits of the edge, and a
+ * playout only updates the {@code Node}s and edges on the path it actually took, which keeps the
+ * statistics of a {@code Node} an unbiased average even though it has several parents. Like
+ * {@code MCTSStrategy}, multiple threads search the graph at once, updating it lock-free and
+ * using virtual loss to spread over its branches.
+ * <p>
+ * A {@code Node} keeps its {@code Move}s in the orientation of the position it was created from.
+ * A playout that reaches it in a different orientation, through a symmetric position, continues
+ * along an expanded edge by finding its own {@code Move} to the same child key, or plays out from
+ * there if the {@code Node} is not fully expanded yet.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see Game
+ * @see MCTSStrategy
+ * @see OpeningBook
+ * @see Strategy
+ */
+public final class TranspositionMCTSStrategy<T extends Enum<T> & Piece> implements Strategy<T> {
+    private static final float TIMEOUT = 5f;
+    private static final double EXPLORATION = 1.4;
+
+    private final OpeningBook<T> book;
+    private final int threads;
+    private final long timeout;
+    private final ToLongFunction<Game<T>> keyFunction;
+    private final SplittableRandom seeds = new SplittableRandom();
+    private volatile boolean cancelled;
+    private long playouts;
+    private int nodeCount;
+
+    /**
+     * Constructs a new {@code TranspositionMCTSStrategy} which searches every position for 5
+     * seconds on a single thread, keying positions by their Zobrist key.
+     */
+    public TranspositionMCTSStrategy() {
+        this(null, 1, (long) (TIMEOUT * 1000), Game::getZobristKey);
+    }
+
+    /**
+     * Constructs a new {@code TranspositionMCTSStrategy} with the provided settings.
+     * @param book The {@code OpeningBook} to consult before searching, or {@code null} to always
+     *          search
+     * @param threads The number of threads that search the shared graph, including the calling
+     *          thread
+     * @param timeoutMillis The number of milliseconds to search for per {@code Move}
+     * @param keyFunction The function which returns the key of a {@code Game} state; positions
+     *          with the same key share a {@code Node}, so the key must at least tell apart
+     *          positions with a different {@code Player} to move
+     * @throws IllegalArgumentException Thrown if the number of threads is not positive
+     */
+    public TranspositionMCTSStrategy(OpeningBook<T> book, int threads, long timeoutMillis,
+                                     ToLongFunction<Game<T>> keyFunction) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Cannot search on " + threads + " threads");
+        }
+        this.book = book;
+        this.threads = threads;
+        this.timeout = timeoutMillis * 1_000_000;
+        this.keyFunction = keyFunction;
+    }
+
+    @Override
+    public <U extends Move<T>, V extends Game<T>> U determineMove(V game) {
+        if (book != null) {
+            U bookMove = book.lookup(game);
+            if (bookMove != null) {
+                return bookMove;
+            }
+        }
+        if (game.isGameOver()) {
+            return null;
+        }
+        Node root = search(game).get(keyFunction.applyAsLong(game));
+        return game.toMove(root.moves[root.getMostVisitedEdge()]);
+    }
+
+    /**
+     * Searches the position of the provided {@code Game} until the time is up or the search is
+     * cancelled, and returns the searched graph. The graph is not kept once the caller drops it,
+     * so that it does not hold on to memory between {@code Move}s.
+     * @param game The {@code Game} state to search; not changed
+     * @return The hash table of all {@code Node}s of the search, keyed by the key function
+     */
+    ConcurrentHashMap<Long, Node> search(Game<T> game) {
+        ConcurrentHashMap<Long, Node> nodes = new ConcurrentHashMap<>();
+        Node root = new Node(keyFunction.applyAsLong(game), game);
+        nodes.put(root.key, root);
+        long deadline = System.nanoTime() + timeout;
+        cancelled = false;
+        List<Worker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Worker(nodes, root, game, deadline, seeds.split()));
+        }
+        PlayoutWorker.runAll(workers);
+
+        playouts = workers.stream().mapToLong(worker -> worker.playouts).sum();
+        nodeCount = nodes.size();
+        return nodes;
+    }
+
+    /**
+     * Stops the search in progress, if any; {@link #determineMove(Game)} then returns the most
+     * visited {@code Move} so far. May be called from any thread.
+     */
+    @Override
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Returns the number of playouts of the last search, summed over all threads.
+     * @return The number of playouts
+     */
+    public long getPlayoutCount() {
+        return playouts;
+    }
+
+    /**
+     * Returns the number of distinct positions that the last search created a {@code Node} for.
+     * @return The number of {@code Node}s
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the number of visits of the {@code Node} of the provided position in the provided
+     * graph, summed over all edges that lead to it.
+     * @param graph The graph returned by {@link #search(Game)}
+     * @param position The {@code Game} state to look up
+     * @return The number of visits, or {@code 0} if the search did not reach the position
+     */
+    int getVisitCount(Map<Long, Node> graph, Game<T> position) {
+        Node node = graph.get(keyFunction.applyAsLong(position));
+        return node == null ? 0 : node.visits;
+    }
+
+    /**
+     * Returns the number of times the search of the provided graph tried the provided packed
+     * {@code Move} from the {@code Node} of the provided position.
+     * @param graph The graph returned by {@link #search(Game)}
+     * @param position The {@code Game} state to look up
+     * @param move The packed {@code Move}, in the orientation the {@code Node} was created in
+     * @return The number of visits of the edge, or {@code 0} if the search did not reach it
+     */
+    int getEdgeVisitCount(Map<Long, Node> graph, Game<T> position, int move) {
+        Node node = graph.get(keyFunction.applyAsLong(position));
+        for (int i = 0; node != null && i < node.moves.length; i++) {
+            if (node.moves[i] == move) {
+                return node.edgeVisits.get(i);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the number of threads that search the shared graph.
+     * @return The number of threads
+     */
+    public int getThreadCount() {
+        return threads;
+    }
+
+    /**
+     * Class to represent the work of a single thread of a search: repeatedly selecting a path down
+     * the shared graph, expanding it by one edge, playing out a random game from there and adding
+     * the result to every {@code Node} on the path, until the deadline passes.
+     */
+    private final class Worker extends PlayoutWorker<T> {
+        private final ConcurrentHashMap<Long, Node> nodes;
+        private final Node root;
+        private final Game<T> game;
+        private final long deadline;
+        private final List<Node> path = new ArrayList<>();
+        private final List<Player<T>> movers = new ArrayList<>();
+
+        /**
+         * Constructs a new {@code Worker} which searches below the provided root.
+         * @param nodes The hash table of all {@code Node}s, shared by all {@code Worker}s
+         * @param root The root {@code Node}
+         * @param game The {@code Game} state of the root; not changed
+         * @param deadline The value of {@code System.nanoTime()} at which to stop searching
+         * @param random The random number generator of this {@code Worker}
+         */
+        private Worker(ConcurrentHashMap<Long, Node> nodes, Node root, Game<T> game, long deadline,
+                       SplittableRandom random) {
+            super(random);
+            this.nodes = nodes;
+            this.root = root;
+            this.game = game;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            do {
+                playOut();
+                playouts++;
+            } while (System.nanoTime() < deadline && !cancelled
+                    && !Thread.currentThread().isInterrupted());
+        }
+
+        /**
+         * Runs a single iteration of the search. Reaching an existing {@code Node} through a new
+         * edge does not end the selection: the playout continues from the transposition, so that
+         * every playout still adds one new {@code Node} unless the graph is exhausted.
+         */
+        private void playOut() {
+            Game<T> state = game.deepCopy();
+            path.clear();
+            movers.clear();
+            root.addVisit();
+            Node node = root;
+            while (!state.isGameOver()) {
+                boolean oriented = state.getZobristKey() == node.exactKey;
+                int index = oriented ? node.claimEdge() : -1;
+                boolean created = false;
+                Node child;
+                int move;
+                if (index >= 0) {
+                    move = node.moves[index];
+                    movers.add(state.getActivePlayer());
+                    state.doMove(move);
+                    long key = keyFunction.applyAsLong(state);
+                    child = nodes.get(key);
+                    if (child == null) {
+                        Node fresh = new Node(key, state);
+                        child = nodes.putIfAbsent(key, fresh);
+                        if (child == null) {
+                            child = fresh;
+                            created = true;
+                        }
+                    }
+                    node.edgeVisits.incrementAndGet(index);
+                    child.addVisit();
+                    node.children.set(index, child);
+                } else {
+                    if (!oriented && !node.isFullyExpanded()) {
+                        break;
+                    }
+                    index = node.getBestEdge();
+                    if (index < 0) {
+                        break;
+                    }
+                    child = node.children.get(index);
+                    move = oriented ? node.moves[index] : findMove(state, child.key);
+                    if (move < 0) {
+                        break;
+                    }
+                    movers.add(state.getActivePlayer());
+                    state.doMove(move);
+                    node.edgeVisits.incrementAndGet(index);
+                    child.addVisit();
+                }
+                path.add(child);
+                if (created) {
+                    break;
+                }
+                node = child;
+            }
+
+            Player<T> winner = rollout(state);
+            for (int i = path.size() - 1; i >= 0; i--) {
+                path.get(i).addScore(toResult(winner, movers.get(i)));
+            }
+        }
+
+        /**
+         * Finds a valid {@code Move} in the provided {@code Game} state that leads to a position
+         * with the provided key; used when a {@code Node} is reached in another orientation than
+         * the one its {@code Move}s were generated in.
+         * @param state The {@code Game} state to find the {@code Move} in; not changed
+         * @param key The key of the position to reach
+         * @return The packed {@code Move} that leads to the key, or {@code -1} if there is none
+         */
+        private int findMove(Game<T> state, long key) {
+            int count = fillValidMoves(state);
+            for (int i = 0; i < count; i++) {
+                int move = getBufferedMove(i);
+                state.doMove(move);
+                boolean found = keyFunction.applyAsLong(state) == key;
+                state.undoMove(move);
+                if (found) {
+                    return move;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Class to represent a position within the searched graph. Besides its own statistics, a
+     * {@code Node} holds one edge per valid {@code Move}: the child {@code Node} it leads to once
+     * expanded, and the number of times it was tried from this {@code Node}.
+     */
+    static final class Node {
+        private static final VarHandle VISITS;
+        private static final VarHandle SCORE;
+        private static final VarHandle EXPANDED;
+
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                VISITS = lookup.findVarHandle(Node.class, "visits", int.class);
+                SCORE = lookup.findVarHandle(Node.class, "score", int.class);
+                EXPANDED = lookup.findVarHandle(Node.class, "expanded", int.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final long key;
+        private final long exactKey;
+        private final int[] moves;
+        private final AtomicReferenceArray<Node> children;
+        private final AtomicIntegerArray edgeVisits;
+        private volatile int visits = 0;
+        private volatile int score = 0;
+        private volatile int expanded = 0;
+
+        /**
+         * Constructs a new {@code Node} for the provided {@code Game} state.
+         * @param key The key under which this {@code Node} is stored
+         * @param game The {@code Game} state this {@code Node} is created from; not changed
+         */
+        private Node(long key, Game<?> game) {
+            this.key = key;
+            this.exactKey = game.getZobristKey();
+            this.moves = new int[game.getValidMoveCount()];
+            game.fillValidMoves(moves);
+            this.children = new AtomicReferenceArray<>(moves.length);
+            this.edgeVisits = new AtomicIntegerArray(moves.length);
+        }
+
+        /**
+         * Claims the next edge of this {@code Node} that has not been expanded yet.
+         * @return The index of the claimed edge, or {@code -1} if every edge has been claimed
+         */
+        private int claimEdge() {
+            if (expanded >= moves.length) {
+                return -1;
+            }
+            int index = (int) EXPANDED.getAndAdd(this, 1);
+            return index < moves.length ? index : -1;
+        }
+
+        /**
+         * Checks whether every edge of this {@code Node} has been claimed.
+         * @return {@code True}: If every edge has been claimed <br> {@code False}: If there are
+         *          edges left to expand
+         */
+        private boolean isFullyExpanded() {
+            return expanded >= moves.length;
+        }
+
+        /**
+         * Uses an Exploitation vs Exploration heuristic to select the edge which is most worth
+         * exploring: the score of the child {@code Node}, over all its parents, against the
+         * number of times the edge itself has been tried. Edges whose child is not yet published
+         * are skipped.
+         * @return The index of the best edge to explore, or {@code -1} if there is none yet
+         */
+        private int getBestEdge() {
+            double logVisits = Math.log(visits);
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int bestEdge = -1;
+            for (int i = 0; i < moves.length; i++) {
+                Node child = children.get(i);
+                if (child == null) {
+                    continue;
+                }
+                double exploit = child.score / (double) (PlayoutWorker.WIN * child.visits);
+                double explore = EXPLORATION * Math.sqrt(logVisits / edgeVisits.get(i));
+                if (exploit + explore > bestScore) {
+                    bestScore = exploit + explore;
+                    bestEdge = i;
+                }
+            }
+            return bestEdge;
+        }
+
+        /**
+         * Returns the edge that has been tried most often, which is the most robust choice of
+         * {@code Move} once the search has ended.
+         * @return The index of the most visited edge
+         */
+        private int getMostVisitedEdge() {
+            int bestEdge = 0;
+            for (int i = 1; i < moves.length; i++) {
+                if (edgeVisits.get(i) > edgeVisits.get(bestEdge)) {
+                    bestEdge = i;
+                }
+            }
+            return bestEdge;
+        }
+
+        /**
+         * Counts a visit of this {@code Node}, before the result of the playout is known.
+         */
+        private void addVisit() {
+            VISITS.getAndAdd(this, 1);
+        }
+
+        /**
+         * Adds the result of a finished playout to this {@code Node}.
+         * @param result The score of the playout, as described by {@link PlayoutWorker#WIN}
+         */
+        private void addScore(int result) {
+            if (result != 0) {
+                SCORE.getAndAdd(this, result);
+            }
+        }
+    }
+}
@@ -29,6 +29,32 @@ public interface Game<T extends Enum<T> & Piece> {
      */
     <U extends Move<T>> void doMove(U move);
 
+    /**
+     * Reverts the provided {@code Move}, which must be the {@code Move} most recently played on
+     * this {@code Game}, causing this {@code Game} to go back one turn to the exact state it was in
+     * before that {@code Move} was played. Together with {@link #doMove(Move)}, this allows a
+     * search to walk through the states of a {@code Game} on a single instance, instead of
+     * copying it for every step.
+     * @param move The most recently played {@code Move}
+     * @param <U> A generic type that represents the type of {@code Move}s that can be played
+     *           on this {@code Game}, with {@code Piece}s of type {@link T}
+     */
+    <U extends Move<T>> void undoMove(U move);
+
+    /**
+     * Plays the provided packed {@code Move}, in the same way as {@link #doMove(Move)}, without
+     * requiring a {@code Move} object.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     */
+    void doMove(int move);
+
+    /**
+     * Reverts the provided packed {@code Move}, in the same way as {@link #undoMove(Move)},
+     * without requiring a {@code Move} object.
+     * @param move The most recently played packed {@code Move}
+     */
+    void undoMove(int move);
+
     /**
      * Checks if the provided {@code Piece}, of generic type {@link T}, and index describe a
      * {@code Move} that could legally be played in this current {@code Game}'s state. If legal,
@@ -43,6 +69,16 @@ public interface Game<T extends Enum<T> & Piece> {
      */
     <U extends Move<T>> U returnMoveIfValid(T piece, int index);
 
+    /**
+     * Checks if the provided packed {@code Move} could legally be played in this current
+     * {@code Game}'s state, in the same way as {@code returnMoveIfValid}, without
+     * requiring or creating a {@code Move} object.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @return {@code True}: the packed {@code Move} is valid <br>
+     *          {@code False}: the packed {@code Move} is not valid
+     */
+    boolean isValidMove(int move);
+
     /**
      * Checks if this {@code Game} has reached a terminal state.
      * @return {@code True}: this game has finished <br>
@@ -59,6 +95,33 @@ public interface Game<T extends Enum<T> & Piece> {
      */
     <U extends Move<T>> List<U> getValidMoves();
 
+    /**
+     * Returns the number of valid, playable {@code Move}s for the current state of this
+     * {@code Game}, without generating them.
+     * @return The number of valid {@code Move}s
+     */
+    int getValidMoveCount();
+
+    /**
+     * Writes all valid, playable {@code Move}s for the current state of this {@code Game} into
+     * the provided buffer, packed as described by {@link Move#pack(int, int)}, in the same order
+     * as {@link #getValidMoves()}. No objects are allocated, so that hot loops can reuse a single
+     * buffer.
+     * @param moves The buffer to write the packed {@code Move}s into; must be able to hold at
+     *          least {@link #getValidMoveCount()} {@code Move}s
+     * @return The number of {@code Move}s written into the buffer
+     */
+    int fillValidMoves(int[] moves);
+
+    /**
+     * Converts the provided packed {@code Move} into a {@code Move} of this {@code Game}.
+     * @param move The packed {@code Move}, as created by {@link Move#pack(int, int)}
+     * @return The {@code Move} represented by the packed {@code Move}
+     * @param <U> A generic type that represents the type of {@code Move}s that can be played
+     *           on this {@code Game}, with {@code Piece}s of type {@link T}
+     */
+    <U extends Move<T>> U toMove(int move);
+
     /**
      * Checks and returns all valid {@code Piece}s for the current state.
      * @return The set of all valid {@code Piece}s for the current state of this {@code Game}
@@ -79,6 +142,17 @@ public interface Game<T extends Enum<T> & Piece> {
      */
     int getTurnCount();
 
+    /**
+     * Returns the 64-bit Zobrist key of the current state of this {@code Game}, covering the
+     * {@code Board}, any {@code Piece} waiting to be played, the active {@code Player} and any
+     * other state that affects how this {@code Game} continues. The key is maintained
+     * incrementally by {@link #doMove(Move)} and {@link #undoMove(Move)}, making this an O(1)
+     * lookup. Equal states have equal keys, and unequal states have unequal keys with
+     * overwhelming probability, so that caches of states can be keyed on a {@code long}.
+     * @return The Zobrist key of the current state of this {@code Game}
+     */
+    long getZobristKey();
+
     /**
      * Returns the {@code Player} who has won this {@code Game}. If this {@code Game} has not yet
      * terminated or ended in a stalemate, {@code null} will be returned instead.
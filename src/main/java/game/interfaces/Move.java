@@ -10,6 +10,41 @@ package game.interfaces;
  * @see Piece
  */
 public interface Move<T extends Piece> {
+    /**
+     * The number of low bits of a packed {@code Move} that hold the ordinal of its {@code Piece};
+     * the index is stored in the bits above.
+     */
+    int PIECE_BITS = 8;
+
+    /**
+     * Packs the provided index and {@code Piece} ordinal into a single {@code int}, so that
+     * {@code Move}s can be generated, stored and played without allocating objects.
+     * @param index The index of the {@code Move}
+     * @param piece The ordinal of the {@code Piece} of the {@code Move}
+     * @return The packed {@code Move}
+     */
+    static int pack(int index, int piece) {
+        return index << PIECE_BITS | piece;
+    }
+
+    /**
+     * Returns the index of the provided packed {@code Move}.
+     * @param move The packed {@code Move}, as created by {@link #pack(int, int)}
+     * @return The index of the packed {@code Move}
+     */
+    static int getIndex(int move) {
+        return move >>> PIECE_BITS;
+    }
+
+    /**
+     * Returns the {@code Piece} ordinal of the provided packed {@code Move}.
+     * @param move The packed {@code Move}, as created by {@link #pack(int, int)}
+     * @return The ordinal of the {@code Piece} of the packed {@code Move}
+     */
+    static int getPiece(int move) {
+        return move & (1 << PIECE_BITS) - 1;
+    }
+
     /**
      * Returns an int-array representation of this {@code Move}, taking the {@code Piece}'s
      * ordinal value.
@@ -19,6 +54,14 @@ public interface Move<T extends Piece> {
      */
     int[] toArray();
 
+    /**
+     * Returns the packed representation of this {@code Move}, as created by
+     * {@link #pack(int, int)}, taking the {@code Piece}'s ordinal value; unlike
+     * {@link #toArray()}, this allocates nothing.
+     * @return The packed representation of this {@code Move}
+     */
+    int toPacked();
+
     /**
      * Returns the {@code Piece} of this {@code Move}, of generic type {@link T}; set when
      * initialized.
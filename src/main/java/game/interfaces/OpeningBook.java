@@ -0,0 +1,22 @@
+package game.interfaces;
+
+/**
+ * Interface used to represent a book of known good {@code Move}s for positions of a
+ * {@code Game}, which a {@code Strategy} can consult before spending time on a search.
+ * @param <T> A generic type that unifies the generic classes in the {@link game} package
+ *
+ * @see Game
+ * @see Move
+ * @see Strategy
+ */
+public interface OpeningBook<T extends Enum<T> & Piece> {
+    /**
+     * Looks up the {@code Move} to play in the provided {@code Game}.
+     * @param game The {@code Game} to look up; not changed
+     * @return The {@code Move} stored for the position of the {@code Game}, or {@code null} if
+     *          the position is not in this {@code OpeningBook}
+     * @param <U> A generic type that represents the type of {@code Move}s that can be played
+     *          with {@code Piece}s of type {@link T}
+     */
+    <U extends Move<T>> U lookup(Game<T> game);
+}
@@ -23,4 +23,12 @@ public interface Strategy<T extends Enum<T> & Piece> {
      *          with {@code Piece}s of type {@link T}
      */
     <U extends Move<T>, V extends Game<T>> U determineMove(V game);
+
+    /**
+     * Stops the search of {@link #determineMove(Game)} that is in progress, if any, which then
+     * returns the best {@code Move} found so far as soon as possible. May be called from any
+     * thread; a {@code Strategy} that does not search does nothing.
+     */
+    default void cancel() {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package game.interfaces;
+
+/**
+ * Interface used to represent a fixed-size table of search results, keyed by the Zobrist key of a
+ * {@code Game}, which lets a search reuse the result of a position it reaches again through a
+ * different order of {@code Move}s.
+ * <p>
+ * Every result is packed into a single {@code long} entry, created with
+ * {@link #toEntry(int, int, int, int, int)} and read back with the other static methods of this
+ * interface. From the lowest bit up, an entry holds the best packed {@code Move} plus one (16
+ * bits), the score (16 bits), the depth (8 bits), the kind of bound (2 bits) and the search
+ * generation it was stored in (8 bits); the highest bit is always set, so that no entry equals
+ * {@link #MISSING}.
+ * <p>
+ * Implementations hold buckets of two entries. The first entry of a bucket is depth-preferred: it
+ * is only replaced by a result of at least the same depth, unless it holds the same key or was
+ * stored during an earlier search, as decided by {@link #replacesFirst(long, boolean, int, int)}.
+ * The second entry is always replaced, so that recent shallow results are kept as well.
+ *
+ * @see Game#getZobristKey()
+ * @see Strategy
+ */
+public interface TranspositionTable {
+    /**
+     * The stored score is the exact score of the position.
+     */
+    int EXACT = 0;
+
+    /**
+     * The stored score is a lower bound on the score of the position.
+     */
+    int LOWER = 1;
+
+    /**
+     * The stored score is an upper bound on the score of the position.
+     */
+    int UPPER = 2;
+
+    /**
+     * The depth of results which are not limited by depth, i.e. solved to the end of the game.
+     */
+    int MAX_DEPTH = 0xFF;
+
+    /**
+     * The entry returned by {@link #probe(long)} if the key is not in the table.
+     */
+    long MISSING = 0;
+
+    /**
+     * Returns the entry stored for the provided key.
+     * @param key The Zobrist key of the position
+     * @return The packed entry, or {@link #MISSING} if there is none
+     */
+    long probe(long key);
+
+    /**
+     * Stores a search result for the provided key, following the replacement policy described
+     * above.
+     * @param key The Zobrist key of the position
+     * @param move The best packed {@code Move} found, or -1 if there is none; below
+     *          {@code 0xFFFF}
+     * @param score The score of the position; between {@code Short.MIN_VALUE} and
+     *          {@code Short.MAX_VALUE}
+     * @param depth The depth the position was searched to, at most {@link #MAX_DEPTH}
+     * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     */
+    void store(long key, int move, int score, int depth, int bound);
+
+    /**
+     * Marks the start of a new search, so that depth-preferred entries of earlier searches can be
+     * replaced by results of any depth.
+     */
+    void newSearch();
+
+    /**
+     * Removes every entry from this {@code TranspositionTable}.
+     */
+    void clear();
+
+    /**
+     * Returns the number of entries this {@code TranspositionTable} can hold.
+     * @return The capacity of this {@code TranspositionTable}
+     */
+    long capacity();
+
+    /**
+     * Packs a search result into an entry.
+     * @param move The best packed {@code Move} found, or -1 if there is none
+     * @param score The score of the position
+     * @param depth The depth the position was searched to
+     * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     * @param generation The search generation, of which only the lowest 8 bits are kept
+     * @return The packed entry
+     */
+    static long toEntry(int move, int score, int depth, int bound, int generation) {
+        return 1L << 63 | (generation & 0xFFL) << 42 | (long) bound << 40 | (long) depth << 32 |
+                (score & 0xFFFFL) << 16 | move + 1 & 0xFFFF;
+    }
+
+    /**
+     * Decides whether a new result replaces the first, depth-preferred entry of a bucket.
+     * @param stored The entry in the first slot, or {@link #MISSING}
+     * @param sameKey Whether the first slot holds the key of the new result
+     * @param depth The depth of the new result
+     * @param generation The current search generation
+     * @return {@code True}: the new result goes into the first slot <br>
+     *          {@code False}: the new result goes into the second slot
+     */
+    static boolean replacesFirst(long stored, boolean sameKey, int depth, int generation) {
+        return stored == MISSING || sameKey || getDepth(stored) <= depth ||
+                getGeneration(stored) != (generation & 0xFF);
+    }
+
+    /**
+     * Returns the best packed {@code Move} of the provided entry.
+     * @param entry The packed entry, as returned by {@link #probe(long)}
+     * @return The best packed {@code Move}, or -1 if there is none
+     */
+    static int getMove(long entry) {
+        return ((int) entry & 0xFFFF) - 1;
+    }
+
+    /**
+     * Returns the score of the provided entry.
+     * @param entry The packed entry, as returned by {@link #probe(long)}
+     * @return The score
+     */
+    static int getScore(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    /**
+     * Returns the depth the position of the provided entry was searched to.
+     * @param entry The packed entry, as returned by {@link #probe(long)}
+     * @return The depth, or {@link #MAX_DEPTH} if the position was solved
+     */
+    static int getDepth(long entry) {
+        return (int) (entry >>> 32) & MAX_DEPTH;
+    }
+
+    /**
+     * Returns the kind of bound of the score of the provided entry.
+     * @param entry The packed entry, as returned by {@link #probe(long)}
+     * @return {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+     */
+    static int getBound(long entry) {
+        return (int) (entry >>> 40) & 3;
+    }
+
+    /**
+     * Returns the search generation the provided entry was stored in.
+     * @param entry The packed entry, as returned by {@link #probe(long)}
+     * @return The lowest 8 bits of the search generation
+     */
+    static int getGeneration(long entry) {
+        return (int) (entry >>> 42) & 0xFF;
+    }
+}
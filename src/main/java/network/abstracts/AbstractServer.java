@@ -140,7 +140,7 @@ public abstract class AbstractServer<T extends Enum<T> & Piece, U extends Game<T
                 ClientHandler winner;
                 synchronized (clients) {
                     winner = clients.entrySet().stream()
-                            .filter(entry -> game.equals(entry.getValue())).findAny()
+                            .filter(entry -> entry.getValue() == game).findAny()
                             .orElseThrow(SimultaneousDisconnectException::new).getKey();
                 }
                 winner.sendGameOver(GameOverReason.DISCONNECT, winner.getUsername());
@@ -0,0 +1,84 @@
+package network.implementations.connectfour;
+
+import game.implementations.GenericPlayer;
+import game.implementations.connectfour.ConnectFourGame;
+import game.implementations.connectfour.ConnectFourMove;
+import game.implementations.connectfour.ConnectFourPiece;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Move;
+import game.interfaces.Player;
+import game.interfaces.Strategy;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Scanner;
+import network.abstracts.AbstractClient;
+
+/**
+ * Implementation of {@code AbstractClient} which defines {@code ConnectFourPiece} as the unifying
+ * type of the used generic classes.
+ *
+ * @see AbstractClient
+ * @see network.interfaces.Server
+ */
+public class ConnectFourClient extends AbstractClient<ConnectFourPiece> {
+    /**
+     * Constructs a new {@code ConnectFourClient} that attempts to connect to the {@code Sever} on
+     * the provided IP address and port number.
+     * @param address The IP address to connect to
+     * @param port The port number to connect to
+     * @param scanner The scanner instance to use for this {@code ConnectFourClient}
+     * @throws IOException Thrown if there is an issue connecting to the {@code Server}
+     */
+    public ConnectFourClient(InetAddress address, int port, Scanner scanner) throws IOException {
+        super(address, port, scanner);
+    }
+
+    @Override
+    protected void askMove() {
+        if (game != null && !game.isGameOver() &&
+                game.getActivePlayer().getName().equals(serverHandler.getUsername())) {
+            ConnectFourMove move = game.getActivePlayer().takeTurn(game);
+            serverHandler.sendMoveRequest(new int[]{move.getIndex()});
+        } else {
+            printlnOut("You cannot make a move yet, please wait");
+        }
+    }
+
+    @Override
+    public void handleNewGame(String myUsername, String username1, String username2) {
+        printlnOut("A new Connect Four game has started!");
+        Player<ConnectFourPiece> player1;
+        Player<ConnectFourPiece> player2;
+        Strategy<ConnectFourPiece> nullStrategy = new NullStrategy<>();
+        if (myUsername.equals(username1)) {
+            player1 = new GenericPlayer<>(username1, strategy);
+            player2 = new GenericPlayer<>(username2, nullStrategy);
+            printlnOut("You are versus " + username2);
+            printlnOut("You have the first turn, with " + ConnectFourPiece.RED + " discs.");
+        } else {
+            player1 = new GenericPlayer<>(username1, nullStrategy);
+            player2 = new GenericPlayer<>(username2, strategy);
+            printlnOut("You are versus " + username1);
+            printlnOut("Your opponent has the first turn; you have " + ConnectFourPiece.YELLOW +
+                               " discs.");
+        }
+        game = new ConnectFourGame(player1, player2);
+        if (mistimedMove != null) {
+            handleMove(mistimedMove);
+            mistimedMove = null;
+        }
+    }
+
+    @Override
+    public void handleMove(int[] values) {
+        if (game == null) {
+            mistimedMove = values;
+            return;
+        }
+        printlnOut("A new move has been made!");
+        ConnectFourPiece piece = ConnectFourPiece.forTurn(game.getTurnCount());
+        game.doMove(Move.pack(values[0], piece.ordinal()));
+        printlnOut(piece + " disc dropped in column " + values[0]);
+        printlnOut(game.getBoardDisplay());
+    }
+}
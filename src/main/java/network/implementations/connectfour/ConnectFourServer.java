@@ -0,0 +1,119 @@
+package network.implementations.connectfour;
+
+import exceptions.InvalidServerStateException;
+import game.implementations.GenericPlayer;
+import game.implementations.connectfour.ConnectFourGame;
+import game.implementations.connectfour.ConnectFourPiece;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Move;
+import game.interfaces.Player;
+import game.interfaces.Strategy;
+import java.io.IOException;
+import java.util.List;
+import network.abstracts.AbstractServer;
+import network.implementations.ClientHandler;
+import network.protocol.GameOverReason;
+
+/**
+ * Implementation of {@code AbstractServer} which defines {@code ConnectFourGame} as the type of
+ * {@code Game} to be played in a {@code ConnectFourServer}. A MOVE only holds the column to drop
+ * a disc into; the colour of the disc follows from whose turn it is.
+ *
+ * @see ConnectFourGame
+ * @see game.interfaces.Game
+ * @see AbstractServer
+ */
+public final class ConnectFourServer extends AbstractServer<ConnectFourPiece, ConnectFourGame> {
+    static {
+        hello = "Hello from Connect Four server";
+    }
+
+    /**
+     * Constructs a new {@code ConnectFourServer} that listens on the provided port number.
+     * @param port The port number to listen on
+     * @throws IOException Thrown if there is an issue with opening the server socket
+     */
+    public ConnectFourServer(int port) throws IOException {
+        super(port);
+    }
+
+    @Override
+    protected void startGame(List<ClientHandler> queue) {
+        ClientHandler handler1 = queue.removeFirst();
+        ClientHandler handler2 = queue.removeFirst();
+
+        String name1 = handler1.getUsername();
+        String name2 = handler2.getUsername();
+
+        Strategy<ConnectFourPiece> nullStrategy = new NullStrategy<>();
+        ConnectFourGame game = new ConnectFourGame(new GenericPlayer<>(name1, nullStrategy),
+                                                   new GenericPlayer<>(name2, nullStrategy));
+
+        clients.put(handler1, game);
+        clients.put(handler2, game);
+
+        handler1.sendNewGame(name1, name2);
+        handler2.sendNewGame(name1, name2);
+        printDebug("New game between " + handler1.getUsername() + " and " + handler2.getUsername());
+    }
+
+    @Override
+    public void handleMove(ClientHandler handler, int[] values) {
+        ConnectFourGame game = clients.get(handler);
+        try {
+            synchronized (game) {
+                if (!game.getActivePlayer().getName().equals(handler.getUsername())) {
+                    handler.sendError("Please wait for your turn");
+                    return;
+                }
+
+                if (values.length != 1) {
+                    handler.sendError("Wrong number of arguments in MOVE");
+                    return;
+                }
+
+                ClientHandler other;
+                synchronized (clients) {
+                    other = clients.entrySet().stream()
+                            .filter(entry -> entry.getValue() == game &&
+                                    !entry.getKey().equals(handler)).findAny()
+                            .orElseThrow(InvalidServerStateException::new).getKey();
+                }
+
+                int column = values[0];
+                int newMove = Move.pack(column, game.getActivePiece().ordinal());
+                if (Move.getIndex(newMove) == column && game.isValidMove(newMove)) {
+                    game.doMove(newMove);
+                    handler.sendMove(values);
+                    other.sendMove(values);
+                } else {
+                    handler.sendError("Invalid move");
+                    return;
+                }
+                printDebug(handler.getUsername() + " requested MOVE");
+
+                if (game.isGameOver()) {
+                    clients.put(handler, null);
+                    clients.put(other, null);
+
+                    Player<ConnectFourPiece> winner = game.getWinner();
+                    if (winner != null) {
+                        handler.sendGameOver(GameOverReason.VICTORY, winner.getName());
+                        other.sendGameOver(GameOverReason.VICTORY, winner.getName());
+
+                        userWins.put(winner.getName(),
+                                     userWins.getOrDefault(winner.getName(), 0) + 1);
+                    } else {
+                        handler.sendGameOver();
+                        other.sendGameOver();
+                    }
+                    printDebug("Game between " + handler.getUsername() + " and " +
+                                       other.getUsername() + " finished; " +
+                                       (winner != null ? winner.getName() : "nobody") + " won");
+                }
+            }
+        } catch (NullPointerException _) {
+            handler.sendError("You are not in a game, please join a queue and wait");
+        }
+    }
+}
@@ -4,6 +4,7 @@ import game.implementations.GenericPlayer;
 import game.implementations.quarto.QuartoGame;
 import game.implementations.quarto.QuartoMove;
 import game.implementations.quarto.QuartoPiece;
+import game.interfaces.Move;
 import game.interfaces.Player;
 import java.io.IOException;
 import java.net.InetAddress;
@@ -36,11 +37,10 @@ public class QuartoClient extends AbstractClient<QuartoPiece> {
     protected void askMove() {
         if (game != null && !game.isGameOver() &&
                 game.getActivePlayer().getName().equals(serverHandler.getUsername())) {
-            int[] moveVals = game.getActivePlayer().takeTurn(game).toArray();
-            if (game.getTurnCount() == 1) {
-                moveVals = new int[]{moveVals[1]};
-            }
-            serverHandler.sendMoveRequest(moveVals);
+            QuartoMove move = game.getActivePlayer().takeTurn(game);
+            int piece = move.getPiece().ordinal();
+            serverHandler.sendMoveRequest(game.getTurnCount() == 1 ? new int[]{piece} :
+                                                  new int[]{move.getIndex(), piece});
         } else {
             printlnOut("You cannot make a move yet, please wait");
         }
@@ -77,16 +77,12 @@ public class QuartoClient extends AbstractClient<QuartoPiece> {
             return;
         }
         printlnOut("A new move has been made!");
-        QuartoPiece piece;
-        if (values.length == 1) {
-            piece = QuartoPiece.values()[values[0]];
-            game.doMove(new QuartoMove(piece, 0));
-        } else {
-            piece = QuartoPiece.values()[values[1]];
-            game.doMove(new QuartoMove(piece, values[0]));
+        int move = values.length == 1 ? Move.pack(0, values[0]) : Move.pack(values[0], values[1]);
+        game.doMove(move);
+        if (values.length > 1) {
             printlnOut("New move at index " + values[0]);
         }
-        printlnOut(piece + " is the next piece to be played");
+        printlnOut(QuartoMove.of(move).getPiece() + " is the next piece to be played");
         printlnOut(game.getBoardDisplay());
     }
 }
@@ -2,8 +2,8 @@ package network.implementations.quarto;
 
 import game.implementations.GenericPlayer;
 import game.implementations.quarto.QuartoGame;
-import game.implementations.quarto.QuartoMove;
 import game.implementations.quarto.QuartoPiece;
+import game.interfaces.Move;
 import game.interfaces.Player;
 import java.io.IOException;
 import java.util.List;
@@ -77,19 +77,16 @@ public final class QuartoServer extends AbstractServer<QuartoPiece, QuartoGame>
                 ClientHandler other;
                 synchronized (clients) {
                     other = clients.entrySet().stream()
-                            .filter(entry -> game.equals(entry.getValue()) &&
+                            .filter(entry -> entry.getValue() == game &&
                                     !entry.getKey().equals(handler)).findAny()
                             .orElseThrow(InvalidServerStateException::new).getKey();
                 }
 
-                QuartoMove newMove;
-                if (values.length == 1) {
-                    newMove = game.returnMoveIfValid(QuartoPiece.values()[values[0]], 0);
-                } else {
-                    newMove = game.returnMoveIfValid(QuartoPiece.values()[values[1]], values[0]);
-                }
-
-                if (newMove != null) {
+                int index = values.length == 1 ? 0 : values[0];
+                int piece = values[values.length - 1];
+                int newMove = Move.pack(index, piece);
+                if (Move.getIndex(newMove) == index && Move.getPiece(newMove) == piece &&
+                        game.isValidMove(newMove)) {
                     game.doMove(newMove);
                     handler.sendMove(values);
                     other.sendMove(values);
@@ -3,6 +3,8 @@ package option;
 import java.lang.reflect.Constructor;
 import java.net.InetAddress;
 import java.util.Scanner;
+import network.implementations.connectfour.AutoPlayConnectFourClient;
+import network.implementations.connectfour.ConnectFourClient;
 import network.implementations.quarto.AutoPlayQuartoClient;
 import network.implementations.quarto.QuartoClient;
 import network.interfaces.Client;
@@ -15,7 +17,8 @@ import network.interfaces.Client;
  * @see Option
  */
 public enum ClientOption implements Option {
-    QUARTO(QuartoClient.class), AUTOPLAY_QUARTO(AutoPlayQuartoClient.class);
+    QUARTO(QuartoClient.class), AUTOPLAY_QUARTO(AutoPlayQuartoClient.class),
+    CONNECT_FOUR(ConnectFourClient.class), AUTOPLAY_CONNECT_FOUR(AutoPlayConnectFourClient.class);
 
     private final Constructor<?> constructor;
 
@@ -1,6 +1,7 @@
 package option;
 
 import java.lang.reflect.Constructor;
+import network.implementations.connectfour.ConnectFourServer;
 import network.implementations.quarto.QuartoServer;
 import network.interfaces.Server;
 
@@ -12,7 +13,7 @@ import network.interfaces.Server;
  * @see Option
  */
 public enum ServerOption implements Option {
-    QUARTO(QuartoServer.class);
+    QUARTO(QuartoServer.class), CONNECT_FOUR(ConnectFourServer.class);
 
     private final Constructor<?> constructor;
 
@@ -3,7 +3,11 @@ package option;
 import java.lang.reflect.Constructor;
 import game.implementations.strategy.HumanStrategy;
 import game.implementations.strategy.MCTSStrategy;
+import game.implementations.strategy.ParallelSolverStrategy;
+import game.implementations.strategy.ProofNumberStrategy;
 import game.implementations.strategy.RandomStrategy;
+import game.implementations.strategy.SolverStrategy;
+import game.implementations.strategy.TranspositionMCTSStrategy;
 import game.interfaces.Strategy;
 
 /**
@@ -15,7 +19,10 @@ import game.interfaces.Strategy;
  * @see Strategy
  */
 public enum StrategyOption implements Option {
-    HUMAN(HumanStrategy.class), RANDOM(RandomStrategy.class), MCTS(MCTSStrategy.class);
+    HUMAN(HumanStrategy.class), RANDOM(RandomStrategy.class), MCTS(MCTSStrategy.class),
+    SOLVER(SolverStrategy.class), PARALLEL_SOLVER(ParallelSolverStrategy.class),
+    PROOF_NUMBER(ProofNumberStrategy.class),
+    TRANSPOSITION_MCTS(TranspositionMCTSStrategy.class);
 
     private final Constructor<?> constructor;
 
@@ -0,0 +1,68 @@
+package runnable;
+
+import exceptions.IllegalInitializationException;
+import game.implementations.GenericPlayer;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoOpeningBook;
+import game.implementations.quarto.QuartoOpeningBookBuilder;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.strategy.MCTSStrategy;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Player;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Program entry point used to build a Quarto opening book, by searching every distinct position
+ * of the first turns with an {@code MCTSStrategy}.
+ *
+ * @see QuartoOpeningBookBuilder
+ * @see QuartoOpeningBook
+ * @see exceptions.IllegalInitializationException
+ */
+public final class RunOpeningBook {
+    private static final String USAGE = "Usage: RunOpeningBook <number of turns> <file>";
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private RunOpeningBook() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Program entry point that searches every distinct position of the given number of turns from
+     * the start, and writes the chosen {@code Move}s into the given file.
+     * @param args The command-line options passed in when the program is run
+     */
+    public static void main(String[] args) {
+        if (args.length < 2) {
+            System.out.println(USAGE);
+            return;
+        }
+        int turns;
+        try {
+            turns = Integer.parseInt(args[0]);
+        } catch (NumberFormatException e) {
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+            return;
+        }
+
+        Player<QuartoPiece> player1 = new GenericPlayer<>("p1", new NullStrategy<QuartoPiece>());
+        Player<QuartoPiece> player2 = new GenericPlayer<>("p2", new NullStrategy<QuartoPiece>());
+        QuartoOpeningBookBuilder builder = new QuartoOpeningBookBuilder();
+        long start = System.nanoTime();
+        builder.addSearched(new QuartoGame(player1, player2), turns, new MCTSStrategy<>());
+        try {
+            builder.write(Path.of(args[1]));
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        System.out.println("Positions: " + builder.size());
+        System.out.printf("Time: %.3f s%n", (System.nanoTime() - start) / 1e9);
+    }
+}
@@ -0,0 +1,87 @@
+package runnable;
+
+import exceptions.IllegalInitializationException;
+import game.implementations.GenericPlayer;
+import game.implementations.Perft;
+import game.implementations.quarto.QuartoCodec;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Player;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Program entry point used to run perft on a {@code QuartoGame}, reporting the number of leaf
+ * nodes and the number of nodes per second.
+ *
+ * @see Perft
+ * @see exceptions.IllegalInitializationException
+ */
+public final class RunPerft {
+    private static final String USAGE =
+            "Usage: RunPerft <depth> [divide] [parallel] [position in QuartoCodec text form]";
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private RunPerft() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Program entry point that runs perft to the depth given as the first argument. The optional
+     * arguments {@code divide} and {@code parallel} split the count by first {@code Move} and
+     * count on all available processors, respectively; any other argument is read as the
+     * position to start from, in the text form of {@code QuartoCodec}.
+     * @param args The command-line options passed in when the program is run
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println(USAGE);
+            return;
+        }
+        List<String> options = Arrays.asList(args).subList(1, args.length);
+        boolean divide = options.contains("divide");
+        ForkJoinPool pool = options.contains("parallel") ? ForkJoinPool.commonPool() : null;
+        Player<QuartoPiece> player = new GenericPlayer<>("perft", new NullStrategy<QuartoPiece>());
+        QuartoGame game = new QuartoGame(player, player);
+        int depth;
+        try {
+            depth = Integer.parseInt(args[0]);
+            for (String option : options) {
+                if (!option.equals("divide") && !option.equals("parallel")) {
+                    game = new QuartoGame(player, player, QuartoCodec.fromText(option));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long nodes;
+        if (divide && depth > 0) {
+            Map<QuartoMove, Long> division = Perft.divide(game, depth, pool);
+            nodes = 0;
+            for (Map.Entry<QuartoMove, Long> entry : division.entrySet()) {
+                QuartoMove move = entry.getKey();
+                System.out.println(move.getIndex() + " " + move.getPiece() + ": " +
+                                           entry.getValue());
+                nodes += entry.getValue();
+            }
+        } else {
+            nodes = Perft.perft(game, depth, pool);
+        }
+        long nanos = Math.max(System.nanoTime() - start, 1);
+        System.out.println("Nodes: " + nodes);
+        System.out.printf("Time: %.3f s%n", nanos / 1e9);
+        System.out.printf("Nodes per second: %.0f%n", nodes * 1e9 / nanos);
+    }
+}
@@ -0,0 +1,66 @@
+package runnable;
+
+import exceptions.IllegalInitializationException;
+import game.implementations.quarto.QuartoTablebase;
+import game.implementations.quarto.QuartoTablebaseGenerator;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Program entry point used to generate a Quarto endgame tablebase from random positions, solving
+ * them on all available processors.
+ *
+ * @see QuartoTablebaseGenerator
+ * @see QuartoTablebase
+ * @see exceptions.IllegalInitializationException
+ */
+public final class RunTablebase {
+    private static final String USAGE =
+            "Usage: RunTablebase <max empty indices> <number of positions> <file> [seed]";
+
+    /**
+     * An intentionally private constructor used to signify that this class should never be
+     * initialized from other files. If the reflection API is used to access this constructor, an
+     * {@code IllegalInitializationException} will be thrown to ensure the inability to initialize.
+     */
+    private RunTablebase() {
+        throw new IllegalInitializationException();
+    }
+
+    /**
+     * Program entry point that solves the given number of random positions with the given number
+     * of empty indices, and writes them and every position after them into the given file.
+     * @param args The command-line options passed in when the program is run
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.out.println(USAGE);
+            return;
+        }
+        int maxEmpty;
+        int count;
+        long seed;
+        try {
+            maxEmpty = Integer.parseInt(args[0]);
+            count = Integer.parseInt(args[1]);
+            seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+        } catch (NumberFormatException e) {
+            System.out.println(e.getMessage());
+            System.out.println(USAGE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            int size = QuartoTablebaseGenerator.generate(
+                    QuartoTablebaseGenerator.randomRoots(count, maxEmpty, seed), maxEmpty,
+                    Path.of(args[2]), ForkJoinPool.commonPool());
+            System.out.println("Positions: " + size);
+        } catch (IOException e) {
+            System.out.println(e.getMessage());
+            return;
+        }
+        System.out.printf("Time: %.3f s%n", (System.nanoTime() - start) / 1e9);
+    }
+}
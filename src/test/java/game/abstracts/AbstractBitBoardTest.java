@@ -0,0 +1,186 @@
+package game.abstracts;
+
+import game.interfaces.Board;
+import game.interfaces.Piece;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implementation of {@code AbstractBoardTest} which tests the correct functionality of
+ * {@code AbstractBitBoard}, through a minimal board of 7 columns and 6 rows.
+ *
+ * @see AbstractBitBoard
+ * @see AbstractBoardTest
+ */
+public final class AbstractBitBoardTest extends AbstractBoardTest<AbstractBitBoardTest.Disc> {
+    private static final int HEIGHT = 6;
+    private TestBoard bitBoard;
+
+    /**
+     * The {@code Piece}s of the {@code TestBoard}.
+     */
+    enum Disc implements Piece {
+        EMPTY, RED, YELLOW;
+
+        @Override
+        public String getDisplay() {
+            return name();
+        }
+    }
+
+    /**
+     * Minimal extension of {@code AbstractBitBoard} which adds nothing but a deep copy.
+     */
+    private static final class TestBoard extends AbstractBitBoard<Disc> {
+        TestBoard(int width, int height) {
+            super(width, height, Disc.EMPTY);
+        }
+
+        TestBoard(TestBoard original) {
+            super(original);
+        }
+
+        @Override
+        public TestBoard deepCopy() {
+            return new TestBoard(this);
+        }
+    }
+
+    @Override
+    @BeforeEach
+    protected void setUpBoard() {
+        boardLength = 7;
+        bitBoard = new TestBoard(boardLength, HEIGHT);
+        board = bitBoard;
+    }
+
+    @Override
+    @Test
+    protected void testInitialState() {
+        assertEquals(boardLength * HEIGHT, board.getTotalPositions());
+        assertTrue(IntStream.range(0, board.getTotalPositions())
+                           .allMatch(i -> Disc.EMPTY == board.getField(i)));
+        assertEquals(0, bitBoard.getOccupied());
+        assertEquals(board.getTotalPositions(), bitBoard.countEmpty());
+    }
+
+    @Override
+    @Test
+    protected void deepCopy_whenNotChanged_isEqual() {
+        board.setField(3, Disc.RED);
+        Board<Disc> copy = board.deepCopy();
+        assertEquals(board, copy);
+        assertNotSame(board, copy);
+
+        Set<Board<Disc>> boardSet = new HashSet<>();
+        boardSet.add(board);
+        boardSet.add(copy);
+        assertEquals(1, boardSet.size());
+    }
+
+    @Override
+    @Test
+    protected void deepCopy_whenChanged_isNotEqual() {
+        Board<Disc> copy = board.deepCopy();
+        copy.setField(0, Disc.YELLOW);
+        assertNotEquals(board, copy);
+        assertEquals(Disc.EMPTY, board.getField(0));
+
+        Set<Board<Disc>> boardSet = new HashSet<>();
+        boardSet.add(board);
+        boardSet.add(copy);
+        assertEquals(2, boardSet.size());
+    }
+
+    @Override
+    @Test
+    protected void isValidField_whenInsideBoard_isTrue() {
+        assertTrue(board.isValidField(0));
+        assertTrue(board.isValidField(boardLength * HEIGHT - 1));
+    }
+
+    @Override
+    @Test
+    protected void isValidField_whenOutsideBoard_isFalse() {
+        assertFalse(board.isValidField(Integer.MIN_VALUE));
+        assertFalse(board.isValidField(-1));
+        assertFalse(board.isValidField(boardLength * HEIGHT));
+        assertFalse(board.isValidField(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Tests that replacing and clearing positions keeps the planes, the occupied mask and the
+     * counts consistent.
+     */
+    @Test
+    void setField_whenReplaced_updatesPlanes() {
+        board.setField(10, Disc.RED);
+        board.setField(10, Disc.YELLOW);
+        board.setField(11, Disc.RED);
+        assertEquals(Disc.YELLOW, board.getField(10));
+        assertEquals(1L << 10, bitBoard.getPlane(Disc.YELLOW));
+        assertEquals(1L << 11, bitBoard.getPlane(Disc.RED));
+        assertEquals(3L << 10, bitBoard.getOccupied());
+        assertEquals(board.getTotalPositions() - 2, bitBoard.countEmpty());
+
+        board.setField(10, Disc.EMPTY);
+        assertEquals(Disc.EMPTY, board.getField(10));
+        assertEquals(0, bitBoard.count(Disc.YELLOW));
+        assertEquals(1, bitBoard.count(Disc.RED));
+    }
+
+    /**
+     * Tests that shifting drops bits over every edge instead of wrapping them around.
+     */
+    @Test
+    void shift_whenOverEdge_dropsBits() {
+        long west = bitBoard.getColumnMask(0);
+        long east = bitBoard.getColumnMask(boardLength - 1);
+        assertEquals(0, bitBoard.shift(west, -1, 0));
+        assertEquals(0, bitBoard.shift(east, 1, 0));
+        assertEquals(bitBoard.getColumnMask(1), bitBoard.shift(west, 1, 0));
+        assertEquals(0, bitBoard.shift(bitBoard.getRowMask(HEIGHT - 1), 0, 1));
+        assertEquals(bitBoard.getRowMask(0), bitBoard.shift(bitBoard.getRowMask(1), 0, -1));
+        assertEquals(0, bitBoard.shift(bitBoard.getBoardMask(), boardLength, 0));
+
+        long all = bitBoard.getBoardMask();
+        assertEquals(all & ~west & ~bitBoard.getRowMask(0), bitBoard.shift(all, 1, 1));
+        assertEquals(all & ~east & ~bitBoard.getRowMask(0), bitBoard.shift(all, -1, 1));
+    }
+
+    /**
+     * Tests that runs are found in every direction, but not across the edges of the board.
+     */
+    @Test
+    void hasRun_whenLine_findsRun() {
+        int[][] directions = {{1, 0}, {0, 1}, {1, 1}, {1, -1}};
+        for (int[] direction : directions) {
+            int start = bitBoard.toIndex(2, direction[1] < 0 ? 4 : 1);
+            long line = bitBoard.getLineMask(start, direction[0], direction[1]);
+            assertTrue(bitBoard.hasRun(line, 4));
+            assertEquals(1L << start, bitBoard.findRuns(line, direction[0], direction[1],
+                                                        Long.bitCount(line)));
+        }
+
+        long wrapped = 0b11L << bitBoard.toIndex(5, 0) | 0b11L << bitBoard.toIndex(0, 1);
+        assertFalse(bitBoard.hasRun(wrapped, 4));
+        assertFalse(bitBoard.hasRun(bitBoard.getRowMask(2) & ~(1L << bitBoard.toIndex(3, 2)), 4));
+        assertTrue(bitBoard.hasRun(bitBoard.getColumnMask(6), HEIGHT));
+        assertFalse(bitBoard.hasRun(bitBoard.getColumnMask(6), HEIGHT + 1));
+    }
+
+    /**
+     * Tests that boards of more than 64 positions cannot be created.
+     */
+    @Test
+    void constructor_whenTooLarge_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new TestBoard(9, 8));
+        assertThrows(IllegalArgumentException.class, () -> new TestBoard(0, 4));
+        assertEquals(64, new TestBoard(8, 8).getTotalPositions());
+    }
+}
@@ -1,12 +1,13 @@
 package game.abstracts;
 
+import game.interfaces.Board;
 import game.interfaces.Piece;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 /**
  * Abstract test class which creates a template used to test correct functionality of
- * {@code AbstractBoard} implementations.
+ * {@code Board} implementations, such as those extending {@code AbstractBoard}.
  * @param <T> A generic type that defines the type of {@code Piece}s placed on this
  *          {@code AbstractBoard}
  *
@@ -15,7 +16,7 @@ import org.junit.jupiter.api.Test;
  */
 public abstract class AbstractBoardTest<T extends Enum<T> & Piece> {
     protected int boardLength;
-    protected AbstractBoard<T> board;
+    protected Board<T> board;
 
     /**
      * Performs setup needed for the unit tests in this class.
@@ -73,6 +73,30 @@ public abstract class AbstractGameTest<T extends Enum<T> & Piece> {
     @Test
     protected abstract void doMove_whenTerminatingMove_endsGame();
 
+    /**
+     * Tests that undoing every {@code Move} of a randomly played {@code Game}, in reverse order,
+     * restores each earlier state exactly.
+     */
+    @RepeatedTest(100)
+    @Timeout(5)
+    protected abstract void undoMove_whenFullGameUndone_restoresEveryState();
+
+    /**
+     * Tests that the packed {@code Move}s written by {@code fillValidMoves} are the same, and in
+     * the same order, as the {@code Move}s returned by {@code getValidMoves}, and that playing
+     * them in packed form has the same effect, throughout a randomly played {@code Game}.
+     */
+    @RepeatedTest(10)
+    @Timeout(5)
+    protected abstract void fillValidMoves_whenRandomlyPlayed_matchesValidMoves();
+
+    /**
+     * Tests that the same state reached through different orders of {@code Move}s has the same
+     * Zobrist key, and that a different state has a different Zobrist key.
+     */
+    @Test
+    protected abstract void getZobristKey_whenSameStateReachedDifferently_isEqual();
+
     /**
      * Tests that a valid {@code Move} is recognized as a valid {@code Move}.
      */
@@ -0,0 +1,76 @@
+package game.implementations;
+
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Game;
+import game.interfaces.Player;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code Perft}, and through it the move
+ * generation of {@code QuartoGame}.
+ *
+ * @see Perft
+ * @see QuartoGame
+ */
+public final class PerftTest {
+    private final Player<QuartoPiece> player =
+            new GenericPlayer<>("p", new NullStrategy<QuartoPiece>());
+    private Game<QuartoPiece> game;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpGame() {
+        game = new QuartoGame(player, player);
+    }
+
+    /**
+     * Tests that the leaf node counts from the initial state match the counts that follow from
+     * the rules: 16 pieces on any of the 16 indices first, then 15 pieces or QUARTO on any of
+     * the 16 indices, after which every {@code Move} that did not call QUARTO is followed by one
+     * fewer piece, QUARTO, and one fewer index.
+     */
+    @Test
+    @Timeout(10)
+    void perft_whenInitialState_matchesKnownCounts() {
+        assertEquals(1, Perft.perft(game, 0));
+        assertEquals(16 * 16, Perft.perft(game, 1));
+        assertEquals(16 * 16 * 16 * 16, Perft.perft(game, 2));
+        assertEquals(16 * 16 * 16 * 15 * 15 * 15, Perft.perft(game, 3));
+        assertEquals(16L * 16 * 16 * 15 * 15 * 14 * 14 * 14, Perft.perft(game, 4));
+        assertEquals(new QuartoGame(player, player), game);
+    }
+
+    /**
+     * Tests that counting in a {@code ForkJoinPool} gives the same counts as counting on the
+     * calling thread, and that the division by first {@code Move} adds up to the total.
+     */
+    @Test
+    @Timeout(10)
+    void divide_whenParallel_matchesSequential() {
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_LARGE_SQUARE_HOLLOW, 5));
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Map<QuartoMove, Long> sequential = Perft.divide(game, 3);
+            Map<QuartoMove, Long> parallel = Perft.divide(game, 3, pool);
+            assertEquals(game.getValidMoves(), sequential.keySet().stream().toList());
+            assertEquals(sequential, parallel);
+            long total = sequential.values().stream().mapToLong(Long::longValue).sum();
+            assertEquals(total, Perft.perft(game, 3));
+            assertEquals(total, Perft.perft(game, 3, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package game.implementations;
+
+import game.interfaces.TranspositionTable;
+import java.lang.foreign.Arena;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code ArrayTranspositionTable} and
+ * {@code OffHeapTranspositionTable}.
+ *
+ * @see TranspositionTable
+ * @see ArrayTranspositionTable
+ * @see OffHeapTranspositionTable
+ */
+public final class TranspositionTableTest {
+    private static final int THREADS = 4;
+    private static final int STORES = 100_000;
+    private OffHeapTranspositionTable offHeapTable;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpTable() {
+        offHeapTable = new OffHeapTranspositionTable(1 << 12);
+    }
+
+    /**
+     * Releases the memory of the off-heap table after every unit test.
+     */
+    @AfterEach
+    void closeTable() {
+        offHeapTable.close();
+    }
+
+    /**
+     * Tests that the depth-preferred entry of a bucket keeps the deeper result, while the
+     * always-replace entry takes the newer one, for both implementations.
+     */
+    @Test
+    void store_whenBucketCollides_keepsDeeperEntry() {
+        assertKeepsDeeperEntry(new ArrayTranspositionTable(0));
+        try (OffHeapTranspositionTable table = new OffHeapTranspositionTable(32)) {
+            assertEquals(2, table.capacity());
+            assertKeepsDeeperEntry(table);
+        }
+    }
+
+    /**
+     * Tests that the size of an {@code OffHeapTranspositionTable} is rounded down to a power of two
+     * buckets, and that sizes below a single bucket are rejected.
+     */
+    @Test
+    void constructor_whenSizeNotPowerOfTwo_roundsDown() {
+        try (OffHeapTranspositionTable table = new OffHeapTranspositionTable(100)) {
+            assertEquals(64, table.byteSize());
+            assertEquals(4, table.capacity());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapTranspositionTable(31));
+    }
+
+    /**
+     * Tests that a table in an automatic {@code Arena} is usable and cannot be closed explicitly.
+     */
+    @Test
+    void constructor_whenAutomaticArena_cannotBeClosed() {
+        OffHeapTranspositionTable table = new OffHeapTranspositionTable(64, Arena.ofAuto());
+        table.store(1, 2, 3, 4, TranspositionTable.EXACT);
+        assertEquals(2, TranspositionTable.getMove(table.probe(1)));
+        assertThrows(UnsupportedOperationException.class, table::close);
+    }
+
+    /**
+     * Tests that hits, misses and collisions are counted.
+     */
+    @Test
+    void probe_whenStoredAndMissing_countsHitsAndMisses() {
+        long buckets = offHeapTable.capacity() / 2;
+        offHeapTable.store(1, 2, 3, 4, TranspositionTable.EXACT);
+        offHeapTable.probe(1);
+        offHeapTable.probe(2);
+        offHeapTable.probe(1 + buckets);
+        assertEquals(1, offHeapTable.getHits());
+        assertEquals(2, offHeapTable.getMisses());
+        assertEquals(0, offHeapTable.getCollisions());
+
+        offHeapTable.store(1 + buckets, 0, 0, 3, TranspositionTable.EXACT);
+        offHeapTable.store(1 + 2 * buckets, 0, 0, 2, TranspositionTable.EXACT);
+        assertEquals(1, offHeapTable.getCollisions());
+    }
+
+    /**
+     * Tests that clearing an {@code OffHeapTranspositionTable} removes all of its entries.
+     */
+    @Test
+    void clear_whenStored_removesEntries() {
+        for (long key = 0; key < 100; key++) {
+            offHeapTable.store(key, 1, 1, 1, TranspositionTable.EXACT);
+        }
+        offHeapTable.clear();
+        for (long key = 0; key < 100; key++) {
+            assertEquals(TranspositionTable.MISSING, offHeapTable.probe(key));
+        }
+    }
+
+    /**
+     * Tests that a closed {@code OffHeapTranspositionTable} cannot be used anymore.
+     */
+    @Test
+    void probe_whenClosed_throwsException() {
+        OffHeapTranspositionTable table = new OffHeapTranspositionTable(64);
+        table.close();
+        assertThrows(IllegalStateException.class, () -> table.probe(0));
+    }
+
+    /**
+     * Tests that threads which store and probe the same small table at once never read an entry
+     * that was stored for a different key, even when their writes to a slot interleave.
+     */
+    @Test
+    @Timeout(30)
+    void probe_whenConcurrentStores_neverReturnsForeignEntry() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long seed = t;
+                futures.add(executor.submit(() -> storeAndProbe(new SplittableRandom(seed))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw (Exception) e.getCause();
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(THREADS * (long) STORES, offHeapTable.getHits() + offHeapTable.getMisses());
+    }
+
+    /**
+     * Stores entries whose {@code Move} and score are derived from their key, and checks that
+     * every entry found belongs to the key it was found for.
+     * @param random The source of keys
+     */
+    private void storeAndProbe(SplittableRandom random) {
+        for (int i = 0; i < STORES; i++) {
+            long key = random.nextLong();
+            offHeapTable.store(key, moveOf(key), scoreOf(key), random.nextInt(1, 20),
+                               TranspositionTable.EXACT);
+            long probed = random.nextBoolean() ? key : random.nextLong();
+            long entry = offHeapTable.probe(probed);
+            if (entry != TranspositionTable.MISSING) {
+                assertEquals(moveOf(probed), TranspositionTable.getMove(entry));
+                assertEquals(scoreOf(probed), TranspositionTable.getScore(entry));
+            }
+        }
+    }
+
+    /**
+     * Checks the replacement scheme of a table of a single bucket.
+     * @param table The table to check
+     */
+    private static void assertKeepsDeeperEntry(TranspositionTable table) {
+        table.store(1, 5, -7, 10, TranspositionTable.LOWER);
+        table.store(2, 6, 8, 3, TranspositionTable.EXACT);
+        table.store(3, -1, 9, 4, TranspositionTable.UPPER);
+
+        long deep = table.probe(1);
+        assertEquals(5, TranspositionTable.getMove(deep));
+        assertEquals(-7, TranspositionTable.getScore(deep));
+        assertEquals(10, TranspositionTable.getDepth(deep));
+        assertEquals(TranspositionTable.LOWER, TranspositionTable.getBound(deep));
+        assertEquals(TranspositionTable.MISSING, table.probe(2));
+        assertEquals(-1, TranspositionTable.getMove(table.probe(3)));
+
+        table.newSearch();
+        table.store(4, 0, 0, 1, TranspositionTable.EXACT);
+        assertEquals(TranspositionTable.MISSING, table.probe(1));
+        assertNotEquals(TranspositionTable.MISSING, table.probe(4));
+    }
+
+    /**
+     * Derives the {@code Move} to store for a key.
+     * @param key The key
+     * @return The packed {@code Move} for the key
+     */
+    private static int moveOf(long key) {
+        return (int) (key >>> 50) & 0x3FFF;
+    }
+
+    /**
+     * Derives the score to store for a key.
+     * @param key The key
+     * @return The score for the key
+     */
+    private static int scoreOf(long key) {
+        return (int) (key >>> 20) % 1000;
+    }
+}
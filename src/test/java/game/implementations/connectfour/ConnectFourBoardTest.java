@@ -0,0 +1,99 @@
+package game.implementations.connectfour;
+
+import game.abstracts.AbstractBoardTest;
+import game.interfaces.Board;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implementation of {@code AbstractBoardTest} which tests the correct functionality of
+ * {@code ConnectFourBoard}.
+ *
+ * @see ConnectFourBoard
+ * @see AbstractBoardTest
+ */
+public final class ConnectFourBoardTest extends AbstractBoardTest<ConnectFourPiece> {
+    @Override
+    @BeforeEach
+    protected void setUpBoard() {
+        boardLength = ConnectFourBoard.WIDTH;
+        board = new ConnectFourBoard();
+    }
+
+    @Override
+    @Test
+    protected void testInitialState() {
+        assertEquals(ConnectFourBoard.WIDTH * ConnectFourBoard.HEIGHT, board.getTotalPositions());
+        assertTrue(IntStream.range(0, board.getTotalPositions())
+                           .allMatch(i -> ConnectFourPiece.EMPTY == board.getField(i)));
+    }
+
+    @Override
+    @Test
+    protected void deepCopy_whenNotChanged_isEqual() {
+        Board<ConnectFourPiece> copy = board.deepCopy();
+        assertEquals(board, copy);
+        assertNotSame(board, copy);
+
+        Set<Board<ConnectFourPiece>> boardSet = new HashSet<>();
+        boardSet.add(board);
+        boardSet.add(copy);
+        assertEquals(1, boardSet.size());
+    }
+
+    @Override
+    @Test
+    protected void deepCopy_whenChanged_isNotEqual() {
+        Board<ConnectFourPiece> copy = board.deepCopy();
+        copy.setField(0, ConnectFourPiece.RED);
+        assertNotEquals(board, copy);
+
+        Set<Board<ConnectFourPiece>> boardSet = new HashSet<>();
+        boardSet.add(board);
+        boardSet.add(copy);
+        assertEquals(2, boardSet.size());
+    }
+
+    @Override
+    @Test
+    protected void isValidField_whenInsideBoard_isTrue() {
+        assertTrue(board.isValidField(0));
+        assertTrue(board.isValidField(ConnectFourBoard.WIDTH * ConnectFourBoard.HEIGHT - 1));
+    }
+
+    @Override
+    @Test
+    protected void isValidField_whenOutsideBoard_isFalse() {
+        assertFalse(board.isValidField(Integer.MIN_VALUE));
+        assertFalse(board.isValidField(-1));
+        assertFalse(board.isValidField(ConnectFourBoard.WIDTH * ConnectFourBoard.HEIGHT));
+        assertFalse(board.isValidField(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Tests that a snapshot of a {@code ConnectFourGame} holds its discs bottom up, and shows the
+     * bottom row last.
+     */
+    @Test
+    void getBoard_whenDiscsDropped_stacksFromBottom() {
+        ConnectFourGame game = new ConnectFourGame(null, null);
+        game.doMove(ConnectFourMove.of(ConnectFourPiece.RED, 2));
+        game.doMove(ConnectFourMove.of(ConnectFourPiece.YELLOW, 2));
+        game.doMove(ConnectFourMove.of(ConnectFourPiece.RED, 6));
+        ConnectFourBoard snapshot = game.getBoard();
+        assertEquals(ConnectFourPiece.RED, snapshot.getField(snapshot.toIndex(2, 0)));
+        assertEquals(ConnectFourPiece.YELLOW, snapshot.getField(snapshot.toIndex(2, 1)));
+        assertEquals(ConnectFourPiece.RED, snapshot.getField(snapshot.toIndex(6, 0)));
+        assertEquals(2, snapshot.count(ConnectFourPiece.RED));
+        assertFalse(snapshot.isConnected(ConnectFourPiece.RED));
+
+        String[] rows = snapshot.toString().split("\n");
+        assertEquals("|   |   | X |   |   |   | X |", rows[ConnectFourBoard.HEIGHT - 1]);
+        assertEquals("|   |   | O |   |   |   |   |", rows[ConnectFourBoard.HEIGHT - 2]);
+    }
+}
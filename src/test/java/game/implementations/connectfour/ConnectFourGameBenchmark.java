@@ -0,0 +1,81 @@
+package game.implementations.connectfour;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Game;
+import game.interfaces.Player;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark class which measures the throughput of random playouts of {@code ConnectFourGame}s,
+ * the inner loop of {@code MCTSStrategy}, through the generic {@code Game} interface. Games of
+ * Connect Four last up to 42 turns, against at most 16 in Quarto, so that these numbers show how
+ * the generic code copes with much deeper positions; compare them against
+ * {@code QuartoGameBenchmark}.
+ *
+ * @see ConnectFourGame
+ * @see game.implementations.strategy.MCTSStrategy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConnectFourGameBenchmark {
+    private static final long SEED = 12345L;
+
+    private final Random random = new Random(SEED);
+    private final int[] buffer = new int[ConnectFourBoard.WIDTH];
+    private Game<ConnectFourPiece> initial;
+
+    /**
+     * Creates the empty {@code ConnectFourGame} every playout starts from.
+     */
+    @Setup
+    public void setUp() {
+        Player<ConnectFourPiece> player1 =
+                new GenericPlayer<>("p1", new NullStrategy<ConnectFourPiece>());
+        Player<ConnectFourPiece> player2 =
+                new GenericPlayer<>("p2", new NullStrategy<ConnectFourPiece>());
+        initial = new ConnectFourGame(player1, player2);
+    }
+
+    /**
+     * Plays out a random {@code ConnectFourGame}, generating the valid {@code Move}s in packed
+     * form into a reused buffer every turn.
+     * @return The final state, so that the playout cannot be optimized away
+     */
+    @Benchmark
+    public Game<ConnectFourPiece> packedRollout() {
+        Game<ConnectFourPiece> game = initial.deepCopy();
+        while (!game.isGameOver()) {
+            int count = game.fillValidMoves(buffer);
+            game.doMove(buffer[random.nextInt(count)]);
+        }
+        return game;
+    }
+
+    /**
+     * Plays out a random {@code ConnectFourGame} on a single instance and then undoes every
+     * {@code Move} again, in the same way a copy-free tree search walks down and back up.
+     * @return The restored state, so that the playout cannot be optimized away
+     */
+    @Benchmark
+    public Game<ConnectFourPiece> playAndUndo() {
+        Game<ConnectFourPiece> game = initial;
+        int[] played = new int[ConnectFourGame.LAST_TURN];
+        int count = 0;
+        while (!game.isGameOver()) {
+            int moves = game.fillValidMoves(buffer);
+            played[count] = buffer[random.nextInt(moves)];
+            game.doMove(played[count++]);
+        }
+        while (count > 0) {
+            game.undoMove(played[--count]);
+        }
+        return game;
+    }
+}
@@ -0,0 +1,325 @@
+package game.implementations.connectfour;
+
+import game.abstracts.AbstractGameTest;
+import game.implementations.ArrayTranspositionTable;
+import game.implementations.strategy.SolverStrategy;
+import game.interfaces.Game;
+import game.interfaces.Move;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Implementation of {@code AbstractGameTest} which tests the correct functionality of
+ * {@code ConnectFourGame}.
+ *
+ * @see ConnectFourGame
+ * @see AbstractGameTest
+ */
+public final class ConnectFourGameTest extends AbstractGameTest<ConnectFourPiece> {
+    private static final ConnectFourPiece RED = ConnectFourPiece.RED;
+    private static final ConnectFourPiece YELLOW = ConnectFourPiece.YELLOW;
+
+    @Override
+    @BeforeEach
+    protected void setUpGame() {
+        game = new ConnectFourGame(player1, player2);
+    }
+
+    @Override
+    @Test
+    protected void testInitialState() {
+        assertEquals(1, game.getTurnCount());
+        assertSame(player1, game.getActivePlayer());
+        assertEquals(ConnectFourBoard.WIDTH, game.getValidMoves().size());
+        assertEquals(Set.of(RED), game.getValidPieces());
+        assertFalse(game.isGameOver());
+        assertNull(game.getWinner());
+    }
+
+    @Override
+    @RepeatedTest(100)
+    @Timeout(5)
+    protected void testFullGame() {
+        do {
+            game.doMove(game.getActivePlayer().takeTurn(game));
+        } while (!game.isGameOver());
+
+        ConnectFourBoard board = ((ConnectFourGame) game).getBoard();
+        assertTrue(game.getTurnCount() > 7 && game.getTurnCount() <= 43);
+        assertTrue(game.getWinner() != null || game.getTurnCount() == 43);
+        if (game.getWinner() != null) {
+            ConnectFourPiece winner = game.getWinner() == player1 ? RED : YELLOW;
+            assertTrue(board.isConnected(winner));
+        } else {
+            assertFalse(board.isConnected(RED) || board.isConnected(YELLOW));
+        }
+        assertTrue(game.getValidPieces().isEmpty());
+    }
+
+    @Override
+    @Test
+    protected void deepCopy_whenNotChanged_isEqual() {
+        Game<ConnectFourPiece> copy = game.deepCopy();
+        assertEquals(game, copy);
+        assertNotSame(game, copy);
+
+        Set<Game<ConnectFourPiece>> gameSet = new HashSet<>();
+        gameSet.add(game);
+        gameSet.add(copy);
+        assertEquals(1, gameSet.size());
+    }
+
+    @Override
+    @Test
+    protected void deepCopy_whenChanged_isNotEqual() {
+        Game<ConnectFourPiece> copy = game.deepCopy();
+        copy.doMove(ConnectFourMove.of(RED, 3));
+        assertNotEquals(game, copy);
+
+        Set<Game<ConnectFourPiece>> gameSet = new HashSet<>();
+        gameSet.add(game);
+        gameSet.add(copy);
+        assertEquals(2, gameSet.size());
+    }
+
+    @Override
+    @Test
+    protected void doMove_whenNonTerminatingMove_continuesGame() {
+        game.doMove(ConnectFourMove.of(RED, 3));
+        assertEquals(2, game.getTurnCount());
+        assertSame(player2, game.getActivePlayer());
+        assertEquals(Set.of(YELLOW), game.getValidPieces());
+        assertEquals(ConnectFourBoard.WIDTH, game.getValidMoves().size());
+        assertFalse(game.isGameOver());
+        assertNull(game.getWinner());
+        assertEquals(RED, ((ConnectFourGame) game).getBoard().getField(3));
+    }
+
+    @Override
+    @Test
+    protected void doMove_whenTerminatingMove_endsGame() {
+        play(3, 3, 2, 2, 4, 4);
+        assertEquals(1 << 1 | 1 << 5, ((ConnectFourGame) game).getWinningColumns());
+        play(5);
+        assertEquals(8, game.getTurnCount());
+        assertTrue(game.getValidMoves().isEmpty());
+        assertTrue(game.isGameOver());
+        assertSame(player1, game.getWinner());
+    }
+
+    /**
+     * Tests that four discs in a row are found along a column and along both diagonals, and that
+     * discs in different columns do not connect over the top of a column.
+     */
+    @Test
+    void doMove_whenFourInEveryDirection_endsGame() {
+        play(0, 1, 0, 1, 0, 1, 0);
+        assertSame(player1, game.getWinner());
+
+        setUpGame();
+        play(0, 1, 1, 2, 2, 3, 2, 3, 3, 6, 3);
+        assertSame(player1, game.getWinner());
+
+        setUpGame();
+        play(6, 5, 5, 4, 4, 3, 4, 3, 3, 0, 3);
+        assertSame(player1, game.getWinner());
+
+        setUpGame();
+        play(0, 1, 0, 1, 0, 0, 1, 1, 6, 0, 6, 0, 6, 1, 1, 6);
+        assertFalse(game.isGameOver());
+    }
+
+    /**
+     * Tests that filling the whole board without four in a row ends the game in a draw.
+     */
+    @Test
+    void doMove_whenBoardFull_isDraw() {
+        String columns = "134254303640406502440652236355165022311116";
+        columns.chars().limit(columns.length() - 1).forEach(column -> play(column - '0'));
+        assertFalse(game.isGameOver());
+        assertEquals(1, game.getValidMoveCount());
+        play(6);
+        assertEquals(43, game.getTurnCount());
+        assertTrue(game.isGameOver());
+        assertNull(game.getWinner());
+        assertEquals(0, ((ConnectFourGame) game).getBoard().countEmpty());
+    }
+
+    @Override
+    @RepeatedTest(100)
+    @Timeout(5)
+    protected void undoMove_whenFullGameUndone_restoresEveryState() {
+        List<ConnectFourMove> moves = new ArrayList<>();
+        List<Game<ConnectFourPiece>> states = new ArrayList<>();
+        do {
+            states.add(game.deepCopy());
+            ConnectFourMove move = game.getActivePlayer().takeTurn(game);
+            moves.add(move);
+            game.doMove(move);
+        } while (!game.isGameOver());
+        states.add(game.deepCopy());
+
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            game.undoMove(moves.get(i));
+            Game<ConnectFourPiece> expected = states.get(i);
+            assertEquals(expected, game);
+            assertEquals(expected.getZobristKey(), game.getZobristKey());
+            assertSame(expected.getActivePlayer(), game.getActivePlayer());
+            assertEquals(expected.getValidPieces(), game.getValidPieces());
+            assertEquals(expected.isGameOver(), game.isGameOver());
+            assertEquals(expected.getBoardDisplay(), game.getBoardDisplay());
+
+            Game<ConnectFourPiece> redone = game.deepCopy();
+            redone.doMove(moves.get(i));
+            assertEquals(states.get(i + 1).getBoardDisplay(), redone.getBoardDisplay());
+            assertSame(states.get(i + 1).getWinner(), redone.getWinner());
+        }
+    }
+
+    @Override
+    @RepeatedTest(10)
+    @Timeout(5)
+    protected void fillValidMoves_whenRandomlyPlayed_matchesValidMoves() {
+        int[] moves = new int[ConnectFourBoard.WIDTH];
+        Game<ConnectFourPiece> packed = game.deepCopy();
+        while (true) {
+            List<ConnectFourMove> validMoves = game.getValidMoves();
+            assertEquals(validMoves.size(), game.getValidMoveCount());
+            assertEquals(validMoves.size(), game.fillValidMoves(moves));
+            for (int i = 0; i < validMoves.size(); i++) {
+                assertEquals(validMoves.get(i).getIndex(), Move.getIndex(moves[i]));
+                assertEquals(validMoves.get(i).getPiece().ordinal(), Move.getPiece(moves[i]));
+                assertTrue(game.isValidMove(moves[i]));
+            }
+            if (game.isGameOver()) {
+                break;
+            }
+            int choice = (int) (Math.random() * validMoves.size());
+            game.doMove(validMoves.get(choice));
+            packed.doMove(moves[choice]);
+            assertEquals(game, packed);
+        }
+        assertEquals(0, game.getValidMoveCount());
+    }
+
+    /**
+     * Tests that the winning columns match those found by trying every {@code Move}, throughout
+     * randomly played games.
+     */
+    @RepeatedTest(20)
+    @Timeout(5)
+    void getWinningColumns_whenRandomlyPlayed_matchesTrialPlay() {
+        ConnectFourGame connectFour = (ConnectFourGame) game;
+        while (!game.isGameOver()) {
+            int expected = 0;
+            for (ConnectFourMove move : connectFour.getValidMoves()) {
+                ConnectFourGame trial = connectFour.deepCopy();
+                trial.doMove(move);
+                if (trial.getWinner() != null) {
+                    expected |= 1 << move.getIndex();
+                }
+            }
+            assertEquals(expected, connectFour.getWinningColumns());
+            game.doMove(game.getActivePlayer().takeTurn(game));
+        }
+        assertEquals(0, connectFour.getWinningColumns());
+    }
+
+    /**
+     * Tests that the searching {@code Strategy}s, written against the generic {@code Game}
+     * interface, take an immediate win and block an immediate loss.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenSolver_winsAndBlocks() {
+        SolverStrategy<ConnectFourPiece> solver =
+                new SolverStrategy<>(null, new ArrayTranspositionTable(16), 500);
+        play(3, 0, 3, 0, 3);
+        ConnectFourMove block = solver.determineMove(game);
+        assertEquals(3, block.getIndex());
+        play(6);
+        ConnectFourMove win = solver.determineMove(game);
+        assertEquals(3, win.getIndex());
+    }
+
+    /**
+     * Tests that packing a {@code ConnectFourMove} and converting it back returns the very same
+     * shared instance, and that packed {@code Move}s outside the board or piece range are invalid.
+     */
+    @Test
+    void toMove_whenPacked_returnsSharedInstance() {
+        for (int column = 0; column < ConnectFourBoard.WIDTH; column++) {
+            for (ConnectFourPiece piece : ConnectFourPiece.values()) {
+                ConnectFourMove move = ConnectFourMove.of(piece, column);
+                assertSame(move, ConnectFourMove.of(piece, column));
+                assertSame(move, game.toMove(move.toPacked()));
+            }
+        }
+        assertFalse(game.isValidMove(Move.pack(ConnectFourBoard.WIDTH, RED.ordinal())));
+        assertFalse(game.isValidMove(Move.pack(0, ConnectFourPiece.values().length)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> ConnectFourMove.of(RED, ConnectFourBoard.WIDTH));
+    }
+
+    @Override
+    @Test
+    protected void getZobristKey_whenSameStateReachedDifferently_isEqual() {
+        ConnectFourGame other = new ConnectFourGame(player1, player2);
+        play(0, 1, 2, 3);
+        other.doMove(ConnectFourMove.of(RED, 2));
+        other.doMove(ConnectFourMove.of(YELLOW, 3));
+        other.doMove(ConnectFourMove.of(RED, 0));
+        other.doMove(ConnectFourMove.of(YELLOW, 1));
+        assertEquals(other, game);
+        assertEquals(other.getZobristKey(), game.getZobristKey());
+        assertEquals(other.hashCode(), game.hashCode());
+
+        other.undoMove(ConnectFourMove.of(YELLOW, 1));
+        other.doMove(ConnectFourMove.of(YELLOW, 4));
+        assertNotEquals(other, game);
+        assertNotEquals(other.getZobristKey(), game.getZobristKey());
+    }
+
+    @Override
+    @Test
+    protected void returnMoveIfValid_whenValidMove_returnsMove() {
+        assertNotNull(game.returnMoveIfValid(RED, 0));
+        assertNotNull(game.returnMoveIfValid(RED, ConnectFourBoard.WIDTH - 1));
+        play(0);
+        assertNotNull(game.returnMoveIfValid(YELLOW, 0));
+    }
+
+    @Override
+    @Test
+    protected void returnMoveIfValid_whenInvalidMove_returnsNull() {
+        assertNull(game.returnMoveIfValid(YELLOW, 0));
+        assertNull(game.returnMoveIfValid(ConnectFourPiece.EMPTY, 0));
+        assertNull(game.returnMoveIfValid(RED, -1));
+        assertNull(game.returnMoveIfValid(RED, ConnectFourBoard.WIDTH));
+
+        play(0, 0, 0, 0, 0, 0);
+        assertNull(game.returnMoveIfValid(RED, 0));
+        assertEquals(ConnectFourBoard.WIDTH - 1, game.getValidMoveCount());
+    }
+
+    /**
+     * Drops a disc of the active {@code Player} into each of the provided columns in turn.
+     * @param columns The columns to play
+     */
+    private void play(int... columns) {
+        for (int column : columns) {
+            ConnectFourPiece piece = ConnectFourPiece.forTurn(game.getTurnCount());
+            ConnectFourMove move = game.returnMoveIfValid(piece, column);
+            assertNotNull(move, "Column " + column + " cannot be played");
+            game.doMove(move);
+        }
+    }
+}
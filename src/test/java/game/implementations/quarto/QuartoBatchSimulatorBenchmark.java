@@ -0,0 +1,89 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Game;
+import game.interfaces.Player;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark class which compares the throughput of random Quarto playouts by
+ * {@code QuartoBatchSimulator}, with and without the Vector API, against playing
+ * {@code QuartoGame}s one at a time with {@code RandomStrategy} {@code Player}s. Every score is in
+ * games per microsecond.
+ *
+ * @see QuartoBatchSimulator
+ * @see RandomStrategy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class QuartoBatchSimulatorBenchmark {
+    private static final int BATCH_SIZE = 1024;
+    private static final long SEED = 12345L;
+
+    private final SplittableRandom random = new SplittableRandom(SEED);
+    private QuartoGame initial;
+    private QuartoBatchSimulator scalar;
+    private QuartoBatchSimulator vectorized;
+
+    /**
+     * Creates the initial {@code QuartoGame} and both simulators.
+     */
+    @Setup
+    public void setUp() {
+        RandomStrategy<QuartoPiece> strategy = new RandomStrategy<>();
+        Player<QuartoPiece> player1 = new GenericPlayer<>("p1", strategy);
+        Player<QuartoPiece> player2 = new GenericPlayer<>("p2", strategy);
+        initial = new QuartoGame(player1, player2);
+        scalar = new QuartoBatchSimulator(BATCH_SIZE, false, false);
+        vectorized = new QuartoBatchSimulator(BATCH_SIZE, false,
+                                              QuartoBatchSimulator.isVectorAvailable());
+    }
+
+    /**
+     * Plays out a batch of {@code QuartoGame}s one at a time, asking the {@code RandomStrategy} of
+     * the active {@code Player} for every {@code Move}.
+     * @return The number of finished games, so that the playouts cannot be optimized away
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int randomStrategyGames() {
+        int finished = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Game<QuartoPiece> game = initial.deepCopy();
+            while (!game.isGameOver()) {
+                game.doMove(game.getActivePlayer().takeTurn(game));
+            }
+            finished += game.getWinner() == null ? 0 : 1;
+        }
+        return finished;
+    }
+
+    /**
+     * Plays out a batch of games with the scalar QUARTO check.
+     * @return The winner of the first game, so that the playouts cannot be optimized away
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int scalarBatch() {
+        scalar.playOut(QuartoState.INITIAL, random);
+        return scalar.getWinner(0);
+    }
+
+    /**
+     * Plays out a batch of games with the vectorized QUARTO check.
+     * @return The winner of the first game, so that the playouts cannot be optimized away
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int vectorizedBatch() {
+        vectorized.playOut(QuartoState.INITIAL, random);
+        return vectorized.getWinner(0);
+    }
+}
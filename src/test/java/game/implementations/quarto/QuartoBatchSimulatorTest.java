@@ -0,0 +1,117 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Player;
+import java.util.List;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test class which tests correct functionality of {@code QuartoBatchSimulator}.
+ *
+ * @see QuartoBatchSimulator
+ */
+public final class QuartoBatchSimulatorTest {
+    private static final int SIZE = 203;
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+
+    /**
+     * Tests that replaying the recorded {@code Move}s of every game of the scalar simulator on a
+     * {@code QuartoGame} is valid and reaches the same winner.
+     */
+    @Test
+    void playOut_whenScalar_matchesQuartoGame() {
+        assertMatchesQuartoGame(new QuartoBatchSimulator(SIZE, true, false), QuartoState.INITIAL);
+    }
+
+    /**
+     * Tests that replaying the recorded {@code Move}s of every game of the vectorized simulator on
+     * a {@code QuartoGame} is valid and reaches the same winner.
+     */
+    @Test
+    void playOut_whenVectorized_matchesQuartoGame() {
+        assumeTrue(QuartoBatchSimulator.isVectorAvailable());
+        assertMatchesQuartoGame(new QuartoBatchSimulator(SIZE, true, true), QuartoState.INITIAL);
+    }
+
+    /**
+     * Tests that games played out from the middle of a game, including positions with a QUARTO
+     * on the board, replay correctly.
+     */
+    @Test
+    void playOut_whenStartedMidGame_matchesQuartoGame() {
+        QuartoBatchSimulator simulator = new QuartoBatchSimulator(SIZE, true);
+        for (QuartoState start : QuartoTablebaseGenerator.randomRoots(5, 9, 23)) {
+            assertMatchesQuartoGame(simulator, start);
+        }
+        QuartoState quarto = QuartoState.INITIAL;
+        quarto = quarto.play(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        quarto = quarto.play(QuartoMove.of(QuartoPiece.DARK_LARGE_ROUND_SOLID, 0));
+        quarto = quarto.play(QuartoMove.of(QuartoPiece.DARK_SMALL_SQUARE_SOLID, 1));
+        quarto = quarto.play(QuartoMove.of(QuartoPiece.DARK_LARGE_SQUARE_SOLID, 2));
+        quarto = quarto.play(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_HOLLOW, 3));
+        assertMatchesQuartoGame(simulator, quarto);
+        for (int game = 0; game < SIZE; game++) {
+            assertEquals(quarto.getActivePlayerIndex(), simulator.getWinner(game));
+        }
+    }
+
+    /**
+     * Tests that the scalar and the vectorized simulator play exactly the same games from the same
+     * random numbers.
+     */
+    @Test
+    void playOut_whenSameSeed_vectorizedMatchesScalar() {
+        assumeTrue(QuartoBatchSimulator.isVectorAvailable());
+        QuartoBatchSimulator scalar = new QuartoBatchSimulator(SIZE, false, false);
+        QuartoBatchSimulator vectorized = new QuartoBatchSimulator(SIZE, false, true);
+        scalar.playOut(QuartoState.INITIAL, new SplittableRandom(29));
+        vectorized.playOut(QuartoState.INITIAL, new SplittableRandom(29));
+        for (int game = 0; game < SIZE; game++) {
+            assertEquals(scalar.getWinner(game), vectorized.getWinner(game));
+        }
+    }
+
+    /**
+     * Tests that asking for the {@code Move}s of a simulator that does not record them, or for
+     * an empty batch, is rejected.
+     */
+    @Test
+    void getMoves_whenNotRecorded_throwsException() {
+        QuartoBatchSimulator simulator = new QuartoBatchSimulator(1, false);
+        simulator.playOut(QuartoState.INITIAL, new SplittableRandom());
+        assertThrows(IllegalStateException.class,
+                     () -> simulator.getMoves(0, new int[QuartoBatchSimulator.MAX_MOVES]));
+        assertThrows(IllegalArgumentException.class, () -> new QuartoBatchSimulator(0, false));
+    }
+
+    /**
+     * Plays out every game of the provided simulator and replays its {@code Move}s.
+     * @param simulator The simulator to check
+     * @param start The state to start from
+     */
+    private void assertMatchesQuartoGame(QuartoBatchSimulator simulator, QuartoState start) {
+        simulator.playOut(start, new SplittableRandom(31));
+        int[] moves = new int[QuartoBatchSimulator.MAX_MOVES];
+        List<Player<QuartoPiece>> players = List.of(player1, player2);
+        for (int game = 0; game < simulator.getSize(); game++) {
+            QuartoGame replay = new QuartoGame(player1, player2, start);
+            int count = simulator.getMoves(game, moves);
+            for (int i = 0; i < count; i++) {
+                assertFalse(replay.isGameOver());
+                assertTrue(replay.isValidMove(moves[i]));
+                replay.doMove(moves[i]);
+            }
+            assertTrue(replay.isGameOver());
+            int winner = simulator.getWinner(game);
+            assertSame(winner == QuartoBatchSimulator.DRAW ? null : players.get(winner),
+                       replay.getWinner());
+        }
+    }
+}
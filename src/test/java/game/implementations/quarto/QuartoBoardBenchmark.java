@@ -0,0 +1,140 @@
+package game.implementations.quarto;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark class which compares QUARTO detection through the precomputed line tables of
+ * {@code QuartoBoard} against the former approach of looping over the row, column and diagonals
+ * of an array of {@code QuartoPiece}s.
+ *
+ * @see QuartoBoard
+ * @see QuartoGame
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuartoBoardBenchmark {
+    private static final int POSITIONS = 1024;
+    private static final int BOARD_LENGTH = 4;
+    private static final long SEED = 12345L;
+
+    private final long[] attributes = new long[POSITIONS];
+    private final int[] occupied = new int[POSITIONS];
+    private final int[] indices = new int[POSITIONS];
+    private final QuartoPiece[][] fields = new QuartoPiece[POSITIONS][];
+
+    /**
+     * Generates random positions with between 4 and 16 {@code QuartoPiece}s, each paired with the
+     * index of the most recently placed {@code QuartoPiece}, in both representations.
+     */
+    @Setup
+    public void setUp() {
+        Random random = new Random(SEED);
+        QuartoPiece[] pieces = QuartoPiece.values();
+        for (int i = 0; i < POSITIONS; i++) {
+            QuartoBoard board = new QuartoBoard(BOARD_LENGTH);
+            fields[i] = new QuartoPiece[QuartoBoard.PLANE_SIZE];
+            Arrays.fill(fields[i], QuartoPiece.EMPTY);
+            int placed = 4 + random.nextInt(13);
+            for (int j = 0; j < placed; j++) {
+                int index;
+                do {
+                    index = random.nextInt(QuartoBoard.PLANE_SIZE);
+                } while (fields[i][index] != QuartoPiece.EMPTY);
+                QuartoPiece piece = pieces[random.nextInt(QuartoBoard.PIECE_COUNT)];
+                board.setField(index, piece);
+                fields[i][index] = piece;
+                indices[i] = index;
+            }
+            attributes[i] = board.getAttributes();
+            occupied[i] = board.getOccupied();
+        }
+    }
+
+    /**
+     * Checks every position using the precomputed line tables.
+     * @return The number of positions with a QUARTO
+     */
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public int lineTables() {
+        int count = 0;
+        for (int i = 0; i < POSITIONS; i++) {
+            if (QuartoBoard.isQuarto(attributes[i], occupied[i], indices[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks every position by looping over the row, column and diagonals.
+     * @return The number of positions with a QUARTO
+     */
+    @Benchmark
+    @OperationsPerInvocation(POSITIONS)
+    public int loops() {
+        int count = 0;
+        for (int i = 0; i < POSITIONS; i++) {
+            if (isQuartoByLoops(fields[i], indices[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Reference implementation of the former loop-based QUARTO detection, with the anti-diagonal
+     * condition corrected so that both approaches do the same work.
+     * @param fields The {@code QuartoPiece}s on the board
+     * @param index The index of the {@code QuartoPiece} to check
+     * @return {@code True}: a line through the index is a QUARTO <br>
+     *          {@code False}: no line through the index is a QUARTO
+     */
+    private static boolean isQuartoByLoops(QuartoPiece[] fields, int index) {
+        int pieceMask = fields[index].ordinal();
+        int quotient = index / BOARD_LENGTH;
+        int remainder = index - BOARD_LENGTH * quotient;
+        int start = quotient * BOARD_LENGTH;
+        if (isQuartoLine(fields, pieceMask, start, start + BOARD_LENGTH, 1) ||
+                isQuartoLine(fields, pieceMask, remainder, fields.length, BOARD_LENGTH)) {
+            return true;
+        }
+        if (quotient == remainder &&
+                isQuartoLine(fields, pieceMask, 0, fields.length, BOARD_LENGTH + 1)) {
+            return true;
+        }
+        return remainder == BOARD_LENGTH - 1 - quotient &&
+                isQuartoLine(fields, pieceMask, BOARD_LENGTH - 1, fields.length - 1,
+                             BOARD_LENGTH - 1);
+    }
+
+    /**
+     * Loops over one line in the same way as the former implementation did.
+     * @param fields The {@code QuartoPiece}s on the board
+     * @param pieceMask The ordinal of the {@code QuartoPiece} to check
+     * @param start The first index of the line
+     * @param end The index after the last index of the line
+     * @param step The distance between consecutive indices of the line
+     * @return {@code True}: the line is a QUARTO <br>
+     *          {@code False}: the line is not a QUARTO
+     */
+    private static boolean isQuartoLine(QuartoPiece[] fields, int pieceMask, int start, int end,
+                                        int step) {
+        int mask = 0;
+        for (int i = start; i < end; i += step) {
+            QuartoPiece piece = fields[i];
+            if (piece == QuartoPiece.EMPTY) {
+                return false;
+            }
+            mask |= pieceMask ^ piece.ordinal();
+        }
+        return (mask & 0b1111) != 0b1111;
+    }
+}
@@ -0,0 +1,137 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Player;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code QuartoCanonicalizer} and
+ * {@code QuartoSymmetry}.
+ *
+ * @see QuartoCanonicalizer
+ * @see QuartoSymmetry
+ * @see QuartoCanonicalKey
+ */
+public final class QuartoCanonicalizerTest {
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private final Random random = new Random();
+    private QuartoGame game;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpGame() {
+        game = new QuartoGame(player1, player2);
+    }
+
+    /**
+     * Tests that a randomly played position and its image under a random {@code QuartoSymmetry}
+     * have the same key, and that the returned {@code QuartoSymmetry} maps the position onto the
+     * position described by the key.
+     */
+    @RepeatedTest(100)
+    void canonicalize_whenSymmetricPositions_isEqual() {
+        List<QuartoMove> moves = new ArrayList<>();
+        int plies = 1 + random.nextInt(16);
+        while (moves.size() < plies && !game.isGameOver()) {
+            QuartoMove move = RANDOM_STRATEGY.determineMove(game);
+            moves.add(move);
+            game.doMove(move);
+        }
+        List<Integer> order = new ArrayList<>(List.of(0, 1, 2, 3));
+        Collections.shuffle(order, random);
+        QuartoSymmetry symmetry = QuartoSymmetry.of(random.nextInt(QuartoSymmetry.BOARD_SYMMETRIES),
+                                                    random.nextInt(16),
+                                                    order.stream().mapToInt(i -> i).toArray());
+        QuartoCanonicalKey key = QuartoCanonicalizer.canonicalize(game);
+        assertEquals(key, QuartoCanonicalizer.canonicalize(replay(moves, symmetry)));
+        assertEquals(QuartoCanonicalizer.canonicalHash(game),
+                     QuartoCanonicalizer.canonicalHash(replay(moves, symmetry)));
+
+        QuartoGame canonical = replay(moves, key.getSymmetry());
+        assertEquals(key.getHigh(), canonical.getAttributes());
+        assertEquals(key.getLow(), (long) canonical.getOccupied() << 8 | canonical.getNextPiece());
+        assertEquals(game, replay(moves.stream().map(symmetry::map)
+                                          .map(symmetry.inverse()::map).toList(),
+                                  QuartoSymmetry.IDENTITY));
+    }
+
+    /**
+     * Tests that positions which are not equivalent have different keys.
+     */
+    @Test
+    void canonicalize_whenDifferentPositions_isNotEqual() {
+        QuartoGame other = new QuartoGame(player1, player2);
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        other.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        assertEquals(QuartoCanonicalizer.canonicalize(game),
+                     QuartoCanonicalizer.canonicalize(other));
+
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        other.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 1));
+        assertNotEquals(QuartoCanonicalizer.canonicalize(game),
+                        QuartoCanonicalizer.canonicalize(other));
+
+        game.undoMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_LARGE_ROUND_SOLID, 15));
+        other.undoMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 1));
+        other.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 15));
+        assertNotEquals(QuartoCanonicalizer.canonicalize(game),
+                        QuartoCanonicalizer.canonicalize(other));
+        assertNotEquals(QuartoCanonicalizer.canonicalHash(game),
+                        QuartoCanonicalizer.canonicalHash(other));
+    }
+
+    /**
+     * Tests that all 256 {@code QuartoMove}s of the first turn, which only hand over a
+     * {@code QuartoPiece}, are equivalent.
+     */
+    @Test
+    void getDistinctMoves_whenInitialState_returnsOneMove() {
+        assertEquals(1, QuartoCanonicalizer.getDistinctMoves(game).size());
+    }
+
+    /**
+     * Tests that the first placement is reduced to two kinds of index, each combined with a
+     * {@code QuartoPiece} differing from the placed {@code QuartoPiece} in one to four
+     * attributes, or with calling QUARTO.
+     */
+    @Test
+    void getDistinctMoves_whenFirstPlacement_returnsTwoIndices() {
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        List<QuartoMove> moves = QuartoCanonicalizer.getDistinctMoves(game);
+        Set<Integer> indices = moves.stream().map(QuartoMove::getIndex)
+                .collect(Collectors.toSet());
+        assertEquals(2, indices.size());
+        assertEquals(2 * (4 + 1), moves.size());
+    }
+
+    /**
+     * Plays the provided {@code QuartoMove}s, mapped by the provided {@code QuartoSymmetry}, on a
+     * new {@code QuartoGame}.
+     * @param moves The {@code QuartoMove}s to play
+     * @param symmetry The {@code QuartoSymmetry} to map every {@code QuartoMove} with
+     * @return The resulting {@code QuartoGame}
+     */
+    private QuartoGame replay(List<QuartoMove> moves, QuartoSymmetry symmetry) {
+        QuartoGame replayed = new QuartoGame(player1, player2);
+        for (QuartoMove move : moves) {
+            replayed.doMove(symmetry.map(move));
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,142 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Move;
+import game.interfaces.Player;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code QuartoCodec}.
+ *
+ * @see QuartoCodec
+ * @see QuartoState
+ */
+public final class QuartoCodecTest {
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+
+    /**
+     * Tests that every position of a randomly played game survives encoding and decoding, both in
+     * binary and in text form.
+     */
+    @RepeatedTest(100)
+    @Timeout(5)
+    void decode_whenEncoded_returnsSameState() {
+        QuartoGame game = new QuartoGame(player1, player2);
+        while (true) {
+            QuartoState state = game.toState();
+            QuartoState decoded = QuartoCodec.decode(QuartoCodec.encodeHigh(state),
+                                                     QuartoCodec.encodeLow(state));
+            assertEquals(state, decoded);
+            assertEquals(QuartoCodec.encodeLow(state), QuartoCodec.encodeLow(decoded));
+            assertEquals(game, new QuartoGame(player1, player2, decoded));
+
+            String text = QuartoCodec.toText(state);
+            assertEquals(32, text.length());
+            assertTrue(text.chars().allMatch(c -> Character.digit(c, 16) >= 0));
+            assertEquals(state, QuartoCodec.fromText(text));
+            if (game.isGameOver()) {
+                break;
+            }
+            game.doMove(game.getActivePlayer().takeTurn(game));
+        }
+    }
+
+    /**
+     * Tests that encodings which do not describe a reachable position are rejected.
+     */
+    @Test
+    void decode_whenNotReachable_throwsException() {
+        QuartoState state = QuartoState.INITIAL
+                .play(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0))
+                .play(QuartoMove.of(QuartoPiece.LIGHT_LARGE_ROUND_SOLID, 5));
+        long high = QuartoCodec.encodeHigh(state);
+        long low = QuartoCodec.encodeLow(state);
+        assertEquals(state, QuartoCodec.decode(high, low));
+
+        assertThrows(IllegalArgumentException.class, () -> QuartoCodec.decode(high | 1L << 6, low));
+        assertThrows(IllegalArgumentException.class, () -> QuartoCodec.decode(high, low | 1 << 6));
+        assertThrows(IllegalArgumentException.class, () -> QuartoCodec.decode(high, low ^ 1 << 17));
+        assertThrows(IllegalArgumentException.class,
+                     () -> QuartoCodec.decode(high, low | 1L << 60));
+        assertThrows(IllegalArgumentException.class, () -> QuartoCodec.fromText("not a state"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> QuartoCodec.fromText("z".repeat(32)));
+    }
+
+    /**
+     * Tests that the turn of the first QUARTO is accepted exactly if a QUARTO is on the board, and
+     * only from the fifth turn onward.
+     */
+    @Test
+    void decode_whenQuartoTurnInconsistent_throwsException() {
+        QuartoState quarto = playRow(0, 2, 4, 6);
+        assertEquals(5, quarto.getQuartoTurn());
+        long high = QuartoCodec.encodeHigh(quarto);
+        long low = QuartoCodec.encodeLow(quarto);
+        assertEquals(quarto, QuartoCodec.decode(high, low));
+        assertThrows(IllegalArgumentException.class,
+                     () -> QuartoCodec.decode(high, withQuartoTurn(low, 0)));
+        for (int turn = 2; turn < 5; turn++) {
+            long tooEarly = withQuartoTurn(low, turn);
+            assertThrows(IllegalArgumentException.class, () -> QuartoCodec.decode(high, tooEarly));
+        }
+
+        QuartoState none = playRow(0, 2, 4, 15);
+        assertEquals(0, none.getQuartoTurn());
+        long noneHigh = QuartoCodec.encodeHigh(none);
+        long noneLow = QuartoCodec.encodeLow(none);
+        assertEquals(none, QuartoCodec.decode(noneHigh, noneLow));
+        assertThrows(IllegalArgumentException.class,
+                     () -> QuartoCodec.decode(noneHigh, withQuartoTurn(noneLow, 5)));
+    }
+
+    /**
+     * Tests that a called QUARTO is accepted once a {@code QuartoPiece} has been placed, and
+     * rejected on the second turn, before any {@code QuartoPiece} is on the board.
+     */
+    @Test
+    void decode_whenQuartoCalledBeforePlacing_throwsException() {
+        QuartoState called = QuartoState.INITIAL
+                .play(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0))
+                .play(QuartoMove.of(QuartoPiece.QUARTO, 5));
+        assertEquals(3, called.getTurnCount());
+        assertEquals(called, QuartoCodec.decode(QuartoCodec.encodeHigh(called),
+                                                QuartoCodec.encodeLow(called)));
+
+        long early = (long) QuartoGame.ALL_PIECES << 16 |
+                (long) QuartoPiece.QUARTO.ordinal() << 32 | 2L << 40;
+        assertThrows(IllegalArgumentException.class, () -> QuartoCodec.decode(0, early));
+    }
+
+    /**
+     * Plays the {@code QuartoPiece}s with the provided ordinals onto the first row, in order, and
+     * hands over the {@code QuartoPiece} with ordinal 8 afterwards.
+     * @param pieces The ordinals of the four {@code QuartoPiece}s to place
+     * @return The resulting {@code QuartoState}
+     */
+    private static QuartoState playRow(int... pieces) {
+        QuartoState state = QuartoState.INITIAL.play(Move.pack(0, pieces[0]));
+        for (int i = 0; i < pieces.length; i++) {
+            int handed = i + 1 < pieces.length ? pieces[i + 1] : 8;
+            state = state.play(Move.pack(i, handed));
+        }
+        return state;
+    }
+
+    /**
+     * Replaces the turn of the first QUARTO in the provided low {@code long} of an encoding.
+     * @param low The low {@code long} of the encoding
+     * @param quartoTurn The turn of the first QUARTO to encode
+     * @return The changed low {@code long}
+     */
+    private static long withQuartoTurn(long low, int quartoTurn) {
+        return low & ~(0xFFL << 48) | (long) quartoTurn << 48;
+    }
+}
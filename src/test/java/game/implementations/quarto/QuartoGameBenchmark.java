@@ -0,0 +1,151 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.NullStrategy;
+import game.interfaces.Game;
+import game.interfaces.Player;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark class which measures the throughput of the core {@code QuartoGame} operations that
+ * searching {@code Strategy}s rely on: copying a state, playing a {@code Move} on it, undoing that
+ * {@code Move}, checking whether it is terminal and generating the valid {@code Move}s.
+ *
+ * @see QuartoGame
+ * @see game.interfaces.Strategy
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuartoGameBenchmark {
+    private static final long SEED = 12345L;
+
+    private final List<List<QuartoMove>> games = new ArrayList<>();
+    private final Random random = new Random(SEED);
+    private final int[] buffer = new int[16 * 16];
+    private Game<QuartoPiece> initial;
+    private Game<QuartoPiece> game;
+    private int next = 0;
+
+    /**
+     * Records a fixed set of randomly played {@code QuartoGame}s so that every iteration replays
+     * exactly the same {@code Move}s. QUARTO is only called when no other piece remains, so that
+     * every recorded {@code QuartoGame} is played until the board is full.
+     */
+    @Setup
+    public void setUp() {
+        Player<QuartoPiece> player1 = new GenericPlayer<>("p1", new NullStrategy<QuartoPiece>());
+        Player<QuartoPiece> player2 = new GenericPlayer<>("p2", new NullStrategy<QuartoPiece>());
+        initial = new QuartoGame(player1, player2);
+        Random random = new Random(SEED);
+        for (int i = 0; i < 64; i++) {
+            Game<QuartoPiece> game = initial.deepCopy();
+            List<QuartoMove> moves = new ArrayList<>();
+            while (!game.isGameOver()) {
+                List<QuartoMove> validMoves = game.getValidMoves();
+                if (validMoves.size() > 2) {
+                    validMoves = validMoves.stream()
+                            .filter(move -> move.getPiece() != QuartoPiece.QUARTO).toList();
+                }
+                QuartoMove move = validMoves.get(random.nextInt(validMoves.size()));
+                moves.add(move);
+                game.doMove(move);
+            }
+            games.add(moves);
+        }
+        game = initial.deepCopy();
+    }
+
+    /**
+     * Replays one recorded {@code QuartoGame}, copying the state before every {@code Move} in the
+     * same way a tree search does.
+     * @return The final state, so that the replay cannot be optimized away
+     */
+    @Benchmark
+    public Game<QuartoPiece> copyPlayAndCheck() {
+        List<QuartoMove> moves = games.get(next++ & 63);
+        Game<QuartoPiece> game = initial;
+        for (QuartoMove move : moves) {
+            game = game.deepCopy();
+            game.doMove(move);
+            if (game.isGameOver()) {
+                break;
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Copies the state once for every {@code Move} of one recorded {@code QuartoGame} without
+     * playing any of them, which is the part of {@link #copyPlayAndCheck()} that allocates.
+     * @return The last copy, so that the copying cannot be optimized away
+     */
+    @Benchmark
+    public Game<QuartoPiece> copy() {
+        List<QuartoMove> moves = games.get(next++ & 63);
+        Game<QuartoPiece> game = initial;
+        for (int i = 0; i < moves.size(); i++) {
+            game = game.deepCopy();
+        }
+        return game;
+    }
+
+    /**
+     * Replays one recorded {@code QuartoGame} on a single instance and then undoes it again, in
+     * the same way a copy-free tree search walks down and back up.
+     * @return The restored state, so that the replay cannot be optimized away
+     */
+    @Benchmark
+    public Game<QuartoPiece> playAndUndo() {
+        List<QuartoMove> moves = games.get(next++ & 63);
+        int played = 0;
+        for (QuartoMove move : moves) {
+            game.doMove(move);
+            played++;
+            if (game.isGameOver()) {
+                break;
+            }
+        }
+        while (played > 0) {
+            game.undoMove(moves.get(--played));
+        }
+        return game;
+    }
+
+    /**
+     * Plays out a random {@code QuartoGame}, generating the valid {@code Move}s as a list of
+     * {@code QuartoMove} objects every turn.
+     * @return The final state, so that the playout cannot be optimized away
+     */
+    @Benchmark
+    public Game<QuartoPiece> listRollout() {
+        Game<QuartoPiece> game = initial.deepCopy();
+        while (!game.isGameOver()) {
+            List<QuartoMove> validMoves = game.getValidMoves();
+            game.doMove(validMoves.get(random.nextInt(validMoves.size())));
+        }
+        return game;
+    }
+
+    /**
+     * Plays out a random {@code QuartoGame}, generating the valid {@code Move}s in packed form
+     * into a reused buffer every turn.
+     * @return The final state, so that the playout cannot be optimized away
+     */
+    @Benchmark
+    public Game<QuartoPiece> packedRollout() {
+        Game<QuartoPiece> game = initial.deepCopy();
+        while (!game.isGameOver()) {
+            int count = game.fillValidMoves(buffer);
+            game.doMove(buffer[random.nextInt(count)]);
+        }
+        return game;
+    }
+}
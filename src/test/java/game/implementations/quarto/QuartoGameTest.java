@@ -2,7 +2,10 @@ package game.implementations.quarto;
 
 import game.abstracts.AbstractGameTest;
 import game.interfaces.Game;
+import game.interfaces.Move;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
@@ -65,7 +68,7 @@ public final class QuartoGameTest extends AbstractGameTest<QuartoPiece> {
     @Test
     protected void deepCopy_whenChanged_isNotEqual() {
         Game<QuartoPiece> copy = game.deepCopy();
-        copy.doMove(new QuartoMove(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        copy.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
         assertNotEquals(game, copy);
 
         Set<Game<QuartoPiece>> gameSet = new HashSet<>();
@@ -77,7 +80,7 @@ public final class QuartoGameTest extends AbstractGameTest<QuartoPiece> {
     @Override
     @Test
     protected void doMove_whenNonTerminatingMove_continuesGame() {
-        game.doMove(new QuartoMove(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
         assertEquals(2, game.getTurnCount());
         assertSame(player2, game.getActivePlayer());
         assertEquals(256, game.getValidMoves().size()); // 16 positions * (15 pieces + QUARTO)
@@ -88,8 +91,8 @@ public final class QuartoGameTest extends AbstractGameTest<QuartoPiece> {
     @Override
     @Test
     protected void doMove_whenTerminatingMove_endsGame() {
-        game.doMove(new QuartoMove(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
-        game.doMove(new QuartoMove(QuartoPiece.QUARTO, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 0));
         assertEquals(3, game.getTurnCount());
         assertSame(player1, game.getActivePlayer());
         assertTrue(game.getValidMoves().isEmpty());
@@ -97,6 +100,235 @@ public final class QuartoGameTest extends AbstractGameTest<QuartoPiece> {
         assertSame(player1, game.getWinner());
     }
 
+    @Override
+    @RepeatedTest(100)
+    @Timeout(5)
+    protected void undoMove_whenFullGameUndone_restoresEveryState() {
+        List<QuartoMove> moves = new ArrayList<>();
+        List<Game<QuartoPiece>> states = new ArrayList<>();
+        do {
+            states.add(game.deepCopy());
+            QuartoMove move = game.getActivePlayer().takeTurn(game);
+            moves.add(move);
+            game.doMove(move);
+        } while (!game.isGameOver());
+        states.add(game.deepCopy());
+
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            game.undoMove(moves.get(i));
+            Game<QuartoPiece> expected = states.get(i);
+            assertEquals(expected, game);
+            assertEquals(expected.getZobristKey(), game.getZobristKey());
+            assertSame(expected.getActivePlayer(), game.getActivePlayer());
+            assertEquals(expected.getValidPieces(), game.getValidPieces());
+            assertEquals(expected.isGameOver(), game.isGameOver());
+            assertEquals(expected.getBoardDisplay(), game.getBoardDisplay());
+
+            Game<QuartoPiece> redone = game.deepCopy();
+            redone.doMove(moves.get(i));
+            assertEquals(states.get(i + 1).getBoardDisplay(), redone.getBoardDisplay());
+            assertSame(states.get(i + 1).getWinner(), redone.getWinner());
+        }
+    }
+
+    @Override
+    @RepeatedTest(10)
+    @Timeout(5)
+    protected void fillValidMoves_whenRandomlyPlayed_matchesValidMoves() {
+        int[] moves = new int[game.getValidMoveCount()];
+        Game<QuartoPiece> packed = game.deepCopy();
+        while (true) {
+            List<QuartoMove> validMoves = game.getValidMoves();
+            assertEquals(validMoves.size(), game.getValidMoveCount());
+            assertEquals(validMoves.size(), game.fillValidMoves(moves));
+            for (int i = 0; i < validMoves.size(); i++) {
+                assertEquals(validMoves.get(i).getIndex(), Move.getIndex(moves[i]));
+                assertEquals(validMoves.get(i).getPiece().ordinal(), Move.getPiece(moves[i]));
+            }
+            if (game.isGameOver()) {
+                break;
+            }
+            int choice = (int) (Math.random() * validMoves.size());
+            game.doMove(validMoves.get(choice));
+            packed.doMove(moves[choice]);
+            assertEquals(game, packed);
+        }
+        assertEquals(0, game.getValidMoveCount());
+    }
+
+    /**
+     * Tests that packing a {@code QuartoMove} and converting it back returns the very same shared
+     * instance, and that packed {@code Move}s outside the board or piece range are invalid.
+     */
+    @Test
+    void toMove_whenPacked_returnsSharedInstance() {
+        for (int index = 0; index < 16; index++) {
+            for (QuartoPiece piece : QuartoPiece.values()) {
+                QuartoMove move = QuartoMove.of(piece, index);
+                assertSame(move, QuartoMove.of(piece, index));
+                assertSame(move, game.toMove(move.toPacked()));
+            }
+        }
+        assertTrue(game.isValidMove(Move.pack(15, QuartoPiece.DARK_LARGE_SQUARE_HOLLOW.ordinal())));
+        assertFalse(game.isValidMove(Move.pack(16, QuartoPiece.DARK_SMALL_ROUND_SOLID.ordinal())));
+        assertFalse(game.isValidMove(Move.pack(0, QuartoPiece.values().length)));
+        assertThrows(IllegalArgumentException.class,
+                     () -> QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 16));
+    }
+
+    @Override
+    @Test
+    protected void getZobristKey_whenSameStateReachedDifferently_isEqual() {
+        QuartoGame other = new QuartoGame(player1, player2);
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_LARGE_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_LARGE_ROUND_SOLID, 1));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_SQUARE_SOLID, 2));
+        other.doMove(QuartoMove.of(QuartoPiece.DARK_LARGE_ROUND_SOLID, 0));
+        other.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 1));
+        other.doMove(QuartoMove.of(QuartoPiece.LIGHT_LARGE_ROUND_SOLID, 0));
+        other.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_SQUARE_SOLID, 2));
+        assertEquals(other, game);
+        assertEquals(other.getZobristKey(), game.getZobristKey());
+        assertEquals(other.hashCode(), game.hashCode());
+
+        other.undoMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_SQUARE_SOLID, 2));
+        other.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_HOLLOW, 2));
+        assertNotEquals(other, game);
+        assertNotEquals(other.getZobristKey(), game.getZobristKey());
+    }
+
+    /**
+     * Tests that a line of four {@code QuartoPiece}s sharing an attribute on the anti-diagonal is
+     * recognized as a QUARTO when called.
+     */
+    @Test
+    void doMove_whenQuartoOnAntiDiagonal_callerWins() {
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_LARGE_ROUND_SOLID, 3));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_SQUARE_SOLID, 6));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_LARGE_SQUARE_SOLID, 9));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 12));
+        assertTrue(game.isGameOver());
+        assertSame(player1, game.getWinner());
+    }
+
+    /**
+     * Tests that the winning squares and poison {@code QuartoPiece}s kept up to date by the line
+     * counters match those found by trying every square and {@code QuartoPiece}, both while
+     * randomly playing a {@code QuartoGame} and while undoing it again.
+     */
+    @RepeatedTest(20)
+    @Timeout(5)
+    void getWinningSquares_whenRandomlyPlayedAndUndone_matchesTrialPlay() {
+        QuartoGame quartoGame = (QuartoGame) game;
+        List<QuartoMove> moves = new ArrayList<>();
+        while (true) {
+            assertThreatsMatchTrialPlay(quartoGame);
+            List<QuartoMove> validMoves = quartoGame.getValidMoves();
+            validMoves.removeIf(move -> move.getPiece() == QuartoPiece.QUARTO);
+            if (validMoves.isEmpty() || quartoGame.isGameOver()) {
+                break;
+            }
+            QuartoMove move = validMoves.get((int) (Math.random() * validMoves.size()));
+            moves.add(move);
+            quartoGame.doMove(move);
+        }
+        for (int i = moves.size() - 1; i >= 0; i--) {
+            quartoGame.undoMove(moves.get(i));
+            assertThreatsMatchTrialPlay(quartoGame);
+        }
+    }
+
+    /**
+     * Tests that a QUARTO threatened on the diagonal is found for exactly the
+     * {@code QuartoPiece}s that complete it, and that those are poison to hand over.
+     */
+    @Test
+    void getWinningSquares_whenDiagonalThreatened_returnsEmptyDiagonalSquare() {
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_LARGE_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_SQUARE_SOLID, 5));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_LARGE_SQUARE_HOLLOW, 10));
+        QuartoGame quartoGame = (QuartoGame) game;
+        assertEquals(1 << 15, quartoGame.getWinningSquares(QuartoPiece.DARK_LARGE_SQUARE_SOLID));
+        assertEquals(0, quartoGame.getWinningSquares(QuartoPiece.LIGHT_SMALL_ROUND_HOLLOW));
+        assertEquals(0, quartoGame.getWinningSquares(QuartoPiece.QUARTO));
+        assertEquals(0, quartoGame.getWinningSquares());
+        assertNotEquals(0, quartoGame.getPoisonPieces() &
+                1 << QuartoPiece.DARK_LARGE_SQUARE_SOLID.ordinal());
+        assertEquals(0, quartoGame.getPoisonPieces() &
+                1 << QuartoPiece.LIGHT_SMALL_ROUND_HOLLOW.ordinal());
+    }
+
+    /**
+     * Checks the winning squares of every {@code QuartoPiece}, and the poison {@code QuartoPiece}s
+     * before and after placing the next {@code QuartoPiece} at every empty index, against trial
+     * play.
+     * @param game The {@code QuartoGame} to check
+     */
+    private static void assertThreatsMatchTrialPlay(QuartoGame game) {
+        long attributes = game.getAttributes();
+        int occupied = game.getOccupied();
+        int remaining = game.toState().getRemainingPieces();
+        for (int piece = 0; piece < QuartoBoard.PIECE_COUNT; piece++) {
+            assertEquals(findWinningSquares(attributes, occupied, piece),
+                         game.getWinningSquares(QuartoPiece.values()[piece]));
+        }
+        assertEquals(findPoisonPieces(attributes, occupied, remaining), game.getPoisonPieces());
+
+        int next = game.getNextPiece();
+        if (next >= QuartoBoard.PIECE_COUNT) {
+            return;
+        }
+        assertEquals(findWinningSquares(attributes, occupied, next), game.getWinningSquares());
+        for (int empty = ~occupied & QuartoGame.ALL_PIECES; empty != 0; empty &= empty - 1) {
+            int index = Integer.numberOfTrailingZeros(empty);
+            assertEquals(findPoisonPieces(attributes | QuartoBoard.toPlanes(next) << index,
+                                          occupied | 1 << index, remaining),
+                         game.getPoisonPieces(index));
+        }
+    }
+
+    /**
+     * Finds the empty squares at which placing the provided {@code QuartoPiece} makes a QUARTO, by
+     * trying every one of them.
+     * @param attributes The attribute planes of the board
+     * @param occupied The mask of occupied indices of the board
+     * @param piece The ordinal of the {@code QuartoPiece} to place
+     * @return The mask of winning squares
+     */
+    private static int findWinningSquares(long attributes, int occupied, int piece) {
+        int squares = 0;
+        for (int empty = ~occupied & QuartoGame.ALL_PIECES; empty != 0; empty &= empty - 1) {
+            int index = Integer.numberOfTrailingZeros(empty);
+            if (QuartoBoard.isQuarto(attributes | QuartoBoard.toPlanes(piece) << index,
+                                     occupied | 1 << index, index)) {
+                squares |= 1 << index;
+            }
+        }
+        return squares;
+    }
+
+    /**
+     * Finds the provided {@code QuartoPiece}s that have a winning square, by trying every one of
+     * them at every empty square.
+     * @param attributes The attribute planes of the board
+     * @param occupied The mask of occupied indices of the board
+     * @param pieces The mask of {@code QuartoPiece}s to try
+     * @return The mask of poison {@code QuartoPiece}s
+     */
+    private static int findPoisonPieces(long attributes, int occupied, int pieces) {
+        int poison = 0;
+        for (int rest = pieces; rest != 0; rest &= rest - 1) {
+            int piece = Integer.numberOfTrailingZeros(rest);
+            if (findWinningSquares(attributes, occupied, piece) != 0) {
+                poison |= 1 << piece;
+            }
+        }
+        return poison;
+    }
+
     @Override
     @Test
     protected void returnMoveIfValid_whenValidMove_returnsMove() {
@@ -111,12 +343,12 @@ public final class QuartoGameTest extends AbstractGameTest<QuartoPiece> {
         assertNull(game.returnMoveIfValid(QuartoPiece.QUARTO, 0));
         assertNull(game.returnMoveIfValid(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, -1));
 
-        game.doMove(new QuartoMove(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
-        game.doMove(new QuartoMove(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.DARK_SMALL_ROUND_SOLID, 0));
         assertNull(game.returnMoveIfValid(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 1));
         assertNull(game.returnMoveIfValid(QuartoPiece.LIGHT_LARGE_ROUND_SOLID, 0));
 
-        game.doMove(new QuartoMove(QuartoPiece.QUARTO, 1));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 1));
         assertNull(game.returnMoveIfValid(QuartoPiece.DARK_LARGE_ROUND_SOLID, 2));
     }
 }
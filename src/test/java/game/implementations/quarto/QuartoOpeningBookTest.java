@@ -0,0 +1,152 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.MCTSStrategy;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code QuartoOpeningBook} and
+ * {@code QuartoOpeningBookBuilder}.
+ *
+ * @see QuartoOpeningBook
+ * @see QuartoOpeningBookBuilder
+ */
+public final class QuartoOpeningBookTest {
+    private static final int TURNS = 3;
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private final Random random = new Random();
+    private QuartoOpeningBookBuilder builder;
+    private QuartoOpeningBook book;
+    private QuartoGame game;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpBook() throws IOException {
+        game = new QuartoGame(player1, player2);
+        builder = new QuartoOpeningBookBuilder();
+        int searched = builder.addSearched(game, TURNS, RANDOM_STRATEGY);
+        assertEquals(searched, builder.size());
+        Path path = directory.resolve("quarto.book");
+        builder.write(path);
+        book = QuartoOpeningBook.open(path);
+        assertEquals(builder.size(), book.size());
+        assertEquals(TURNS, book.getLastTurn());
+    }
+
+    /**
+     * Tests that every position of the searched turns of a randomly played game is in the book,
+     * and that the stored {@code QuartoMove} is valid in it.
+     */
+    @RepeatedTest(20)
+    void getMove_whenSearchedTurn_returnsValidMove() {
+        while (game.getTurnCount() <= TURNS) {
+            QuartoMove move = book.getMove(game);
+            assertNotNull(move);
+            assertTrue(game.isValidMove(move.toPacked()));
+            game.doMove(randomMove(game));
+        }
+        assertNull(book.getMove(game));
+    }
+
+    /**
+     * Tests that a {@code QuartoMove} stored for a position is mapped onto every equivalent
+     * position, such that it leads to an equivalent position.
+     */
+    @RepeatedTest(20)
+    void getMove_whenSymmetricPosition_returnsEquivalentMove() throws IOException {
+        List<QuartoMove> moves = new ArrayList<>();
+        while (moves.size() < TURNS + 2) {
+            QuartoMove move = randomMove(game);
+            moves.add(move);
+            game.doMove(move);
+        }
+        QuartoMove stored = randomMove(game);
+        builder.put(game, stored);
+        Path path = directory.resolve("symmetric.book");
+        builder.write(path);
+        book = QuartoOpeningBook.open(path);
+
+        List<Integer> order = new ArrayList<>(List.of(0, 1, 2, 3));
+        Collections.shuffle(order, random);
+        QuartoSymmetry symmetry = QuartoSymmetry.of(random.nextInt(QuartoSymmetry.BOARD_SYMMETRIES),
+                                                    random.nextInt(16),
+                                                    order.stream().mapToInt(i -> i).toArray());
+        QuartoGame mapped = new QuartoGame(player1, player2);
+        for (QuartoMove move : moves) {
+            mapped.doMove(symmetry.map(move));
+        }
+        QuartoMove found = book.getMove(mapped);
+        assertNotNull(found);
+        game.doMove(stored);
+        mapped.doMove(found);
+        assertEquals(QuartoCanonicalizer.canonicalize(game),
+                     QuartoCanonicalizer.canonicalize(mapped));
+    }
+
+    /**
+     * Tests that an {@code MCTSStrategy} with a book plays the book {@code QuartoMove} without
+     * searching.
+     */
+    @Test
+    @Timeout(1)
+    void determineMove_whenInBook_returnsBookMove() {
+        MCTSStrategy<QuartoPiece> strategy = new MCTSStrategy<>(book);
+        QuartoMove move = strategy.determineMove(game);
+        assertEquals(book.getMove(game), move);
+    }
+
+    /**
+     * Tests that {@code QuartoMove}s which are not valid in the position cannot be stored.
+     */
+    @Test
+    void put_whenInvalidMove_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> builder.put(game, QuartoMove.of(QuartoPiece.QUARTO, 0)));
+    }
+
+    /**
+     * Tests that files which are not book files are rejected, including tablebase files.
+     */
+    @Test
+    void open_whenNotBook_throwsException() throws IOException {
+        Path path = Files.write(directory.resolve("other.book"), new byte[40]);
+        assertThrows(IOException.class, () -> QuartoOpeningBook.open(path));
+        Path tablebase = directory.resolve("quarto.tb");
+        QuartoTablebaseGenerator.generate(List.of(), 0, tablebase, null);
+        assertThrows(IOException.class, () -> QuartoOpeningBook.open(tablebase));
+    }
+
+    /**
+     * Returns a random valid {@code QuartoMove} of the provided {@code QuartoGame} which does not
+     * call QUARTO, so that the game goes on.
+     * @param game The {@code QuartoGame} to choose a {@code QuartoMove} in
+     * @return The chosen {@code QuartoMove}
+     */
+    private QuartoMove randomMove(QuartoGame game) {
+        List<QuartoMove> moves = game.getValidMoves();
+        moves.removeIf(move -> move.getPiece() == QuartoPiece.QUARTO);
+        return moves.get(random.nextInt(moves.size()));
+    }
+}
@@ -0,0 +1,98 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Player;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code QuartoState}.
+ *
+ * @see QuartoState
+ * @see QuartoGame
+ */
+public final class QuartoStateTest {
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private QuartoGame game;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpGame() {
+        game = new QuartoGame(player1, player2);
+    }
+
+    /**
+     * Tests that a {@code QuartoState} played alongside a {@code QuartoGame} describes the same
+     * position after every turn, and that both can be converted into each other.
+     */
+    @RepeatedTest(100)
+    @Timeout(5)
+    void play_whenRandomlyPlayed_matchesQuartoGame() {
+        QuartoState state = QuartoState.INITIAL;
+        int[] moves = new int[state.getValidMoveCount()];
+        int[] expectedMoves = new int[moves.length];
+        while (true) {
+            assertEquals(game.toState(), state);
+            assertEquals(game, new QuartoGame(player1, player2, state));
+            assertEquals(game.getZobristKey(),
+                         new QuartoGame(player1, player2, state).getZobristKey());
+            assertEquals(game.getBoardDisplay(), state.getBoard().toString());
+            assertEquals(game.getTurnCount(), state.getTurnCount());
+            assertEquals(game.isGameOver(), state.isGameOver());
+            assertEquals(game.getValidPieces(), state.getValidPieces());
+            assertEquals(game.getValidMoveCount(), state.getValidMoveCount());
+            assertArrayEquals(expectedMoves, moves);
+            if (game.isGameOver()) {
+                break;
+            }
+            assertSame(game.getActivePlayer(),
+                       state.getActivePlayerIndex() == 0 ? player1 : player2);
+
+            QuartoMove move = game.getActivePlayer().takeTurn(game);
+            assertTrue(state.isValidMove(move.toPacked()));
+            game.doMove(move);
+            state = state.play(move);
+            game.fillValidMoves(expectedMoves);
+            state.fillValidMoves(moves);
+        }
+        Player<QuartoPiece> winner = game.getWinner();
+        assertEquals(winner == null ? -1 : winner == player1 ? 0 : 1, state.getWinnerIndex());
+    }
+
+    /**
+     * Tests that playing a {@code Move} on a {@code QuartoState} leaves it unchanged, so that the
+     * full history of a game stays available.
+     */
+    @Test
+    @Timeout(5)
+    void play_whenPlayed_leavesPredecessorUnchanged() {
+        List<QuartoState> history = new ArrayList<>();
+        List<String> displays = new ArrayList<>();
+        QuartoState state = QuartoState.INITIAL;
+        while (!state.isGameOver()) {
+            history.add(state);
+            displays.add(state.getBoard().toString() + state.getNextPiece());
+            QuartoMove move = game.getActivePlayer().takeTurn(game);
+            game.doMove(move);
+            state = state.play(move);
+        }
+        for (int i = 0; i < history.size(); i++) {
+            QuartoState previous = history.get(i);
+            assertEquals(i + 1, previous.getTurnCount());
+            assertEquals(displays.get(i),
+                         previous.getBoard().toString() + previous.getNextPiece());
+        }
+        assertEquals(QuartoState.INITIAL, history.getFirst());
+    }
+}
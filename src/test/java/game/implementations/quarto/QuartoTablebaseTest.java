@@ -0,0 +1,150 @@
+package game.implementations.quarto;
+
+import game.implementations.GenericPlayer;
+import game.implementations.strategy.RandomStrategy;
+import game.interfaces.Player;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code QuartoTablebase} and
+ * {@code QuartoTablebaseGenerator}.
+ *
+ * @see QuartoTablebase
+ * @see QuartoTablebaseGenerator
+ */
+public final class QuartoTablebaseTest {
+    private static final int MAX_EMPTY = 5;
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private List<QuartoState> roots;
+    private QuartoTablebase tablebase;
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setUpTablebase() throws IOException {
+        roots = QuartoTablebaseGenerator.randomRoots(20, MAX_EMPTY, 42);
+        Path path = directory.resolve("quarto.tb");
+        int size = QuartoTablebaseGenerator.generate(roots, MAX_EMPTY, path,
+                                                     ForkJoinPool.commonPool());
+        tablebase = QuartoTablebase.open(path);
+        assertEquals(size, tablebase.size());
+        assertEquals(MAX_EMPTY, tablebase.getMaxEmpty());
+    }
+
+    /**
+     * Tests that the scores of the roots and every position directly after them match the scores
+     * found by a plain search without symmetry or caching.
+     */
+    @Test
+    @Timeout(60)
+    void probe_whenSolved_matchesBruteForce() {
+        for (QuartoState root : roots) {
+            assertEquals(bruteForce(root), tablebase.probe(toGame(root)));
+            int[] moves = new int[root.getValidMoveCount()];
+            int count = root.fillValidMoves(moves);
+            for (int i = 0; i < count; i++) {
+                QuartoState child = root.play(moves[i]);
+                assertEquals(bruteForce(child), tablebase.probe(toGame(child)));
+            }
+        }
+    }
+
+    /**
+     * Tests that the best move of every root achieves the score of the root.
+     */
+    @Test
+    void getBestMove_whenSolved_achievesScore() {
+        for (QuartoState root : roots) {
+            QuartoGame game = toGame(root);
+            QuartoMove move = tablebase.getBestMove(game);
+            if (root.isGameOver()) {
+                assertNull(move);
+                continue;
+            }
+            assertNotNull(move);
+            assertTrue(game.isValidMove(move.toPacked()));
+            assertEquals(tablebase.probe(game), QuartoTablebase.toParentScore(
+                    tablebase.probe(toGame(root.play(move)))));
+        }
+    }
+
+    /**
+     * Tests that positions with more empty indices than were solved are not found.
+     */
+    @Test
+    void probe_whenTooManyEmpty_returnsUnknown() {
+        for (QuartoState state : QuartoTablebaseGenerator.randomRoots(20, MAX_EMPTY + 1, 7)) {
+            QuartoGame game = toGame(state);
+            if (QuartoTablebase.getTrivialScore(game) == QuartoTablebase.UNKNOWN) {
+                assertEquals(QuartoTablebase.UNKNOWN, tablebase.probe(game));
+            }
+        }
+        assertNull(tablebase.getBestMove(new QuartoGame(player1, player2)));
+    }
+
+    /**
+     * Tests that roots with more empty indices than are to be recorded are rejected.
+     */
+    @Test
+    void generate_whenRootTooEarly_throwsException() {
+        List<QuartoState> early = List.of(QuartoState.INITIAL);
+        assertThrows(IllegalArgumentException.class, () -> QuartoTablebaseGenerator.generate(
+                early, MAX_EMPTY, directory.resolve("early.tb"), null));
+    }
+
+    /**
+     * Tests that files which are not tablebase files are rejected.
+     */
+    @Test
+    void open_whenNotTablebase_throwsException() throws IOException {
+        Path path = Files.write(directory.resolve("other.tb"), new byte[40]);
+        assertThrows(IOException.class, () -> QuartoTablebase.open(path));
+    }
+
+    /**
+     * Returns a {@code QuartoGame} in the provided {@code QuartoState}.
+     * @param state The {@code QuartoState} to continue from
+     * @return The {@code QuartoGame} in the provided {@code QuartoState}
+     */
+    private QuartoGame toGame(QuartoState state) {
+        return new QuartoGame(player1, player2, state);
+    }
+
+    /**
+     * Returns the score of the provided {@code QuartoState} for its active {@code Player}, found
+     * by searching every line of play.
+     * @param state The {@code QuartoState} to score
+     * @return The score, as described by {@link QuartoTablebase}
+     */
+    private static int bruteForce(QuartoState state) {
+        if (state.isGameOver()) {
+            int winner = state.getWinnerIndex();
+            if (winner < 0) {
+                return QuartoTablebase.DRAW;
+            }
+            return winner == state.getActivePlayerIndex() ? QuartoTablebase.WIN :
+                    -QuartoTablebase.WIN;
+        }
+        int[] moves = new int[state.getValidMoveCount()];
+        int count = state.fillValidMoves(moves);
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            int score = -bruteForce(state.play(moves[i]));
+            best = Math.max(best, score - Integer.signum(score));
+        }
+        return best;
+    }
+}
@@ -0,0 +1,142 @@
+package game.implementations.strategy;
+
+import game.implementations.GenericPlayer;
+import game.implementations.connectfour.ConnectFourGame;
+import game.implementations.connectfour.ConnectFourMove;
+import game.implementations.connectfour.ConnectFourPiece;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoPiece;
+import game.interfaces.Player;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark class which measures how {@code MCTSStrategy} scales with the number of threads,
+ * both when they share a single tree and when each searches a tree of its own, the baseline
+ * without any synchronization. {@code playouts} reports the playouts per second of a search of
+ * the empty Quarto board, and {@code strength} plays games of Connect Four between a search on
+ * the measured number of threads and a search on a single thread, at the same time per
+ * {@code Move} and with alternating colours, and reports the wins, draws and losses of the
+ * former.
+ *
+ * @see MCTSStrategy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class MCTSStrategyBenchmark {
+    private static final long SEARCH_MILLIS = 100;
+    private static final long GAME_MILLIS = 20;
+
+    @Param({"1", "2", "4", "8", "16", "32"})
+    private int threads;
+
+    @Param({"TREE", "ROOT"})
+    private MCTSStrategy.Parallelism parallelism;
+
+    private MCTSStrategy<QuartoPiece> quartoStrategy;
+    private QuartoGame quartoGame;
+    private MCTSStrategy<ConnectFourPiece> parallel;
+    private MCTSStrategy<ConnectFourPiece> single;
+    private Player<ConnectFourPiece> parallelPlayer;
+    private Player<ConnectFourPiece> singlePlayer;
+    private boolean parallelFirst = false;
+
+    /**
+     * Counters of the playouts of the searches run by the {@code playouts} benchmark, reported
+     * per second.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class PlayoutCounters {
+        public long playouts;
+
+        /**
+         * Resets the counter before every iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            playouts = 0;
+        }
+    }
+
+    /**
+     * Counters of the results of the {@code strength} benchmark, from the point of view of the
+     * search on the measured number of threads.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ResultCounters {
+        public int wins;
+        public int draws;
+        public int losses;
+
+        /**
+         * Resets the counters before every iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            wins = 0;
+            draws = 0;
+            losses = 0;
+        }
+    }
+
+    /**
+     * Creates the searches on the measured number of threads and on a single thread, and the
+     * {@code Player}s they play for.
+     */
+    @Setup
+    public void setUp() {
+        quartoStrategy = new MCTSStrategy<>(null, threads, SEARCH_MILLIS, parallelism);
+        quartoGame = new QuartoGame(new GenericPlayer<>("p1", new NullStrategy<QuartoPiece>()),
+                                    new GenericPlayer<>("p2", new NullStrategy<QuartoPiece>()));
+        parallel = new MCTSStrategy<>(null, threads, GAME_MILLIS, parallelism);
+        single = new MCTSStrategy<>(null, 1, GAME_MILLIS);
+        parallelPlayer = new GenericPlayer<>("parallel", parallel);
+        singlePlayer = new GenericPlayer<>("single", single);
+    }
+
+    /**
+     * Searches the empty Quarto board once and counts the playouts of all threads.
+     * @param counters The counters to add the playouts to
+     * @return The chosen {@code Move}, so that the search cannot be optimized away
+     */
+    @Benchmark
+    public Object playouts(PlayoutCounters counters) {
+        Object move = quartoStrategy.determineMove(quartoGame);
+        counters.playouts += quartoStrategy.getPlayoutCount();
+        return move;
+    }
+
+    /**
+     * Plays a single game of Connect Four between the search on the measured number of threads
+     * and the search on a single thread, swapping colours every game.
+     * @param counters The counters to add the result to
+     * @return The final state, so that the game cannot be optimized away
+     */
+    @Benchmark
+    public ConnectFourGame strength(ResultCounters counters) {
+        parallelFirst = !parallelFirst;
+        ConnectFourGame game = parallelFirst ? new ConnectFourGame(parallelPlayer, singlePlayer)
+                                             : new ConnectFourGame(singlePlayer, parallelPlayer);
+        while (!game.isGameOver()) {
+            MCTSStrategy<ConnectFourPiece> strategy =
+                    game.getActivePlayer() == parallelPlayer ? parallel : single;
+            ConnectFourMove move = strategy.determineMove(game);
+            game.doMove(move);
+        }
+        Player<ConnectFourPiece> winner = game.getWinner();
+        if (winner == null) {
+            counters.draws++;
+        } else if (winner == parallelPlayer) {
+            counters.wins++;
+        } else {
+            counters.losses++;
+        }
+        return game;
+    }
+}
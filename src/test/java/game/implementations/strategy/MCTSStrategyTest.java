@@ -0,0 +1,238 @@
+package game.implementations.strategy;
+
+import game.implementations.GenericPlayer;
+import game.implementations.connectfour.ConnectFourGame;
+import game.implementations.connectfour.ConnectFourMove;
+import game.implementations.connectfour.ConnectFourPiece;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.interfaces.Player;
+import game.interfaces.Strategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code MCTSStrategy}, both on a single thread
+ * and on multiple threads sharing a tree or searching trees of their own.
+ *
+ * @see MCTSStrategy
+ */
+public final class MCTSStrategyTest {
+    private static final int THREADS = 4;
+    private static final long TIMEOUT = 300;
+    private final Player<ConnectFourPiece> player1 =
+            new GenericPlayer<>("p1", new NullStrategy<ConnectFourPiece>());
+    private final Player<ConnectFourPiece> player2 =
+            new GenericPlayer<>("p2", new NullStrategy<ConnectFourPiece>());
+
+    /**
+     * Tests that a search on less than one thread is rejected.
+     */
+    @Test
+    void constructor_whenNoThreads_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new MCTSStrategy<>(null, 0, TIMEOUT));
+    }
+
+    /**
+     * Tests that a search on multiple threads returns a valid {@code Move} and counts the playouts
+     * of every thread.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenMultipleThreads_returnsValidMove() {
+        Player<QuartoPiece> quarto1 = new GenericPlayer<>("p1", new NullStrategy<QuartoPiece>());
+        Player<QuartoPiece> quarto2 = new GenericPlayer<>("p2", new NullStrategy<QuartoPiece>());
+        QuartoGame game = new QuartoGame(quarto1, quarto2);
+        MCTSStrategy<QuartoPiece> strategy = new MCTSStrategy<>(null, THREADS, TIMEOUT);
+        QuartoMove move = strategy.determineMove(game);
+        assertTrue(game.isValidMove(move.toPacked()));
+        assertTrue(strategy.getPlayoutCount() >= THREADS);
+        assertEquals(THREADS, strategy.getThreadCount());
+    }
+
+    /**
+     * Tests that a search on multiple threads with independent trees returns a valid {@code Move}
+     * and counts the playouts of every tree.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenRootParallel_returnsValidMove() {
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        MCTSStrategy<ConnectFourPiece> strategy =
+                new MCTSStrategy<>(null, THREADS, TIMEOUT, MCTSStrategy.Parallelism.ROOT);
+        ConnectFourMove move = strategy.determineMove(game);
+        assertTrue(game.isValidMove(move.toPacked()));
+        assertTrue(strategy.getPlayoutCount() >= THREADS);
+        assertEquals(MCTSStrategy.Parallelism.ROOT, strategy.getParallelism());
+    }
+
+    /**
+     * Tests that searches on one and on multiple threads, with a shared tree and with independent
+     * trees, all block an immediate win of the opponent in Connect Four.
+     */
+    @Test
+    @Timeout(20)
+    void determineMove_whenOpponentThreatens_blocks() {
+        for (MCTSStrategy.Parallelism parallelism : MCTSStrategy.Parallelism.values()) {
+            for (int threads : new int[] {1, THREADS}) {
+                ConnectFourGame game = new ConnectFourGame(player1, player2);
+                play(game, 3, 0, 3, 0, 3);
+                ConnectFourMove move =
+                        new MCTSStrategy<ConnectFourPiece>(null, threads, TIMEOUT, parallelism)
+                                .determineMove(game);
+                assertEquals(3, move.getIndex());
+            }
+        }
+    }
+
+    /**
+     * Tests that a search after the own {@code Move} and the reply of the opponent continues on
+     * the subtree of the previous search, for a shared tree and for independent trees alike.
+     */
+    @Test
+    @Timeout(20)
+    void determineMove_whenOpponentReplied_reusesSubtree() {
+        for (MCTSStrategy.Parallelism parallelism : MCTSStrategy.Parallelism.values()) {
+            MCTSStrategy<ConnectFourPiece> strategy =
+                    new MCTSStrategy<>(null, THREADS, TIMEOUT, parallelism);
+            ConnectFourGame game = new ConnectFourGame(player1, player2);
+            ConnectFourMove move = strategy.determineMove(game);
+            assertEquals(0, strategy.getReusedVisitCount());
+            game.doMove(move);
+            play(game, 3);
+            move = strategy.determineMove(game);
+            assertTrue(strategy.getReusedVisitCount() > 0);
+            assertTrue(game.isValidMove(move.toPacked()));
+        }
+    }
+
+    /**
+     * Tests that a search of a position that does not follow from the previous search starts
+     * from scratch.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenUnrelatedPosition_startsFromScratch() {
+        MCTSStrategy<ConnectFourPiece> strategy = new MCTSStrategy<>(null, 1, TIMEOUT);
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        strategy.determineMove(game);
+        play(game, 0, 6, 0);
+        strategy.determineMove(game);
+        assertEquals(0, strategy.getReusedVisitCount());
+    }
+
+    /**
+     * Tests that budgets of iterations and of {@code Node}s are never exceeded, summed over all
+     * threads, and that non-positive budgets are rejected.
+     */
+    @Test
+    @Timeout(20)
+    void determineMove_whenCountedBudget_staysWithinBudget() {
+        for (MCTSStrategy.Parallelism parallelism : MCTSStrategy.Parallelism.values()) {
+            MCTSStrategy<ConnectFourPiece> iterations = new MCTSStrategy<>(
+                    null, THREADS, SearchBudget.ofIterations(500), parallelism);
+            ConnectFourGame game = new ConnectFourGame(player1, player2);
+            assertTrue(game.isValidMove(iterations.determineMove(game).toPacked()));
+            assertTrue(iterations.getPlayoutCount() <= 500);
+
+            MCTSStrategy<ConnectFourPiece> nodes = new MCTSStrategy<>(
+                    null, THREADS, SearchBudget.ofNodes(300), parallelism);
+            assertTrue(game.isValidMove(nodes.determineMove(game).toPacked()));
+            assertTrue(nodes.getNodeCount() <= 300);
+        }
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofIterations(0));
+        assertThrows(IllegalArgumentException.class, () -> SearchBudget.ofMillis(-1));
+    }
+
+    /**
+     * Tests that a search returns before its budget is spent once the blocking {@code Move} can
+     * no longer be overtaken, and that an immediate win is played without searching at all.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenDecided_returnsEarly() {
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        play(game, 3, 0, 3, 0, 3);
+        MCTSStrategy<ConnectFourPiece> strategy = new MCTSStrategy<>(
+                null, 1, SearchBudget.ofIterations(50_000), MCTSStrategy.Parallelism.TREE);
+        assertEquals(3, strategy.determineMove(game).getIndex());
+        assertTrue(strategy.hasConverged());
+        assertTrue(strategy.getPlayoutCount() < 50_000);
+
+        play(game, 0);
+        strategy = new MCTSStrategy<>(null, THREADS, SearchBudget.ofMillis(60_000),
+                                      MCTSStrategy.Parallelism.TREE);
+        assertEquals(3, strategy.determineMove(game).getIndex());
+        assertTrue(strategy.hasConverged());
+        assertEquals(0, strategy.getPlayoutCount());
+    }
+
+    /**
+     * Tests that an interrupted search stops all of its threads and returns a valid {@code Move}
+     * right away, leaving the calling thread interrupted.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenInterrupted_stopsAllThreads() {
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        MCTSStrategy<ConnectFourPiece> strategy = new MCTSStrategy<>(
+                null, THREADS, SearchBudget.ofMillis(60_000), MCTSStrategy.Parallelism.TREE);
+        int threadCount = Thread.activeCount();
+        Thread.currentThread().interrupt();
+        ConnectFourMove move = strategy.determineMove(game);
+        assertTrue(Thread.interrupted());
+        assertTrue(game.isValidMove(move.toPacked()));
+        assertEquals(threadCount, Thread.activeCount());
+    }
+
+    /**
+     * Tests that a search which is cancelled through {@code Strategy} from another thread stops
+     * long before its time is up, for a shared tree and for independent trees, and still returns
+     * a valid {@code Move}.
+     * @throws InterruptedException Thrown if the test is interrupted while joining the canceller
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenCancelled_returnsValidMove() throws InterruptedException {
+        for (MCTSStrategy.Parallelism parallelism : MCTSStrategy.Parallelism.values()) {
+            ConnectFourGame game = new ConnectFourGame(player1, player2);
+            Strategy<ConnectFourPiece> strategy = new MCTSStrategy<>(
+                    null, THREADS, SearchBudget.ofMillis(60_000), parallelism);
+            Thread canceller = Thread.ofPlatform().start(() -> {
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException _) {
+                    return;
+                }
+                strategy.cancel();
+            });
+            ConnectFourMove move = strategy.determineMove(game);
+            assertTrue(game.isValidMove(move.toPacked()));
+            canceller.join();
+        }
+    }
+
+    /**
+     * Tests that a search on multiple threads returns {@code null} once the game is over.
+     */
+    @Test
+    void determineMove_whenGameOver_returnsNull() {
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        play(game, 3, 0, 3, 0, 3, 0, 3);
+        assertNull(new MCTSStrategy<ConnectFourPiece>(null, THREADS, TIMEOUT).determineMove(game));
+    }
+
+    /**
+     * Drops a disc of the active colour into each of the provided columns in turn.
+     * @param game The {@code ConnectFourGame} to play on
+     * @param columns The columns to drop the discs into
+     */
+    private static void play(ConnectFourGame game, int... columns) {
+        for (int column : columns) {
+            game.doMove(ConnectFourMove.of(game.getActivePiece(), column));
+        }
+    }
+}
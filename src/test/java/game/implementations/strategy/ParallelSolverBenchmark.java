@@ -0,0 +1,88 @@
+package game.implementations.strategy;
+
+import game.implementations.GenericPlayer;
+import game.implementations.OffHeapTranspositionTable;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.quarto.QuartoState;
+import game.implementations.quarto.QuartoTablebaseGenerator;
+import game.interfaces.Player;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmark class which measures how the time to solve a fixed set of mid-game Quarto positions
+ * with {@code ParallelSolverStrategy} scales with the number of threads. Dividing the time of a
+ * single thread by the time of each other thread count gives the speedup curve.
+ *
+ * @see ParallelSolverStrategy
+ * @see SolverStrategy
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParallelSolverBenchmark {
+    private static final int EMPTY_SQUARES = 9;
+    private static final int POSITIONS = 8;
+    private static final long SEED = 12345L;
+    private static final long TABLE_BYTES = 64L << 20;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int threads;
+
+    private ForkJoinPool pool;
+    private OffHeapTranspositionTable table;
+    private ParallelSolverStrategy<QuartoPiece> solver;
+    private List<QuartoGame> games;
+
+    /**
+     * Creates a {@code ForkJoinPool} of the measured number of threads and the positions to
+     * solve.
+     */
+    @Setup
+    public void setUp() {
+        pool = new ForkJoinPool(threads);
+        table = new OffHeapTranspositionTable(TABLE_BYTES);
+        solver = new ParallelSolverStrategy<>(null, table, pool, 5000);
+        Player<QuartoPiece> player1 = new GenericPlayer<>("p1", new NullStrategy<QuartoPiece>());
+        Player<QuartoPiece> player2 = new GenericPlayer<>("p2", new NullStrategy<QuartoPiece>());
+        List<QuartoState> roots = QuartoTablebaseGenerator.randomRoots(POSITIONS, EMPTY_SQUARES,
+                                                                       SEED);
+        games = roots.stream().map(root -> new QuartoGame(player1, player2, root)).toList();
+    }
+
+    /**
+     * Empties the transposition table, so that every invocation solves from scratch.
+     */
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        table.clear();
+    }
+
+    /**
+     * Releases the threads and the memory of the transposition table.
+     */
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+        table.close();
+    }
+
+    /**
+     * Solves all positions exactly.
+     * @return The sum of the scores, so that the search cannot be optimized away
+     */
+    @Benchmark
+    public int solve() {
+        int sum = 0;
+        for (QuartoGame game : games) {
+            sum += solver.solve(game);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,159 @@
+package game.implementations.strategy;
+
+import game.implementations.ArrayTranspositionTable;
+import game.implementations.GenericPlayer;
+import game.implementations.OffHeapTranspositionTable;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.quarto.QuartoState;
+import game.implementations.quarto.QuartoTablebaseGenerator;
+import game.interfaces.Player;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code ParallelSolverStrategy}.
+ *
+ * @see ParallelSolverStrategy
+ */
+public final class ParallelSolverStrategyTest {
+    private static final int MAX_EMPTY = 7;
+    private static final int THREADS = 4;
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private ForkJoinPool pool;
+    private OffHeapTranspositionTable table;
+    private ParallelSolverStrategy<QuartoPiece> solver;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpParallelSolverStrategy() {
+        pool = new ForkJoinPool(THREADS);
+        table = new OffHeapTranspositionTable(1 << 20);
+        solver = new ParallelSolverStrategy<>(null, table, pool, 5000);
+    }
+
+    /**
+     * Releases the threads and the memory of the transposition table after every unit test.
+     */
+    @AfterEach
+    void tearDownParallelSolverStrategy() {
+        pool.shutdownNow();
+        table.close();
+    }
+
+    /**
+     * Tests that the parallel solver finds the same scores as the sequential {@code SolverStrategy}
+     * for random endgame positions.
+     */
+    @Test
+    @Timeout(60)
+    void solve_whenEndgame_matchesSolverStrategy() {
+        SolverStrategy<QuartoPiece> sequential =
+                new SolverStrategy<>(null, new ArrayTranspositionTable(16), 5000);
+        for (QuartoState root : QuartoTablebaseGenerator.randomRoots(10, MAX_EMPTY, 11)) {
+            QuartoGame game = new QuartoGame(player1, player2, root);
+            assertEquals(sequential.solve(game), solver.solve(game));
+            assertTrue(solver.getNodeCount() > 0);
+        }
+    }
+
+    /**
+     * Tests that the chosen {@code Move} in a solved position achieves the score of the position.
+     */
+    @Test
+    @Timeout(60)
+    void determineMove_whenEndgame_achievesScore() {
+        for (QuartoState root : QuartoTablebaseGenerator.randomRoots(10, MAX_EMPTY, 13)) {
+            QuartoGame game = new QuartoGame(player1, player2, root);
+            int score = solver.solve(game);
+            QuartoMove move = solver.determineMove(game);
+            assertTrue(game.isValidMove(move.toPacked()));
+            game.doMove(move);
+            int childScore = solver.solve(game);
+            assertEquals(score, -childScore + Integer.signum(childScore));
+        }
+    }
+
+    /**
+     * Tests that a search which runs out of time still returns a valid {@code Move}.
+     */
+    @Test
+    @Timeout(5)
+    void determineMove_whenTimeRunsOut_returnsValidMove() {
+        solver = new ParallelSolverStrategy<>(null, table, pool, 100);
+        QuartoGame game = new QuartoGame(player1, player2);
+        for (int i = 0; i < 3; i++) {
+            QuartoMove move = solver.determineMove(game);
+            assertNotNull(move);
+            assertTrue(game.isValidMove(move.toPacked()));
+            game.doMove(move);
+        }
+    }
+
+    /**
+     * Tests that a search which is cancelled from another thread stops long before its time is up
+     * and still returns a valid {@code Move}.
+     */
+    @Test
+    @Timeout(5)
+    void determineMove_whenCancelled_returnsValidMove() throws InterruptedException {
+        solver = new ParallelSolverStrategy<>(null, table, pool, 60_000);
+        QuartoGame game = new QuartoGame(player1, player2);
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException _) {
+                return;
+            }
+            solver.cancel();
+        });
+        canceller.start();
+        QuartoMove move = solver.determineMove(game);
+        assertNotNull(move);
+        assertTrue(game.isValidMove(move.toPacked()));
+        canceller.join();
+    }
+
+    /**
+     * Tests that a solve which is cancelled from another thread throws rather than reporting a
+     * score that cannot be told apart from a draw.
+     */
+    @Test
+    @Timeout(5)
+    void solve_whenCancelled_throwsException() throws InterruptedException {
+        QuartoGame game = new QuartoGame(player1, player2);
+        Thread canceller = new Thread(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException _) {
+                return;
+            }
+            solver.cancel();
+        });
+        canceller.start();
+        assertThrows(CancellationException.class, () -> solver.solve(game));
+        canceller.join();
+    }
+
+    /**
+     * Tests that asking for a new {@code Move} after a {@code Game} has ended returns {@code null}.
+     */
+    @Test
+    void determineMove_whenQuartoGameOver_returnsNull() {
+        QuartoGame game = new QuartoGame(player1, player2);
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 0));
+        assertNull(solver.determineMove(game));
+    }
+}
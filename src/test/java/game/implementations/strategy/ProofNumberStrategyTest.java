@@ -0,0 +1,114 @@
+package game.implementations.strategy;
+
+import game.implementations.ArrayTranspositionTable;
+import game.implementations.GenericPlayer;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.quarto.QuartoState;
+import game.implementations.quarto.QuartoTablebaseGenerator;
+import game.interfaces.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code ProofNumberStrategy}.
+ *
+ * @see ProofNumberStrategy
+ */
+public final class ProofNumberStrategyTest {
+    private static final int MAX_EMPTY = 6;
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private SolverStrategy<QuartoPiece> solver;
+    private ProofNumberStrategy<QuartoPiece> prover;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpProofNumberStrategy() {
+        solver = new SolverStrategy<>(null, new ArrayTranspositionTable(16), 5000);
+        prover = new ProofNumberStrategy<>(new NullStrategy<QuartoPiece>(), 64L << 20, 10_000);
+    }
+
+    /**
+     * Tests that the proven {@code Outcome} of random endgame positions agrees with the exact
+     * score of the solver.
+     */
+    @Test
+    @Timeout(60)
+    void prove_whenEndgame_matchesSolverStrategy() {
+        for (QuartoState root : QuartoTablebaseGenerator.randomRoots(20, MAX_EMPTY, 17)) {
+            QuartoGame game = new QuartoGame(player1, player2, root);
+            int score = solver.solve(game);
+            ProofNumberStrategy.Outcome expected = score > 0 ? ProofNumberStrategy.Outcome.WIN :
+                    score < 0 ? ProofNumberStrategy.Outcome.LOSS : ProofNumberStrategy.Outcome.DRAW;
+            assertEquals(expected, prover.prove(game));
+        }
+    }
+
+    /**
+     * Tests that in a position with a forced win, the chosen {@code Move} keeps the win.
+     */
+    @Test
+    @Timeout(60)
+    void determineMove_whenForcedWin_keepsWin() {
+        int wins = 0;
+        for (QuartoState root : QuartoTablebaseGenerator.randomRoots(20, MAX_EMPTY, 19)) {
+            QuartoGame game = new QuartoGame(player1, player2, root);
+            if (solver.solve(game) <= 0) {
+                continue;
+            }
+            wins++;
+            QuartoMove move = prover.determineMove(game);
+            assertNotNull(move);
+            game.doMove(move);
+            assertTrue(game.isGameOver() && game.getWinner() != game.getActivePlayer() ||
+                               solver.solve(game) < 0);
+        }
+        assertTrue(wins > 0);
+    }
+
+    /**
+     * Tests that a position which does not fit in the memory cap is left unresolved, and that
+     * the {@code Move} is then left to the fallback {@code Strategy}.
+     */
+    @Test
+    void prove_whenMemoryCapReached_returnsUnknown() {
+        prover = new ProofNumberStrategy<>(new NullStrategy<QuartoPiece>(),
+                                           ProofNumberStrategy.NODE_BYTES * 1000L, 10_000);
+        QuartoGame game = new QuartoGame(player1, player2);
+        assertEquals(ProofNumberStrategy.Outcome.UNKNOWN, prover.prove(game));
+        assertTrue(prover.getNodeCount() <= 1000);
+        assertNull(prover.determineMove(game));
+    }
+
+    /**
+     * Tests that a memory cap too small for a single node is rejected.
+     */
+    @Test
+    void constructor_whenMemoryCapTooSmall_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new ProofNumberStrategy<>(new NullStrategy<QuartoPiece>(), 1, 1000));
+    }
+
+    /**
+     * Tests that the {@code Outcome} of a finished {@code Game} follows from its winner.
+     */
+    @Test
+    void prove_whenQuartoGameOver_followsWinner() {
+        QuartoGame game = new QuartoGame(player1, player2);
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 0));
+        Player<QuartoPiece> winner = game.getWinner();
+        ProofNumberStrategy.Outcome expected = winner == null ? ProofNumberStrategy.Outcome.DRAW :
+                winner == game.getActivePlayer() ? ProofNumberStrategy.Outcome.WIN :
+                        ProofNumberStrategy.Outcome.LOSS;
+        assertEquals(expected, prover.prove(game));
+    }
+}
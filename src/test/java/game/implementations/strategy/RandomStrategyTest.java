@@ -52,8 +52,8 @@ public final class RandomStrategyTest {
      */
     @Test
     void determineMove_whenQuartoGameOver_returnsNull() {
-        game.doMove(new QuartoMove(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
-        game.doMove(new QuartoMove(QuartoPiece.QUARTO, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 0));
 
         assertTrue(game.isGameOver());
         assertNull(RANDOM_STRATEGY.determineMove(game));
@@ -0,0 +1,191 @@
+package game.implementations.strategy;
+
+import game.implementations.ArrayTranspositionTable;
+import game.implementations.GenericPlayer;
+import game.implementations.OffHeapTranspositionTable;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.implementations.quarto.QuartoState;
+import game.implementations.quarto.QuartoTablebase;
+import game.implementations.quarto.QuartoTablebaseGenerator;
+import game.interfaces.Player;
+import game.interfaces.Strategy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code SolverStrategy}.
+ *
+ * @see SolverStrategy
+ */
+public final class SolverStrategyTest {
+    private static final int MAX_EMPTY = 6;
+    private static final RandomStrategy<QuartoPiece> RANDOM_STRATEGY = new RandomStrategy<>();
+    private final Player<QuartoPiece> player1 = new GenericPlayer<>("p1", RANDOM_STRATEGY);
+    private final Player<QuartoPiece> player2 = new GenericPlayer<>("p2", RANDOM_STRATEGY);
+    private SolverStrategy<QuartoPiece> solver;
+
+    @TempDir
+    Path directory;
+
+    /**
+     * Performs setup needed for the unit tests in this class.
+     */
+    @BeforeEach
+    void setUpSolverStrategy() {
+        solver = new SolverStrategy<>(null, new ArrayTranspositionTable(16), 5000);
+    }
+
+    /**
+     * Tests that the scores found by the solver match those of a tablebase, for the roots of the
+     * tablebase and every position directly after them. The scores of both count the turns to the
+     * end of the game, and differ only in the score of a win.
+     * @throws IOException Thrown if the tablebase cannot be written or read
+     */
+    @Test
+    @Timeout(60)
+    void solve_whenEndgame_matchesTablebase() throws IOException {
+        List<QuartoState> roots = QuartoTablebaseGenerator.randomRoots(10, MAX_EMPTY, 3);
+        Path path = directory.resolve("quarto.tb");
+        QuartoTablebaseGenerator.generate(roots, MAX_EMPTY, path, null);
+        QuartoTablebase tablebase = QuartoTablebase.open(path);
+        for (QuartoState root : roots) {
+            QuartoGame game = new QuartoGame(player1, player2, root);
+            assertEquals(toSolverScore(tablebase.probe(game)), solver.solve(game));
+            for (QuartoMove move : game.<QuartoMove>getValidMoves()) {
+                game.doMove(move);
+                assertEquals(toSolverScore(tablebase.probe(game)), solver.solve(game));
+                game.undoMove(move);
+            }
+        }
+    }
+
+    /**
+     * Tests that the chosen {@code Move} in a solved position achieves the score of the position.
+     */
+    @Test
+    @Timeout(60)
+    void determineMove_whenEndgame_achievesScore() {
+        for (QuartoState root : QuartoTablebaseGenerator.randomRoots(10, MAX_EMPTY, 5)) {
+            QuartoGame game = new QuartoGame(player1, player2, root);
+            int score = solver.solve(game);
+            QuartoMove move = solver.determineMove(game);
+            assertTrue(game.isValidMove(move.toPacked()));
+            game.doMove(move);
+            int childScore = solver.solve(game);
+            assertEquals(score, -childScore + Integer.signum(childScore));
+        }
+    }
+
+    /**
+     * Tests that the solver finds the same scores with an {@code OffHeapTranspositionTable} as
+     * with the default {@code ArrayTranspositionTable}.
+     */
+    @Test
+    @Timeout(60)
+    void solve_whenOffHeapTable_matchesArrayTable() {
+        try (OffHeapTranspositionTable table = new OffHeapTranspositionTable(1 << 20)) {
+            SolverStrategy<QuartoPiece> offHeap = new SolverStrategy<>(null, table, 5000);
+            for (QuartoState root : QuartoTablebaseGenerator.randomRoots(10, MAX_EMPTY, 7)) {
+                QuartoGame game = new QuartoGame(player1, player2, root);
+                assertEquals(solver.solve(game), offHeap.solve(game));
+            }
+            assertTrue(table.getHits() > 0);
+        }
+    }
+
+    /**
+     * Tests that a search which runs out of time still returns a valid {@code Move}.
+     */
+    @Test
+    @Timeout(5)
+    void determineMove_whenTimeRunsOut_returnsValidMove() {
+        solver = new SolverStrategy<>(null, new ArrayTranspositionTable(16), 100);
+        QuartoGame game = new QuartoGame(player1, player2);
+        for (int i = 0; i < 3; i++) {
+            QuartoMove move = solver.determineMove(game);
+            assertNotNull(move);
+            assertTrue(game.isValidMove(move.toPacked()));
+            game.doMove(move);
+        }
+    }
+
+    /**
+     * Tests that a search which is cancelled from another thread stops long before its time is up
+     * and still returns a valid {@code Move}.
+     * @throws InterruptedException Thrown if the test is interrupted while joining the canceller
+     */
+    @Test
+    @Timeout(5)
+    void determineMove_whenCancelled_returnsValidMove() throws InterruptedException {
+        solver = new SolverStrategy<>(null, new ArrayTranspositionTable(16), 60_000);
+        QuartoGame game = new QuartoGame(player1, player2);
+        Thread canceller = cancelLater(solver);
+        QuartoMove move = solver.determineMove(game);
+        assertNotNull(move);
+        assertTrue(game.isValidMove(move.toPacked()));
+        canceller.join();
+    }
+
+    /**
+     * Tests that a solve which is cancelled from another thread throws rather than reporting a
+     * score that cannot be told apart from a draw.
+     * @throws InterruptedException Thrown if the test is interrupted while joining the canceller
+     */
+    @Test
+    @Timeout(5)
+    void solve_whenCancelled_throwsException() throws InterruptedException {
+        QuartoGame game = new QuartoGame(player1, player2);
+        Thread canceller = cancelLater(solver);
+        assertThrows(CancellationException.class, () -> solver.solve(game));
+        canceller.join();
+    }
+
+    /**
+     * Tests that asking for a new {@code Move} after a {@code Game} has ended returns {@code null}.
+     */
+    @Test
+    void determineMove_whenQuartoGameOver_returnsNull() {
+        QuartoGame game = new QuartoGame(player1, player2);
+        game.doMove(QuartoMove.of(QuartoPiece.LIGHT_SMALL_ROUND_SOLID, 0));
+        game.doMove(QuartoMove.of(QuartoPiece.QUARTO, 0));
+        assertNull(solver.determineMove(game));
+    }
+
+    /**
+     * Converts a score of a {@code QuartoTablebase} into the score the solver gives.
+     * @param score The score of the {@code QuartoTablebase}
+     * @return The score of the solver
+     */
+    private static int toSolverScore(int score) {
+        assertNotEquals(QuartoTablebase.UNKNOWN, score);
+        return score == 0 ? 0 : score + Integer.signum(score) *
+                (SolverStrategy.WIN - QuartoTablebase.WIN);
+    }
+
+    /**
+     * Starts a thread that cancels the search of the provided {@code Strategy} after a short
+     * while.
+     * @param strategy The {@code Strategy} to cancel
+     * @return The started thread
+     */
+    private static Thread cancelLater(Strategy<QuartoPiece> strategy) {
+        return Thread.ofPlatform().start(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException _) {
+                return;
+            }
+            strategy.cancel();
+        });
+    }
+}
@@ -0,0 +1,153 @@
+package game.implementations.strategy;
+
+import game.implementations.GenericPlayer;
+import game.implementations.connectfour.ConnectFourGame;
+import game.implementations.connectfour.ConnectFourMove;
+import game.implementations.connectfour.ConnectFourPiece;
+import game.implementations.quarto.QuartoCanonicalizer;
+import game.implementations.quarto.QuartoGame;
+import game.implementations.quarto.QuartoMove;
+import game.implementations.quarto.QuartoPiece;
+import game.interfaces.Game;
+import game.interfaces.Player;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class which tests correct functionality of {@code TranspositionMCTSStrategy}.
+ *
+ * @see TranspositionMCTSStrategy
+ */
+public final class TranspositionMCTSStrategyTest {
+    private static final int THREADS = 4;
+    private static final long TIMEOUT = 300;
+    private final Player<ConnectFourPiece> player1 =
+            new GenericPlayer<>("p1", new NullStrategy<ConnectFourPiece>());
+    private final Player<ConnectFourPiece> player2 =
+            new GenericPlayer<>("p2", new NullStrategy<ConnectFourPiece>());
+
+    /**
+     * Tests that a search on less than one thread is rejected.
+     */
+    @Test
+    void constructor_whenNoThreads_throwsException() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new TranspositionMCTSStrategy<ConnectFourPiece>(null, 0, TIMEOUT,
+                                                                           Game::getZobristKey));
+    }
+
+    /**
+     * Tests that searches on one and on multiple threads both take an immediate win in
+     * Connect Four.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenWinAvailable_takesWin() {
+        for (int threads : new int[] {1, THREADS}) {
+            ConnectFourGame game = new ConnectFourGame(player1, player2);
+            play(game, 3, 0, 3, 0, 3, 0);
+            TranspositionMCTSStrategy<ConnectFourPiece> strategy =
+                    new TranspositionMCTSStrategy<>(null, threads, TIMEOUT, Game::getZobristKey);
+            ConnectFourMove move = strategy.determineMove(game);
+            assertEquals(3, move.getIndex());
+        }
+    }
+
+    /**
+     * Tests that symmetry-folded keys fold all 256 {@code Move}s of the first Quarto turn, which
+     * lead to equivalent positions, onto a single {@code Node}, and that the search still returns
+     * a valid {@code Move}.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenSymmetryFolded_foldsEquivalentPositions() {
+        Player<QuartoPiece> quarto1 = new GenericPlayer<>("p1", new NullStrategy<QuartoPiece>());
+        Player<QuartoPiece> quarto2 = new GenericPlayer<>("p2", new NullStrategy<QuartoPiece>());
+        QuartoGame game = new QuartoGame(quarto1, quarto2);
+        TranspositionMCTSStrategy<QuartoPiece> strategy = new TranspositionMCTSStrategy<>(
+                null, THREADS, TIMEOUT, QuartoCanonicalizer::canonicalHash);
+        QuartoMove move = strategy.determineMove(game);
+        assertTrue(game.isValidMove(move.toPacked()));
+        assertTrue(strategy.getPlayoutCount() > game.getValidMoveCount());
+        assertTrue(strategy.getNodeCount() < strategy.getPlayoutCount() - 200);
+    }
+
+    /**
+     * Tests that the two orders of {@code Move}s 2, 4, 3 and 3, 4, 2 in Connect Four lead to a
+     * single shared {@code Node}, whose visits add up over the edges from both of its parents.
+     */
+    @Test
+    @Timeout(10)
+    void search_whenPathsTranspose_sharesNode() {
+        TranspositionMCTSStrategy<ConnectFourPiece> strategy =
+                new TranspositionMCTSStrategy<>(null, 1, 1000, Game::getZobristKey);
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        Map<Long, TranspositionMCTSStrategy.Node> graph = strategy.search(game);
+
+        ConnectFourGame first = new ConnectFourGame(player1, player2);
+        play(first, 2, 4);
+        ConnectFourGame second = new ConnectFourGame(player1, player2);
+        play(second, 3, 4);
+        int fromFirst = strategy.getEdgeVisitCount(graph, first, toPacked(first, 3));
+        int fromSecond = strategy.getEdgeVisitCount(graph, second, toPacked(second, 2));
+        play(first, 3);
+        play(second, 2);
+        assertEquals(first.getZobristKey(), second.getZobristKey());
+        assertTrue(fromFirst > 0);
+        assertTrue(fromSecond > 0);
+        assertEquals(fromFirst + fromSecond, strategy.getVisitCount(graph, first));
+    }
+
+    /**
+     * Tests that an interrupted search stops all of its threads and returns a valid {@code Move}
+     * right away, leaving the calling thread interrupted.
+     */
+    @Test
+    @Timeout(10)
+    void determineMove_whenInterrupted_stopsAllThreads() {
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        TranspositionMCTSStrategy<ConnectFourPiece> strategy =
+                new TranspositionMCTSStrategy<>(null, THREADS, 60_000, Game::getZobristKey);
+        int threadCount = Thread.activeCount();
+        Thread.currentThread().interrupt();
+        ConnectFourMove move = strategy.determineMove(game);
+        assertTrue(Thread.interrupted());
+        assertTrue(game.isValidMove(move.toPacked()));
+        assertEquals(threadCount, Thread.activeCount());
+    }
+
+    /**
+     * Tests that a search returns {@code null} once the game is over.
+     */
+    @Test
+    void determineMove_whenGameOver_returnsNull() {
+        ConnectFourGame game = new ConnectFourGame(player1, player2);
+        play(game, 3, 0, 3, 0, 3, 0, 3);
+        assertNull(new TranspositionMCTSStrategy<ConnectFourPiece>().determineMove(game));
+    }
+
+    /**
+     * Returns the packed {@code Move} which drops a disc of the active colour into the provided
+     * column.
+     * @param game The {@code ConnectFourGame} to play on
+     * @param column The column to drop the disc into
+     * @return The packed {@code Move}
+     */
+    private static int toPacked(ConnectFourGame game, int column) {
+        return ConnectFourMove.of(game.getActivePiece(), column).toPacked();
+    }
+
+    /**
+     * Drops a disc of the active colour into each of the provided columns in turn.
+     * @param game The {@code ConnectFourGame} to play on
+     * @param columns The columns to drop the discs into
+     */
+    private static void play(ConnectFourGame game, int... columns) {
+        for (int column : columns) {
+            game.doMove(ConnectFourMove.of(game.getActivePiece(), column));
+        }
+    }
+}